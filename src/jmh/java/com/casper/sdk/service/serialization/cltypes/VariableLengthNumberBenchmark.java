@@ -0,0 +1,68 @@
+package com.casper.sdk.service.serialization.cltypes;
+
+import com.casper.sdk.service.serialization.util.ByteSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time taken to write U512 motes amounts by the long paths against the BigInteger conversion, the bytes
+ * written by both are asserted equal by U512SerializerTest. Run with the benchmark profile:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=VariableLengthNumberBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableLengthNumberBenchmark {
+
+    private static final int AMOUNTS = 1024;
+
+    private final U512Serializer serializer = new U512Serializer();
+    private final BigInteger[] amounts = new BigInteger[AMOUNTS];
+
+    @Setup
+    public void setUp() {
+        // Amounts of up to a billion CSPR in motes
+        final Random random = new Random(512);
+        for (int i = 0; i < AMOUNTS; i++) {
+            amounts[i] = new BigInteger(1 + random.nextInt(60), random);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public ByteSink fastPath() {
+        final ByteSink sink = new ByteSink(AMOUNTS * 66);
+        for (final BigInteger amount : amounts) {
+            serializer.write(amount, sink);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public ByteSink bigIntegerPath() {
+        final ByteSink sink = new ByteSink(AMOUNTS * 66);
+        for (final BigInteger amount : amounts) {
+            serializer.writeBigInteger(amount, sink);
+        }
+        return sink;
+    }
+}
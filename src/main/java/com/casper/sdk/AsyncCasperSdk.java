@@ -0,0 +1,239 @@
+package com.casper.sdk;
+
+import com.casper.sdk.service.http.rpc.AsyncNodeClient;
+import com.casper.sdk.types.*;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking view of the {@link CasperSdk}, obtained via {@link CasperSdk#async()}. All node calls return futures
+ * that complete once the node has responded, no thread is held while a call is in flight.
+ */
+public class AsyncCasperSdk {
+
+    private final CasperSdk casperSdk;
+    private final AsyncNodeClient nodeClient;
+
+    AsyncCasperSdk(final CasperSdk casperSdk, final AsyncNodeClient nodeClient) {
+        this.casperSdk = casperSdk;
+        this.nodeClient = nodeClient;
+    }
+
+    /**
+     * Obtains the account info JSON
+     *
+     * @param accountKey An account holder's public key
+     * @return a future of the account information in JSON format.
+     */
+    public CompletableFuture<String> getAccountInfo(final PublicKey accountKey) {
+        return nodeClient.getAccountInfo(toAccountHex(accountKey));
+    }
+
+    /**
+     * Obtains the contract has from the account info
+     *
+     * @param accountKey an account holder's public key
+     * @return a future of the ERC20 named key encapsulated in a ContractHash
+     */
+    public CompletableFuture<ContractHash> getContractHash(final PublicKey accountKey) {
+        return getAccountInfo(accountKey).thenApply(casperSdk::toContractHash);
+    }
+
+    /**
+     * Obtains the account balance at the current global state root hash.
+     *
+     * @param accountKey they of the account
+     * @return a future of the account balance if on-chain account is found.
+     */
+    public CompletableFuture<BigInteger> getAccountBalance(final PublicKey accountKey) {
+        return nodeClient.getAccountBalance(toAccountHex(accountKey));
+    }
+
+    /**
+     * Obtains an on-chain account's main purse unforgeable reference.
+     *
+     * @param accountKey key of an on-chain account.
+     * @return a future of an on-chain account's main purse unforgeable reference.
+     */
+    public CompletableFuture<URef> getAccountMainPurseURef(final PublicKey accountKey) {
+        return nodeClient.getAccountMainPurseURef(toAccountHex(accountKey));
+    }
+
+    /**
+     * Returns a root hash of global state
+     *
+     * @return a future of the root hash of global state
+     */
+    public CompletableFuture<String> getStateRootHash() {
+        return nodeClient.getStateRootHash();
+    }
+
+    /**
+     * @return a future of the action info string
+     */
+    public CompletableFuture<String> getAuctionInfo() {
+        return nodeClient.getAuctionInfo();
+    }
+
+    /**
+     * @return a future of the node status information
+     */
+    public CompletableFuture<String> getNodeStatus() {
+        return nodeClient.getNodeStatus();
+    }
+
+    /**
+     * @return a future of the node peers information
+     */
+    public CompletableFuture<String> getNodePeers() {
+        return nodeClient.getNodePeers();
+    }
+
+    /**
+     * Obtains deploy from the network
+     *
+     * @param deployHash the hash of the deploy object to obtain
+     * @return a future of the deploy
+     */
+    public CompletableFuture<Deploy> getDeploy(final Digest deployHash) {
+        return nodeClient.getDeploy(deployHash);
+    }
+
+    /**
+     * Send deploy to network
+     *
+     * @param signedDeploy Signed deploy object
+     * @return a future of the deploy hash
+     */
+    public CompletableFuture<Digest> putDeploy(final Deploy signedDeploy) {
+        return nodeClient.putDeploy(signedDeploy).thenApply(Digest::new);
+    }
+
+    /**
+     * Obtains the latest block info from a mode
+     *
+     * @return a future of the block info JSON
+     */
+    public CompletableFuture<String> getLatestBlockInfo() {
+        return nodeClient.getLatestBlockInfo();
+    }
+
+    /**
+     * Obtains a block info by the block's hash
+     *
+     * @param hash the has of the block info to obtain
+     * @return a future of the block info JSON
+     */
+    public CompletableFuture<String> getBlockInfo(final Digest hash) {
+        return nodeClient.getBlockInfo(hash);
+    }
+
+    /**
+     * Obtains a block info by the block's height
+     *
+     * @param height the has of the block info to obtain
+     * @return a future of the block info JSON
+     */
+    public CompletableFuture<String> getBlockInfoByHeight(final Number height) {
+        return nodeClient.getBlockInfoByHeight(height);
+    }
+
+    /**
+     * Returns on-chain block transfers information as JSON
+     *
+     * @return a future of the block transfers information as JSON
+     */
+    public CompletableFuture<String> getBlockTransfers() {
+        return nodeClient.getBlockTransfers();
+    }
+
+    /**
+     * Obtains the chain ero info by switch block as JSON
+     *
+     * @return a future of the JSON result
+     */
+    public CompletableFuture<String> getEraInfoBySwitchBlock() {
+        return nodeClient.getEraInfoBySwitchBlock();
+    }
+
+    /**
+     * Obtains the latest block, the block's body is decoded on first use
+     *
+     * @return a future of the latest block
+     */
+    public CompletableFuture<Block> getBlock() {
+        return nodeClient.getBlock();
+    }
+
+    /**
+     * Obtains a block by the block's hash, the block's body is decoded on first use
+     *
+     * @param hash the hash of the block to obtain
+     * @return a future of the block
+     */
+    public CompletableFuture<Block> getBlock(final Digest hash) {
+        return nodeClient.getBlock(hash);
+    }
+
+    /**
+     * Obtains a block by the block's height, the block's body is decoded on first use
+     *
+     * @param height the height of the block to obtain
+     * @return a future of the block
+     */
+    public CompletableFuture<Block> getBlockByHeight(final Number height) {
+        return nodeClient.getBlockByHeight(height);
+    }
+
+    /**
+     * Obtains the transfers executed in the latest block
+     *
+     * @return a future of the transfer records
+     */
+    public CompletableFuture<List<TransferRecord>> getTransferRecords() {
+        return nodeClient.getTransferRecords();
+    }
+
+    /**
+     * Obtains the era summary of the latest switch block
+     *
+     * @return a future of the era summary
+     */
+    public CompletableFuture<EraSummary> getEraSummary() {
+        return nodeClient.getEraSummary();
+    }
+
+    /**
+     * Obtains the status of the node
+     *
+     * @return a future of the node status
+     */
+    public CompletableFuture<NodeStatus> getNodeStatusInfo() {
+        return nodeClient.getNodeStatusInfo();
+    }
+
+    /**
+     * Obtains the bids of the validators in the current auction
+     *
+     * @return a future of the validators' bids
+     */
+    public CompletableFuture<List<ValidatorBid>> getValidatorBids() {
+        return nodeClient.getValidatorBids();
+    }
+
+    /**
+     * Obtain the RPC Schema as a JSON string
+     *
+     * @return a future of the RPC schema
+     */
+    public CompletableFuture<String> getRpcSchema() {
+        return nodeClient.getRpcSchema();
+    }
+
+    private String toAccountHex(final PublicKey accountKey) {
+        return casperSdk.toCLPublicKey(accountKey).toAccountHex();
+    }
+}
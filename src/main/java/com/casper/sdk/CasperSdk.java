@@ -4,8 +4,16 @@ import com.casper.sdk.exceptions.CasperException;
 import com.casper.sdk.exceptions.ConversionException;
 import com.casper.sdk.exceptions.ValueNotFoundException;
 import com.casper.sdk.service.hash.HashService;
+import com.casper.sdk.service.http.rpc.AsyncNodeClient;
+import com.casper.sdk.service.http.rpc.DeploySubmitterBuilder;
+import com.casper.sdk.service.http.rpc.DeployTrackerBuilder;
 import com.casper.sdk.service.http.rpc.HttpMethods;
 import com.casper.sdk.service.http.rpc.NodeClient;
+import com.casper.sdk.service.http.rpc.NodeClientConfig;
+import com.casper.sdk.service.http.rpc.NodeClientConfigBuilder;
+import com.casper.sdk.service.http.rpc.NodePool;
+import com.casper.sdk.service.http.rpc.StateQueryCache;
+import com.casper.sdk.service.http.rpc.StateSnapshot;
 import com.casper.sdk.service.json.JsonConversionService;
 import com.casper.sdk.service.metrics.MetricsService;
 import com.casper.sdk.service.serialization.cltypes.CLValueBuilder;
@@ -22,8 +30,11 @@ import java.math.BigInteger;
 import java.security.Key;
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.casper.sdk.Constants.*;
 
@@ -42,14 +53,57 @@ public class CasperSdk {
             signingService,
             new TypesFactory()
     );
+    private final HttpMethods httpMethods;
     private final NodeClient nodeClient;
     private final MetricsService metricsService;
+    private final AsyncCasperSdk asyncCasperSdk;
 
     public CasperSdk(final String url, final int port) {
+        this(NodePool.of(url, port));
+    }
+
+    /**
+     * Creates an SDK that spreads its node calls across a pool of nodes
+     *
+     * @param nodePool the nodes to call, see {@link com.casper.sdk.service.http.rpc.NodePoolBuilder}
+     */
+    public CasperSdk(final NodePool nodePool) {
+        this(nodePool, new NodeClientConfigBuilder().build());
+    }
+
+    /**
+     * Creates an SDK that spreads its node calls across a pool of nodes with the provided client configuration, SDK
+     * instances created with the same configuration share its connection pool
+     *
+     * @param nodePool the nodes to call, see {@link com.casper.sdk.service.http.rpc.NodePoolBuilder}
+     * @param config   the client and policies to call the nodes with, see {@link NodeClientConfigBuilder}
+     */
+    public CasperSdk(final NodePool nodePool, final NodeClientConfig config) {
 
-        final HttpMethods httpMethods = new HttpMethods(jsonConversionService, url, port);
-        this.nodeClient = new NodeClient(deployService, hashService, httpMethods);
+        this.httpMethods = new HttpMethods(jsonConversionService, nodePool, config);
+        this.nodeClient = new NodeClient(deployService, hashService, httpMethods, config.getStateQueryCache());
         metricsService = new MetricsService(httpMethods);
+        this.asyncCasperSdk = async(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Obtains the non-blocking view of this SDK whose node calls return futures, the responses are mapped on the
+     * common fork join pool.
+     *
+     * @return the non-blocking SDK
+     */
+    public AsyncCasperSdk async() {
+        return asyncCasperSdk;
+    }
+
+    /**
+     * Creates a non-blocking view of this SDK whose node calls return futures
+     *
+     * @param executor the executor to map the node responses on
+     * @return the non-blocking SDK
+     */
+    public AsyncCasperSdk async(final Executor executor) {
+        return new AsyncCasperSdk(this, new AsyncNodeClient(deployService, hashService, httpMethods, executor));
     }
 
     /**
@@ -69,8 +123,16 @@ public class CasperSdk {
      * @return ERC20 named key encapsulated in a ContractHash
      */
     public ContractHash getContractHash(final PublicKey accountKey) {
+        return toContractHash(getAccountInfo(accountKey));
+    }
 
-        final String accountInfo = getAccountInfo(accountKey);
+    /**
+     * Obtains the ERC20 contract hash from the named keys of the account info JSON
+     *
+     * @param accountInfo the account info JSON
+     * @return ERC20 named key encapsulated in a ContractHash
+     */
+    ContractHash toContractHash(final String accountInfo) {
         //noinspection rawtypes
         final Map map;
         try {
@@ -118,6 +180,34 @@ public class CasperSdk {
         return nodeClient.getStateRootHash();
     }
 
+    /**
+     * Obtains the current state root hash and creates a query session pinned to it, so that any number of account and
+     * balance queries read the same global state without obtaining the state root hash again.
+     *
+     * @return a snapshot of the current global state
+     */
+    public StateSnapshot getStateSnapshot() {
+        return nodeClient.getStateSnapshot();
+    }
+
+    /**
+     * Creates a builder of a pipeline that puts deploys to the node from a bounded queue over concurrent connections
+     *
+     * @return the builder of the pipeline
+     */
+    public DeploySubmitterBuilder deploySubmitter() {
+        return new DeploySubmitterBuilder(nodeClient);
+    }
+
+    /**
+     * Creates a builder of a tracker that waits for the execution of deploys put to the node
+     *
+     * @return the builder of the tracker
+     */
+    public DeployTrackerBuilder deployTracker() {
+        return new DeployTrackerBuilder(nodeClient);
+    }
+
     /**
      * Obtains the account public key  hashed using BLAKE2_B_256 as a hex encode string
      *
@@ -358,6 +448,16 @@ public class CasperSdk {
         return jsonConversionService.toJson(deploy);
     }
 
+    /**
+     * Obtains the cache of global state query responses whose hit, miss and eviction counts show how many node calls
+     * the cache saved
+     *
+     * @return the cache set with {@link NodeClientConfigBuilder#stateQueryCache} or null if responses are not cached
+     */
+    public StateQueryCache getStateQueryCache() {
+        return nodeClient.getStateQueryCache();
+    }
+
     /**
      * Obtains the node metrics as JSON
      *
@@ -435,6 +535,71 @@ public class CasperSdk {
         return nodeClient.getEraInfoBySwitchBlock();
     }
 
+    /**
+     * Obtains the latest block, the block's body is decoded on first use
+     *
+     * @return the latest block
+     */
+    public Block getBlock() {
+        return nodeClient.getBlock();
+    }
+
+    /**
+     * Obtains a block by the block's hash, the block's body is decoded on first use
+     *
+     * @param hash the hash of the block to obtain
+     * @return the block
+     */
+    public Block getBlock(final Digest hash) {
+        return nodeClient.getBlock(hash);
+    }
+
+    /**
+     * Obtains a block by the block's height, the block's body is decoded on first use
+     *
+     * @param height the height of the block to obtain
+     * @return the block
+     */
+    public Block getBlockByHeight(final Number height) {
+        return nodeClient.getBlockByHeight(height);
+    }
+
+    /**
+     * Obtains the transfers executed in the latest block
+     *
+     * @return the transfer records
+     */
+    public List<TransferRecord> getTransferRecords() {
+        return nodeClient.getTransferRecords();
+    }
+
+    /**
+     * Obtains the era summary of the latest switch block
+     *
+     * @return the era summary
+     */
+    public EraSummary getEraSummary() {
+        return nodeClient.getEraSummary();
+    }
+
+    /**
+     * Obtains the status of the node
+     *
+     * @return the node status
+     */
+    public NodeStatus getNodeStatusInfo() {
+        return nodeClient.getNodeStatusInfo();
+    }
+
+    /**
+     * Obtains the bids of the validators in the current auction
+     *
+     * @return the validators' bids
+     */
+    public List<ValidatorBid> getValidatorBids() {
+        return nodeClient.getValidatorBids();
+    }
+
     /**
      * Obtain the RPC Schema as a JSON string
      *
@@ -2,10 +2,13 @@ package com.casper.sdk;
 
 public class Constants {
 
+    public static final String ACCOUNT = "Account";
     public static final String ACCOUNT_PUT_DEPLOY = "account_put_deploy";
     public static final String AMOUNT = "amount";
     public static final String ARGS = "args";
+    public static final String AUCTION_STATE = "auction_state";
     public static final String BALANCE_VALUE = "balance_value";
+    public static final String BIDS = "bids";
     public static final String BLOCK = "block";
     public static final String BLOCK_IDENTIFIER = "block_identifier";
     public static final String CHAIN_GET_BLOCK = "chain_get_block";
@@ -20,6 +23,7 @@ public class Constants {
     public static final String DELEGATOR = "delegator";
     public static final String EMPTY_STRING = "";
     public static final String ENTRY_POINT = "entry_point";
+    public static final String ERA_SUMMARY = "era_summary";
     public static final String ERC_20 = "ERC20";
     public static final String HASH = "hash";
     public static final String HEIGHT = "Height";
@@ -29,6 +33,7 @@ public class Constants {
     public static final String KEY = "key";
     /** Maximum value of a transfer ID. */
     public static final int MAX_TRANSFER_ID = (int) Math.pow(2, 63) - 1;
+    public static final String MAIN_PURSE = "main_purse";
     public static final String MODULE_BYTES = "module_bytes";
     public static final String NAMED_KEYS = "named_keys";
     public static final String PATH = "path";
@@ -51,7 +56,9 @@ public class Constants {
     public static final int STANDARD_PAYMENT_FOR_AUCTION_BID = (int) 3e9;
     /** Default number of motes to pay for standard auction bid withdrawal. */
     public static final int STANDARD_PAYMENT_FOR_AUCTION_BID_WITHDRAWAL = (int) 3e9;
+    public static final String STORED_VALUE = "stored_value";
     public static final String TRANSFER = "transfer";
+    public static final String TRANSFERS = "transfers";
     public static final String TOKEN_DECIMALS = "token_decimals";
     public static final String TOKEN_NAME = "token_name";
     public static final String TOKEN_SYMBOL = "token_symbol";
@@ -0,0 +1,31 @@
+package com.casper.sdk.exceptions;
+
+import com.casper.sdk.types.Digest;
+
+/**
+ * Custom exception to complete a deploy that was not put as a deploy it depends on failed or was not executed
+ */
+public class DeployDependencyException extends RuntimeException {
+
+    private final Digest deployHash;
+    private final Digest dependencyHash;
+
+    public DeployDependencyException(final Digest deployHash, final Digest dependencyHash, final Throwable cause) {
+        super("Dependency " + dependencyHash + " of deploy " + deployHash + " was not executed", cause);
+        this.deployHash = deployHash;
+        this.dependencyHash = dependencyHash;
+    }
+
+    public Digest getDeployHash() {
+        return deployHash;
+    }
+
+    public Digest getDependencyHash() {
+        return dependencyHash;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
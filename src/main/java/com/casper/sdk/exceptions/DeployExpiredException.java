@@ -0,0 +1,25 @@
+package com.casper.sdk.exceptions;
+
+import com.casper.sdk.types.Digest;
+
+/**
+ * Custom exception to complete the wait for a deploy that expired before it was executed
+ */
+public class DeployExpiredException extends RuntimeException {
+
+    private final Digest deployHash;
+
+    public DeployExpiredException(final Digest deployHash) {
+        super("Deploy expired before execution: " + deployHash);
+        this.deployHash = deployHash;
+    }
+
+    public Digest getDeployHash() {
+        return deployHash;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -9,6 +9,10 @@ public class HttpException extends RuntimeException {
         super(message);
     }
 
+    public HttpException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
     @Override
     public synchronized Throwable fillInStackTrace() {
         return this;
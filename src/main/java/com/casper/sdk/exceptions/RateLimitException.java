@@ -0,0 +1,11 @@
+package com.casper.sdk.exceptions;
+
+/**
+ * Custom exception for a call that was not sent to a node as it exceeded the client's rate or concurrency limit
+ */
+public class RateLimitException extends HttpException {
+
+    public RateLimitException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.casper.sdk.service.http.event;
+
+/**
+ * Receives the events of a type from an {@link EventStream}
+ *
+ * @param <T> the type of the event
+ */
+@FunctionalInterface
+public interface EventListener<T> {
+
+    /**
+     * Called on the stream's dispatch thread for each event in the order the node sent them, the stream stops reading
+     * from the node while listeners are behind
+     *
+     * @param event the event
+     */
+    void onEvent(T event);
+}
@@ -0,0 +1,398 @@
+package com.casper.sdk.service.http.event;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.exceptions.HttpException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Client of a node's Server-Sent Events stream. A connection is made to each of the node's event channels that a
+ * listener has been added for, events are read by a thread per channel and delivered to the listeners by a single
+ * dispatch thread. The readers block once the bounded queue of undelivered events is full, so a slow listener stops
+ * the reading of the connection and TCP flow control pushes back on the node rather than events being buffered
+ * without limit. A dropped connection is reopened after a delay that doubles on each failed attempt, asking the node
+ * to replay the events sent since the last event read. As the node sends keep-alive comments between events a
+ * connection that sends nothing for longer than the read timeout is treated as dropped, so a connection silently lost
+ * by a NAT or load balancer is reopened rather than waited on forever.
+ */
+public class EventStream implements Closeable {
+
+    private static final String EVENTS_PATH = "events/";
+    /** The query parameter a node replays its events from */
+    private static final String START_FROM = "start_from";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final String ACCEPT = "Accept";
+    private static final String EVENT_STREAM = "text/event-stream";
+    private static final String DATA_FIELD = "data";
+    private static final String ID_FIELD = "id";
+
+    private final String url;
+    private final int port;
+    private final OkHttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    /** The listeners by the name of the event they listen to */
+    private final Map<String, Listeners<?>> listeners;
+    private final Consumer<Throwable> errorListener;
+    private final long minReconnectDelayNanos;
+    private final long maxReconnectDelayNanos;
+    private final BlockingQueue<RawEvent> queue;
+    private final List<Channel> channels = new ArrayList<>();
+    private final Thread dispatcher;
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong reconnectCount = new AtomicLong();
+    private volatile boolean closed;
+
+    EventStream(final String url,
+                final int port,
+                final OkHttpClient httpClient,
+                final Map<EventType<?>, List<EventListener<?>>> listeners,
+                final Map<String, Long> startFrom,
+                final Consumer<Throwable> errorListener,
+                final int queueCapacity,
+                final long minReconnectDelayNanos,
+                final long maxReconnectDelayNanos,
+                final long readTimeoutNanos) {
+        this.url = url;
+        this.port = port;
+        this.httpClient = httpClient.newBuilder().readTimeout(readTimeoutNanos, TimeUnit.NANOSECONDS).build();
+        this.errorListener = errorListener;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.minReconnectDelayNanos = minReconnectDelayNanos;
+        this.maxReconnectDelayNanos = maxReconnectDelayNanos;
+        this.listeners = new LinkedHashMap<>();
+
+        for (final Map.Entry<EventType<?>, List<EventListener<?>>> entry : listeners.entrySet()) {
+            this.listeners.put(entry.getKey().getName(), new Listeners<>(entry.getKey(), new ArrayList<>(entry.getValue())));
+            final String channelName = entry.getKey().getChannel();
+            if (channels.stream().noneMatch(channel -> channel.name.equals(channelName))) {
+                channels.add(new Channel(channelName, startFrom.get(channelName)));
+            }
+        }
+
+        this.dispatcher = new Thread(this::dispatch, "casper-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    /**
+     * Connects to the node's event channels
+     *
+     * @return this stream
+     */
+    public EventStream start() {
+        if (closed) {
+            throw new IllegalStateException("Event stream is closed");
+        }
+        dispatcher.start();
+        channels.forEach(channel -> channel.thread.start());
+        return this;
+    }
+
+    /**
+     * Disconnects from the node, events not yet delivered are discarded
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final Channel channel : channels) {
+            final Call call = channel.call;
+            if (call != null) {
+                call.cancel();
+            }
+            channel.thread.interrupt();
+        }
+        dispatcher.interrupt();
+        queue.clear();
+    }
+
+    /**
+     * @return the names of the node's event channels this stream reads
+     */
+    public List<String> getChannels() {
+        final List<String> names = new ArrayList<>();
+        channels.forEach(channel -> names.add(channel.name));
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @param channel the name of the node's event channel
+     * @return the id of the last event read from the channel, null if none has been read
+     */
+    public Long getLastEventId(final String channel) {
+        return channels.stream()
+                .filter(c -> c.name.equals(channel))
+                .findFirst()
+                .map(c -> c.lastEventId)
+                .orElse(null);
+    }
+
+    /**
+     * @return the number of events decoded and delivered to listeners
+     */
+    public long getEventCount() {
+        return eventCount.get();
+    }
+
+    /**
+     * @return the number of times a connection to the node was reopened
+     */
+    public long getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    /**
+     * @return the number of events read from the node that are waiting to be delivered
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void dispatch() {
+        try {
+            while (!closed) {
+                final RawEvent event = queue.take();
+                final Listeners<?> eventListeners = listeners.get(event.name);
+                final Object decoded;
+                try {
+                    decoded = decode(event, eventListeners.eventType);
+                } catch (ConversionException e) {
+                    errorListener.accept(e);
+                    continue;
+                }
+                eventCount.incrementAndGet();
+                eventListeners.deliver(decoded, errorListener);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T decode(final RawEvent event, final EventType<T> eventType) {
+        try (final JsonParser parser = mapper.createParser(event.data)) {
+            // Positioned at the value of the event's single field
+            parser.nextToken();
+            parser.nextToken();
+            parser.nextToken();
+            return mapper.readValue(parser, eventType.getType());
+        } catch (IOException e) {
+            throw new ConversionException("Unable to decode " + eventType + " event " + event.id, e);
+        }
+    }
+
+    /**
+     * Obtains the name of an event from its JSON without parsing the rest of it
+     *
+     * @param data the JSON of the event
+     * @return the name of the event, null if the JSON is not an object
+     * @throws IOException if the JSON is invalid
+     */
+    private String readName(final String data) throws IOException {
+        try (final JsonParser parser = mapper.createParser(data)) {
+            return parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME
+                    ? parser.getCurrentName()
+                    : null;
+        }
+    }
+
+    /**
+     * The connection to one of the node's event channels and the thread that reads it
+     */
+    private class Channel implements Runnable {
+
+        private final String name;
+        private final Thread thread;
+        private volatile Long lastEventId;
+        private volatile Call call;
+
+        private Channel(final String name, final Long startFrom) {
+            this.name = name;
+            this.lastEventId = startFrom != null ? startFrom - 1 : null;
+            this.thread = new Thread(this, "casper-event-stream-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+
+            long delayNanos = minReconnectDelayNanos;
+
+            while (!closed) {
+                boolean received = false;
+                try {
+                    received = read();
+                } catch (IOException | RuntimeException e) {
+                    if (!closed) {
+                        errorListener.accept(e);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (closed) {
+                    return;
+                }
+
+                delayNanos = received ? minReconnectDelayNanos : Math.min(delayNanos * 2, maxReconnectDelayNanos);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectCount.incrementAndGet();
+            }
+        }
+
+        /**
+         * Reads events from the channel until the connection ends
+         *
+         * @return true if an event was read
+         */
+        private boolean read() throws IOException, InterruptedException {
+
+            final Call call = httpClient.newCall(buildRequest());
+            this.call = call;
+            if (closed) {
+                call.cancel();
+            }
+
+            try (final Response response = call.execute()) {
+                final ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    throw new HttpException("Unable to open event stream " + response.request().url() + " " + response.code());
+                }
+
+                boolean received = false;
+                final BufferedSource source = body.source();
+                final StringBuilder data = new StringBuilder();
+                Long id = null;
+                String line;
+
+                while ((line = source.readUtf8Line()) != null) {
+                    if (line.isEmpty()) {
+                        // A blank line ends an event
+                        if (data.length() > 0) {
+                            received |= onEvent(id, data.toString());
+                        }
+                        data.setLength(0);
+                        id = null;
+                    } else if (line.charAt(0) != ':') {
+                        final int colon = line.indexOf(':');
+                        final String field = colon < 0 ? line : line.substring(0, colon);
+                        String value = colon < 0 ? "" : line.substring(colon + 1);
+                        if (value.startsWith(" ")) {
+                            value = value.substring(1);
+                        }
+
+                        if (DATA_FIELD.equals(field)) {
+                            if (data.length() > 0) {
+                                data.append('\n');
+                            }
+                            data.append(value);
+                        } else if (ID_FIELD.equals(field) && !value.isEmpty()) {
+                            id = Long.parseLong(value);
+                        }
+                    }
+                }
+                return received;
+            }
+        }
+
+        private Request buildRequest() {
+            final StringBuilder channelUrl = new StringBuilder(url).append(':').append(port).append('/').append(EVENTS_PATH).append(name);
+            final Request.Builder builder = new Request.Builder().header(ACCEPT, EVENT_STREAM);
+            final Long lastId = lastEventId;
+            if (lastId != null) {
+                channelUrl.append('?').append(START_FROM).append('=').append(lastId + 1);
+                builder.header(LAST_EVENT_ID, lastId.toString());
+            }
+            return builder.url(channelUrl.toString()).build();
+        }
+
+        private boolean onEvent(final Long id, final String data) throws InterruptedException {
+
+            String eventName = null;
+            try {
+                eventName = readName(data);
+            } catch (IOException e) {
+                // Skipped rather than reconnecting as the node would replay the same event
+                errorListener.accept(new ConversionException("Invalid event " + id, e));
+            }
+
+            // Recorded first so that the ID is current once the event has been delivered
+            if (id != null) {
+                lastEventId = id;
+            }
+
+            if (eventName != null && listeners.containsKey(eventName)) {
+                // Blocks while the listeners are behind
+                queue.put(new RawEvent(eventName, id, data));
+            }
+            return id != null;
+        }
+    }
+
+    /**
+     * The listeners of an event type
+     */
+    private static class Listeners<T> {
+
+        private final EventType<T> eventType;
+        private final List<EventListener<?>> listeners;
+
+        private Listeners(final EventType<T> eventType, final List<EventListener<?>> listeners) {
+            this.eventType = eventType;
+            this.listeners = listeners;
+        }
+
+        /**
+         * Delivers an event to every listener, a listener that throws does not prevent the others receiving it
+         */
+        @SuppressWarnings("unchecked")
+        private void deliver(final Object event, final Consumer<Throwable> errorListener) {
+            for (final EventListener<?> listener : listeners) {
+                try {
+                    ((EventListener<Object>) listener).onEvent(event);
+                } catch (RuntimeException e) {
+                    errorListener.accept(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * An event as read from the node, decoded on the dispatch thread
+     */
+    private static class RawEvent {
+
+        private final String name;
+        private final Long id;
+        private final String data;
+
+        private RawEvent(final String name, final Long id, final String data) {
+            this.name = name;
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.casper.sdk.service.http.event;
+
+import okhttp3.OkHttpClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Builder for an {@link EventStream}
+ */
+public class EventStreamBuilder {
+
+    private final Map<EventType<?>, List<EventListener<?>>> listeners = new LinkedHashMap<>();
+    private final Map<String, Long> startFrom = new HashMap<>();
+    private String url;
+    private int port;
+    private OkHttpClient httpClient;
+    private Consumer<Throwable> errorListener = error -> {
+    };
+    private int queueCapacity = 1000;
+    private long minReconnectDelayNanos = TimeUnit.SECONDS.toNanos(1);
+    private long maxReconnectDelayNanos = TimeUnit.SECONDS.toNanos(30);
+    private long readTimeoutNanos = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * @param url  the url of the node
+     * @param port the port of the node's event stream, 9999 by default
+     * @return this builder
+     */
+    public EventStreamBuilder endpoint(final String url, final int port) {
+        this.url = url;
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Adds a listener of an event type, only the channels of the node that send the types listened to are read
+     *
+     * @param eventType the type of event to listen to
+     * @param listener  the listener to add
+     * @param <T>       the type of the event
+     * @return this builder
+     */
+    public <T> EventStreamBuilder listener(final EventType<T> eventType, final EventListener<? super T> listener) {
+        listeners.computeIfAbsent(eventType, type -> new ArrayList<>()).add(listener);
+        return this;
+    }
+
+    /**
+     * @param errorListener receives failures to connect to the node or decode its events and exceptions thrown by
+     *                      listeners, none of which stop the stream
+     * @return this builder
+     */
+    public EventStreamBuilder errorListener(final Consumer<Throwable> errorListener) {
+        this.errorListener = errorListener;
+        return this;
+    }
+
+    /**
+     * Asks the node to replay a channel's events from an id, eg the id following the last event processed before a
+     * restart, the node only replays the events it has kept
+     *
+     * @param channel the name of the node's event channel
+     * @param eventId the id of the first event to receive
+     * @return this builder
+     */
+    public EventStreamBuilder startFrom(final String channel, final long eventId) {
+        if (eventId < 0) {
+            throw new IllegalArgumentException("eventId must not be negative: " + eventId);
+        }
+        startFrom.put(channel, eventId);
+        return this;
+    }
+
+    /**
+     * @param queueCapacity the number of events read ahead of the listeners before the node is no longer read
+     * @return this builder
+     */
+    public EventStreamBuilder queueCapacity(final int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be positive: " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Sets the delay before reconnecting to the node, which doubles from the minimum after each attempt that receives
+     * no events
+     *
+     * @param min  the delay after a connection that received events ends
+     * @param max  the longest delay between attempts
+     * @param unit the unit of the delays
+     * @return this builder
+     */
+    public EventStreamBuilder reconnectDelay(final long min, final long max, final TimeUnit unit) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid reconnect delay min: " + min + " max: " + max);
+        }
+        this.minReconnectDelayNanos = unit.toNanos(min);
+        this.maxReconnectDelayNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * Sets how long a connection may send nothing, neither events nor keep-alive comments, before it is treated as
+     * dropped and reopened. Must be longer than the interval between the node's keep-alive comments.
+     *
+     * @param timeout the longest wait for data from the node
+     * @param unit    the unit of the timeout
+     * @return this builder
+     */
+    public EventStreamBuilder readTimeout(final long timeout, final TimeUnit unit) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        this.readTimeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * @param httpClient the client whose connection pool and dispatcher are shared, its read timeout is not used
+     * @return this builder
+     */
+    public EventStreamBuilder httpClient(final OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    public EventStream build() {
+        if (url == null) {
+            throw new IllegalStateException("An endpoint is required");
+        }
+        if (listeners.isEmpty()) {
+            throw new IllegalStateException("At least one listener is required");
+        }
+        return new EventStream(
+                url,
+                port,
+                httpClient != null ? httpClient : new OkHttpClient(),
+                listeners,
+                startFrom,
+                errorListener,
+                queueCapacity,
+                minReconnectDelayNanos,
+                maxReconnectDelayNanos,
+                readTimeoutNanos
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.casper.sdk.service.http.event;
+
+import com.casper.sdk.types.BlockAdded;
+import com.casper.sdk.types.DeployProcessed;
+import com.casper.sdk.types.FinalitySignature;
+
+/**
+ * The types of event sent by a node's event stream, each is sent on one of the node's event channels
+ *
+ * @param <T> the type the event's data is bound to
+ */
+public final class EventType<T> {
+
+    public static final EventType<BlockAdded> BLOCK_ADDED = new EventType<>("BlockAdded", "main", BlockAdded.class);
+    public static final EventType<DeployProcessed> DEPLOY_PROCESSED = new EventType<>("DeployProcessed", "main", DeployProcessed.class);
+    public static final EventType<FinalitySignature> FINALITY_SIGNATURE = new EventType<>("FinalitySignature", "sigs", FinalitySignature.class);
+
+    /** The name of the event, the single field of the event's JSON */
+    private final String name;
+    /** The channel of the node's event stream, eg 'main' for '/events/main' */
+    private final String channel;
+    private final Class<T> type;
+
+    private EventType(final String name, final String channel, final Class<T> type) {
+        this.name = name;
+        this.channel = channel;
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
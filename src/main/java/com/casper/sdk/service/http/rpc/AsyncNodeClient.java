@@ -0,0 +1,181 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.Constants;
+import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.casper.sdk.service.hash.HashService;
+import com.casper.sdk.types.*;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.casper.sdk.service.http.rpc.MethodEnums.*;
+
+/**
+ * Non-blocking counterpart of the {@link NodeClient}. Each RPC is enqueued with the HTTP client's dispatcher, which
+ * bounds the number of concurrent calls, and the {@link MethodEnums} mappers run on the provided executor.
+ */
+public class AsyncNodeClient {
+
+    private final HttpMethods httpMethods;
+    private final HashService hashService;
+    private final DeployService deployService;
+    /** The executor the response mappers are run on */
+    private final Executor executor;
+
+    public AsyncNodeClient(final DeployService deployService,
+                           final HashService hashService,
+                           final HttpMethods httpMethods,
+                           final Executor executor) {
+        this.deployService = deployService;
+        this.hashService = hashService;
+        this.httpMethods = httpMethods;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<String> getStateRootHash() {
+        return rcpCallMethodMap(MethodFactory.stateRootHash(), STATE_ROOT_HASH::getValue);
+    }
+
+    public CompletableFuture<String> getAccountInfo(final String accountKey) {
+        return getStateRootHash().thenCompose(stateRootHash -> rcpCallMethodMap(
+                MethodFactory.accountInfo(stateRootHash, hashService.getAccountHash(accountKey)),
+                ACCOUNT_INFO::getValue
+        ));
+    }
+
+    public CompletableFuture<BigInteger> getAccountBalance(final String accountKey) {
+        return getStateRootHash().thenCompose(stateRootHash ->
+                getAccountMainPurseURef(stateRootHash, accountKey).thenCompose(purseURef -> rcpCallMethodMap(
+                        MethodFactory.accountBalance(stateRootHash, purseURef.toString()),
+                        result -> new BigInteger(STATE_GET_BALANCE.getValue(result))
+                ))
+        );
+    }
+
+    public CompletableFuture<URef> getAccountMainPurseURef(final String accountKey) {
+        return getStateRootHash().thenCompose(stateRootHash -> getAccountMainPurseURef(stateRootHash, accountKey));
+    }
+
+    public CompletableFuture<String> getAuctionInfo() {
+        return rcpCallMethodMap(MethodFactory.auctionInfo(), STATE_GET_AUCTION_INFO::getValue);
+    }
+
+    public CompletableFuture<String> getNodePeers() {
+        return rcpCallMethodMap(MethodFactory.nodePeers(), INFO_GET_PEERS::getValue);
+    }
+
+    public CompletableFuture<String> getNodeStatus() {
+        return rcpCallMethodMap(MethodFactory.nodeStatus(), INFO_GET_STATUS::getValue);
+    }
+
+    public CompletableFuture<String> putDeploy(final Deploy signedDeploy) {
+
+        final int size = deployService.deploySizeInBytes(signedDeploy);
+
+        if (size > NodeClient.ONE_MEGABYTE) {
+            return failedFuture(new IllegalArgumentException(String.format(NodeClient.DEPLOY_TOO_LARGE_MSG, size)));
+        }
+
+        return rcpCallMethodMap(MethodFactory.putDeploy(signedDeploy), ACCOUNT_PUT_DEPLOY::getValue);
+    }
+
+    public CompletableFuture<Deploy> getDeploy(final Digest deployHash) {
+        return rcpCallMethodMap(
+                MethodFactory.getDeploy(deployHash),
+                result -> INFO_GET_DEPLOY.readValue(result, deployService::fromJson)
+        );
+    }
+
+    public CompletableFuture<String> getLatestBlockInfo() {
+        return rcpCallMethodMap(MethodFactory.latestBlockInfo(), CHAIN_GET_BLOCK::getValue);
+    }
+
+    public CompletableFuture<String> getBlockInfo(final Digest blockHash) {
+        return rcpCallMethodMap(MethodFactory.blockInfo(blockHash), CHAIN_GET_BLOCK::getValue);
+    }
+
+    public CompletableFuture<String> getBlockInfoByHeight(final Number height) {
+        return rcpCallMethodMap(MethodFactory.blockInfoByHeight(height), CHAIN_GET_BLOCK::getValue);
+    }
+
+    public CompletableFuture<Block> getBlock() {
+        return rcpCallMethodMap(MethodFactory.latestBlockInfo(), result -> CHAIN_GET_BLOCK.readValue(result, NodeClient.BLOCK));
+    }
+
+    public CompletableFuture<Block> getBlock(final Digest blockHash) {
+        return rcpCallMethodMap(MethodFactory.blockInfo(blockHash), result -> CHAIN_GET_BLOCK.readValue(result, NodeClient.BLOCK));
+    }
+
+    public CompletableFuture<Block> getBlockByHeight(final Number height) {
+        return rcpCallMethodMap(MethodFactory.blockInfoByHeight(height), result -> CHAIN_GET_BLOCK.readValue(result, NodeClient.BLOCK));
+    }
+
+    public CompletableFuture<List<TransferRecord>> getTransferRecords() {
+        return rcpCallMethodMap(
+                MethodFactory.blockTransfers(),
+                result -> CHAIN_GET_BLOCK_TRANSFERS.readValue(result, NodeClient.TRANSFER_RECORDS, Constants.TRANSFERS)
+        );
+    }
+
+    public CompletableFuture<EraSummary> getEraSummary() {
+        return rcpCallMethodMap(
+                MethodFactory.eraInfoBySwitchBlock(),
+                result -> CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK.readValue(result, NodeClient.ERA_SUMMARY, Constants.ERA_SUMMARY)
+        );
+    }
+
+    public CompletableFuture<NodeStatus> getNodeStatusInfo() {
+        return rcpCallMethodMap(MethodFactory.nodeStatus(), result -> INFO_GET_STATUS.readValue(result, NodeClient.NODE_STATUS));
+    }
+
+    public CompletableFuture<List<ValidatorBid>> getValidatorBids() {
+        return rcpCallMethodMap(
+                MethodFactory.auctionInfo(),
+                result -> STATE_GET_AUCTION_INFO.readValue(result, NodeClient.VALIDATOR_BIDS, Constants.AUCTION_STATE, Constants.BIDS)
+        );
+    }
+
+    public CompletableFuture<String> getRpcSchema() {
+        return rcpCallMethodMap(MethodFactory.rpcSchema(), RPC_DISCOVER::getValue);
+    }
+
+    public CompletableFuture<String> getBlockTransfers() {
+        return rcpCallMethodMap(MethodFactory.blockTransfers(), CHAIN_GET_BLOCK_TRANSFERS::getValue);
+    }
+
+    public CompletableFuture<String> getEraInfoBySwitchBlock() {
+        return rcpCallMethodMap(MethodFactory.eraInfoBySwitchBlock(), CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK::getValue);
+    }
+
+    private CompletableFuture<URef> getAccountMainPurseURef(final String stateRootHash, final String accountKey) {
+        return rcpCallMethodMap(
+                MethodFactory.accountInfo(stateRootHash, hashService.getAccountHash(accountKey)),
+                result -> new URef(STATE_GET_ITEM.getValue(result))
+        );
+    }
+
+    /**
+     * Calls the RCP method asynchronously and applies the provided map function to transform the result on the
+     * executor
+     *
+     * @param method the method to call against a node
+     * @param mapper the mapper to transform the resulting JSON String
+     * @param <T>    the type of object generated by the mapper function
+     * @return a future that completes with the mapped result
+     */
+    private <T> CompletableFuture<T> rcpCallMethodMap(final Method method, final Function<String, ? extends T> mapper) {
+        return httpMethods.rpcCallMethodAsync(method).thenApplyAsync(
+                result -> result.map(mapper).orElseThrow(() -> new ValueNotFoundException("For " + method)),
+                executor
+        );
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
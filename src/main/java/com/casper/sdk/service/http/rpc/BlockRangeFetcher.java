@@ -0,0 +1,258 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.CasperException;
+import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.casper.sdk.types.Block;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fetches the blocks of a range of heights from the nodes using a number of concurrent fetcher threads and delivers them
+ * in height order. Each thread claims the next height, or as many heights as the batch size when batching is configured
+ * and obtains them in a single JSON-RPC batch.
+ * <p>
+ * The blocks fetched ahead of the next block to be delivered are held in a reorder window, no height beyond the window
+ * is claimed until the blocks before it have been delivered so that the blocks held are bounded however slowly they
+ * are consumed. A block that cannot be fetched, once the calls' retries are exhausted, is thrown by {@link #next()} in
+ * its place after the blocks before it have been delivered, and no further heights are fetched. The checkpoint is the
+ * height of the next block to deliver, a fetcher built from a checkpoint resumes where an earlier fetcher stopped.
+ *
+ * @see BlockRangeFetcherBuilder
+ */
+public class BlockRangeFetcher implements Iterator<Block>, Closeable {
+
+    private final NodeClient nodeClient;
+    /** The last height fetched */
+    private final long toHeight;
+    private final int batchSize;
+    private final int reorderWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled when a height can be claimed */
+    private final Condition claimable = lock.newCondition();
+    /** Signalled when a block has been fetched */
+    private final Condition fetched = lock.newCondition();
+    /** The blocks fetched but not yet delivered by height */
+    private final Map<Long, Block> blocks = new HashMap<>();
+    private final AtomicLong fetchedCount = new AtomicLong();
+    private final AtomicLong callCount = new AtomicLong();
+    /** The height of the next block to deliver */
+    private long nextHeight;
+    /** The next height to be claimed by a fetcher thread */
+    private long claimHeight;
+    /** The first height that could not be fetched and its error */
+    private long errorHeight = Long.MAX_VALUE;
+    private RuntimeException error;
+    private boolean closed;
+
+    BlockRangeFetcher(final NodeClient nodeClient,
+                      final long fromHeight,
+                      final long toHeight,
+                      final int concurrency,
+                      final int batchSize,
+                      final int reorderWindow) {
+        this.nodeClient = nodeClient;
+        this.toHeight = toHeight;
+        this.batchSize = batchSize;
+        this.reorderWindow = reorderWindow;
+        this.nextHeight = fromHeight;
+        this.claimHeight = fromHeight;
+
+        for (int i = 0; i < concurrency; i++) {
+            final Thread worker = new Thread(this::fetchClaimed, "casper-block-fetcher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * @return true until the block of the last height has been delivered or the fetcher is closed
+     */
+    @Override
+    public boolean hasNext() {
+        lock.lock();
+        try {
+            return !closed && nextHeight <= toHeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the block of the next height
+     *
+     * @return the block of the next height
+     * @throws NoSuchElementException if every block has been delivered or the fetcher is closed
+     * @throws RuntimeException       the error the block could not be fetched with
+     * @throws CasperException        if interrupted while waiting for the block
+     */
+    @Override
+    public Block next() {
+        lock.lock();
+        try {
+            Block block;
+            while ((block = blocks.remove(nextHeight)) == null) {
+                if (closed || nextHeight > toHeight) {
+                    throw new NoSuchElementException();
+                }
+                if (nextHeight == errorHeight) {
+                    throw error;
+                }
+                try {
+                    fetched.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CasperException("Interrupted waiting for block " + nextHeight, e);
+                }
+            }
+            nextHeight++;
+            claimable.signalAll();
+            return block;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a sequential stream of the blocks in height order that closes this fetcher when it is closed
+     */
+    public Stream<Block> stream() {
+        final Spliterator<Block> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * @return the height of the next block to deliver, from which a later fetcher can resume
+     */
+    public long getCheckpoint() {
+        lock.lock();
+        try {
+            return nextHeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of blocks fetched ahead of the next block to deliver
+     */
+    public int getBufferedCount() {
+        lock.lock();
+        try {
+            return blocks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of blocks fetched
+     */
+    public long getFetchedCount() {
+        return fetchedCount.get();
+    }
+
+    /**
+     * @return the number of calls, single or batch, made to the nodes
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * Stops fetching and discards the blocks not yet delivered
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            blocks.clear();
+            claimable.signalAll();
+            fetched.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fetchClaimed() {
+
+        final List<Long> heights = new ArrayList<>(batchSize);
+        while (claim(heights)) {
+            callCount.incrementAndGet();
+            try {
+                if (heights.size() == 1) {
+                    final long height = heights.get(0);
+                    onFetched(height, nodeClient.getBlockByHeight(height), null);
+                } else {
+                    final List<RpcResult<Block>> results = nodeClient.getBlocksByHeight(heights);
+                    for (int i = 0; i < heights.size(); i++) {
+                        final RpcResult<Block> result = results.get(i);
+                        onFetched(heights.get(i), result.isSuccess() ? result.getValue() : null, result.getError());
+                    }
+                }
+            } catch (RuntimeException e) {
+                heights.forEach(height -> onFetched(height, null, e));
+            }
+        }
+    }
+
+    /**
+     * Claims the next heights to fetch, waiting while they are beyond the reorder window
+     *
+     * @param heights receives the claimed heights
+     * @return false once there are no more heights to fetch
+     */
+    private boolean claim(final List<Long> heights) {
+        heights.clear();
+        lock.lock();
+        try {
+            while (!closed && error == null && claimHeight <= toHeight && claimHeight - nextHeight >= reorderWindow) {
+                claimable.awaitUninterruptibly();
+            }
+            if (closed || error != null || claimHeight > toHeight) {
+                return false;
+            }
+            final long count = Math.min(Math.min(batchSize, toHeight - claimHeight + 1), reorderWindow - (claimHeight - nextHeight));
+            for (long i = 0; i < count; i++) {
+                heights.add(claimHeight++);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFetched(final long height, final Block block, final RuntimeException e) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (block != null) {
+                fetchedCount.incrementAndGet();
+                blocks.put(height, block);
+            } else if (height < errorHeight) {
+                errorHeight = height;
+                // A node may answer without a block and without an error
+                error = e != null ? e : new ValueNotFoundException("Block at height " + height + " not found");
+                claimable.signalAll();
+            }
+            fetched.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
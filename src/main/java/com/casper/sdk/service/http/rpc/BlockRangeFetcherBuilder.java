@@ -0,0 +1,88 @@
+package com.casper.sdk.service.http.rpc;
+
+/**
+ * Builder for a {@link BlockRangeFetcher}
+ */
+public class BlockRangeFetcherBuilder {
+
+    private final NodeClient nodeClient;
+    private long fromHeight;
+    private long toHeight = -1;
+    private int concurrency = 4;
+    private int batchSize = 1;
+    private int reorderWindow = 64;
+
+    /**
+     * @param nodeClient the client the blocks are fetched with
+     */
+    public BlockRangeFetcherBuilder(final NodeClient nodeClient) {
+        this.nodeClient = nodeClient;
+    }
+
+    /**
+     * Sets the heights to fetch, to resume from a checkpoint pass the checkpoint as the first height
+     *
+     * @param fromHeight the first height to fetch
+     * @param toHeight   the last height to fetch
+     * @return this builder
+     */
+    public BlockRangeFetcherBuilder range(final long fromHeight, final long toHeight) {
+        if (fromHeight < 0 || toHeight < fromHeight - 1) {
+            throw new IllegalArgumentException("Invalid range from: " + fromHeight + " to: " + toHeight);
+        }
+        this.fromHeight = fromHeight;
+        this.toHeight = toHeight;
+        return this;
+    }
+
+    /**
+     * @param concurrency the number of calls to the nodes in flight at once
+     * @return this builder
+     */
+    public BlockRangeFetcherBuilder concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * @param batchSize the most blocks obtained in a single JSON-RPC batch, 1 to obtain each block with its own call
+     * @return this builder
+     */
+    public BlockRangeFetcherBuilder batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param reorderWindow the most blocks fetched or being fetched ahead of the next block to deliver
+     * @return this builder
+     */
+    public BlockRangeFetcherBuilder reorderWindow(final int reorderWindow) {
+        if (reorderWindow < 1) {
+            throw new IllegalArgumentException("reorderWindow must be positive: " + reorderWindow);
+        }
+        this.reorderWindow = reorderWindow;
+        return this;
+    }
+
+    /**
+     * Builds the fetcher, which starts fetching at once
+     *
+     * @return the new fetcher
+     */
+    public BlockRangeFetcher build() {
+        if (toHeight < 0) {
+            throw new IllegalStateException("range must be set");
+        }
+        if (reorderWindow < batchSize) {
+            throw new IllegalStateException("reorderWindow " + reorderWindow + " is smaller than batchSize " + batchSize);
+        }
+        return new BlockRangeFetcher(nodeClient, fromHeight, toHeight, concurrency, batchSize, reorderWindow);
+    }
+}
@@ -0,0 +1,87 @@
+package com.casper.sdk.service.http.rpc;
+
+/**
+ * The circuit breaker of a node. The breaker opens after a number of consecutive failures so that calls to the node
+ * fail fast instead of waiting on timeouts. Once the open time has elapsed a single trial call is let through in the
+ * half-open state, its success closes the breaker while its failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilMillis;
+    private boolean trialInFlight;
+
+    CircuitBreaker(final int failureThreshold, final long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Indicates if a call may be sent to the node, moving an open breaker whose open time has elapsed to half-open
+     *
+     * @param nowMillis the current time
+     * @return true if the call may be sent
+     */
+    synchronized boolean tryAcquire(final long nowMillis) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nowMillis < openUntilMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Records a call cancelled before it was answered, which says nothing about the health of the node
+     */
+    synchronized void onCancel() {
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure(final long nowMillis) {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntilMillis = nowMillis + openMillis;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker{" +
+               "state=" + state +
+               ", consecutiveFailures=" + consecutiveFailures +
+               '}';
+    }
+}
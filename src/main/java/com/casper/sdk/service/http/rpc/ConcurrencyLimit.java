@@ -0,0 +1,106 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An adaptive limit on the calls in flight to a node using additive increase, multiplicative decrease. The limit grows
+ * by one for each limit's worth of calls answered close to the lowest recent latency, and shrinks when latency rises
+ * above that by more than the tolerance as calls are then queueing on the node. A failed or throttled call halves the
+ * limit.
+ * <p>
+ * The lowest latency is taken over the calls of the current and previous windows of answered calls, so a single
+ * unusually fast call stops holding the limit down once two windows have passed.
+ */
+public class ConcurrencyLimit {
+
+    /** The factor the limit is reduced by when latency rises */
+    private static final double LATENCY_BACKOFF = 0.9;
+    /** The factor the limit is reduced by when a call fails */
+    private static final double FAILURE_BACKOFF = 0.5;
+    /** The number of answered calls in each window the lowest latency is taken over */
+    static final int LATENCY_WINDOW = 100;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private double limit;
+    private int inFlight;
+    /** The lowest latency of the previous and current windows */
+    private long minLatencyNanos = Long.MAX_VALUE;
+    /** The lowest latency of the current window */
+    private long windowMinLatencyNanos = Long.MAX_VALUE;
+    private int windowCount;
+
+    ConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit, final double latencyTolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * @return the current number of calls allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Waits for the calls in flight to fall below the limit
+     *
+     * @param timeoutNanos the longest to wait
+     * @return true if the call may be sent, false if the limit was not reached in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized boolean acquire(final long timeoutNanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        while (inFlight >= (int) limit) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Records the outcome of a call and adjusts the limit
+     *
+     * @param latencyNanos the time taken by the call or -1 if it was cancelled, which leaves the limit unchanged
+     * @param failed       true if the node failed or throttled the call
+     */
+    synchronized void release(final long latencyNanos, final boolean failed) {
+        inFlight--;
+        if (failed) {
+            limit = Math.max(minLimit, limit * FAILURE_BACKOFF);
+        } else if (latencyNanos >= 0) {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+            windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latencyNanos);
+            if (latencyNanos > minLatencyNanos * latencyTolerance) {
+                limit = Math.max(minLimit, limit * LATENCY_BACKOFF);
+            } else {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            if (++windowCount == LATENCY_WINDOW) {
+                // The previous window's lowest latency is dropped
+                minLatencyNanos = windowMinLatencyNanos;
+                windowMinLatencyNanos = Long.MAX_VALUE;
+                windowCount = 0;
+            }
+        }
+        notifyAll();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ConcurrencyLimit{" +
+               "limit=" + (int) limit +
+               ", inFlight=" + inFlight +
+               '}';
+    }
+}
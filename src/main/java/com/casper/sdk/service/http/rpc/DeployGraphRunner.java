@@ -0,0 +1,216 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployDependencyException;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+import com.casper.sdk.types.ExecutionResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a set of deploys that depend on each other through the dependencies of their headers. Each deploy is put as
+ * soon as every deploy of the set it depends on has been executed successfully, so the deploys of a layer of the
+ * dependency graph are put in parallel and a deploy does not wait for unrelated deploys of the previous layer.
+ * <p>
+ * The deploys are put with a {@link DeploySubmitter} and their execution is waited for with a {@link DeployTracker},
+ * both remain owned by the caller. Dependencies outside of the set are assumed to have been executed already.
+ * <p>
+ * A deploy whose dependencies have been executed is put from the runner's executor as the submitter blocks while its
+ * queue is full, so neither the tracker's thread that completed the dependency nor the common pool is held up.
+ */
+public class DeployGraphRunner {
+
+    private final DeploySubmitter deploySubmitter;
+    private final DeployTracker deployTracker;
+    private final Executor executor;
+
+    /**
+     * Creates a runner that puts the dependent deploys from a single thread of its own, the thread stops while the
+     * runner is idle
+     *
+     * @param deploySubmitter the submitter the deploys are put with
+     * @param deployTracker   the tracker the execution of the deploys is waited for with
+     */
+    public DeployGraphRunner(final DeploySubmitter deploySubmitter, final DeployTracker deployTracker) {
+        this(deploySubmitter, deployTracker, createExecutor());
+    }
+
+    /**
+     * @param deploySubmitter the submitter the deploys are put with
+     * @param deployTracker   the tracker the execution of the deploys is waited for with
+     * @param executor        the executor the dependent deploys are put from, its threads may block while the
+     *                        submitter's queue is full
+     */
+    public DeployGraphRunner(final DeploySubmitter deploySubmitter,
+                             final DeployTracker deployTracker,
+                             final Executor executor) {
+        this.deploySubmitter = deploySubmitter;
+        this.deployTracker = deployTracker;
+        this.executor = executor;
+    }
+
+    /**
+     * Orders deploys into layers where each deploy only depends on deploys of the earlier layers
+     *
+     * @param deploys the deploys to order, an equal deploy provided more than once is only ordered once
+     * @return the layers in the order they can be executed, each in the order the deploys were provided
+     * @throws IllegalArgumentException if the dependencies of the deploys form a cycle
+     */
+    public static List<List<Deploy>> layers(final Collection<Deploy> deploys) {
+
+        final Map<Digest, Deploy> byHash = new LinkedHashMap<>();
+        deploys.forEach(deploy -> byHash.putIfAbsent(deploy.getHash(), deploy));
+
+        final Map<Digest, Integer> unmetDependencies = new HashMap<>();
+        final Map<Digest, List<Deploy>> dependents = new HashMap<>();
+        for (final Deploy deploy : byHash.values()) {
+            int count = 0;
+            for (final Digest dependency : dependenciesOf(deploy, byHash)) {
+                dependents.computeIfAbsent(dependency, hash -> new ArrayList<>()).add(deploy);
+                count++;
+            }
+            unmetDependencies.put(deploy.getHash(), count);
+        }
+
+        final List<List<Deploy>> layers = new ArrayList<>();
+        List<Deploy> layer = new ArrayList<>();
+        for (final Deploy deploy : byHash.values()) {
+            if (unmetDependencies.get(deploy.getHash()) == 0) {
+                layer.add(deploy);
+            }
+        }
+
+        int ordered = 0;
+        while (!layer.isEmpty()) {
+            layers.add(layer);
+            ordered += layer.size();
+            final List<Deploy> next = new ArrayList<>();
+            for (final Deploy deploy : layer) {
+                for (final Deploy dependent : dependents.getOrDefault(deploy.getHash(), Collections.emptyList())) {
+                    if (unmetDependencies.merge(dependent.getHash(), -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            layer = next;
+        }
+
+        if (ordered < byHash.size()) {
+            final List<Digest> cycle = new ArrayList<>();
+            unmetDependencies.forEach((hash, count) -> {
+                if (count > 0) {
+                    cycle.add(hash);
+                }
+            });
+            throw new IllegalArgumentException("The dependencies of deploys form a cycle: " + cycle);
+        }
+        return layers;
+    }
+
+    /**
+     * Puts the deploys in the order of their dependencies, a deploy whose dependency is rejected, expires or fails to
+     * execute is not put and its future fails with a {@link DeployDependencyException}
+     *
+     * @param deploys the signed deploys to run
+     * @return the future of the execution result of each deploy by its hash in the order the deploys can be executed
+     * @throws IllegalArgumentException if the dependencies of the deploys form a cycle
+     */
+    public Map<Digest, CompletableFuture<ExecutionResult>> run(final Collection<Deploy> deploys) {
+
+        final List<List<Deploy>> layers = layers(deploys);
+        final Map<Digest, CompletableFuture<ExecutionResult>> results = new LinkedHashMap<>();
+
+        for (final List<Deploy> layer : layers) {
+            for (final Deploy deploy : layer) {
+                final List<Digest> dependencies = dependenciesOf(deploy, results);
+                if (dependencies.isEmpty()) {
+                    results.put(deploy.getHash(), execute(deploy));
+                } else {
+                    final List<CompletableFuture<ExecutionResult>> dependencyResults = new ArrayList<>(dependencies.size());
+                    dependencies.forEach(dependency -> dependencyResults.add(results.get(dependency)));
+                    results.put(
+                            deploy.getHash(),
+                            CompletableFuture.allOf(dependencyResults.toArray(new CompletableFuture<?>[0]))
+                                    .handle((ignored, error) -> null)
+                                    .thenComposeAsync(ignored -> {
+                                        checkExecuted(deploy, dependencies, dependencyResults);
+                                        return execute(deploy);
+                                    }, executor)
+                    );
+                }
+            }
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Puts a deploy, the submitter may block the calling thread while its queue is full
+     */
+    private CompletableFuture<ExecutionResult> execute(final Deploy deploy) {
+        try {
+            return deploySubmitter.submit(deploy).thenCompose(deployHash -> deployTracker.track(deploy));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Executor createExecutor() {
+        // No core thread so that the thread stops once idle and the runner needs no closing
+        return new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "casper-deploy-graph-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static void checkExecuted(final Deploy deploy,
+                                      final List<Digest> dependencies,
+                                      final List<CompletableFuture<ExecutionResult>> dependencyResults) {
+        for (int i = 0; i < dependencies.size(); i++) {
+            final Digest dependency = dependencies.get(i);
+            final ExecutionResult result;
+            try {
+                result = dependencyResults.get(i).get();
+            } catch (ExecutionException e) {
+                throw new DeployDependencyException(deploy.getHash(), dependency, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            if (!result.isSuccess()) {
+                throw new DeployDependencyException(deploy.getHash(), dependency, null);
+            }
+        }
+    }
+
+    /**
+     * @return the dependencies of a deploy that are keys of the provided map
+     */
+    private static List<Digest> dependenciesOf(final Deploy deploy, final Map<Digest, ?> deploys) {
+        final List<Digest> dependencies = deploy.getHeader().getDependencies();
+        if (dependencies == null || dependencies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Digest> pending = new ArrayList<>(dependencies.size());
+        for (final Digest dependency : dependencies) {
+            if (deploys.containsKey(dependency) && !dependency.equals(deploy.getHash()) && !pending.contains(dependency)) {
+                pending.add(dependency);
+            }
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,299 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The bounded queue of a {@link DeploySubmitter}. Deploys are taken in order of their expiry, the deploy with the least
+ * time to live remaining first, and a deploy that has expired by the time it would be taken is handed back to be
+ * dropped rather than put to a node that would reject it.
+ * <p>
+ * A deploy whose header lists a dependency that is pending in the queue, either waiting or being put, is held back
+ * until that dependency has been accepted by the node and is failed if the dependency fails. Dependencies that are
+ * not pending are assumed to have been put already, so a dependency must be submitted before the deploys that depend
+ * on it. A deploy submitted while an equal deploy is pending is not queued again.
+ * <p>
+ * Once closed the queue rejects new deploys, including those of producers waiting for space.
+ */
+class DeployQueue {
+
+    private final int capacity;
+    private final long expiryMarginMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    /** The deploys whose dependencies have all been accepted ordered by expiry */
+    private final PriorityQueue<Submission> ready = new PriorityQueue<>(
+            Comparator.comparingLong((Submission submission) -> submission.expiresAt).thenComparingLong(submission -> submission.sequence)
+    );
+    /** Every deploy that is waiting, held back or being put by its hash */
+    private final Map<Digest, Submission> pending = new HashMap<>();
+    private long sequence;
+    /** The number of deploys waiting or held back */
+    private int count;
+    private long duplicateCount;
+    private boolean closed;
+
+    /**
+     * @param capacity           the most deploys that can wait or be held back
+     * @param expiryMarginMillis how long before its expiry a deploy is treated as expired
+     */
+    DeployQueue(final int capacity, final long expiryMarginMillis) {
+        this.capacity = capacity;
+        this.expiryMarginMillis = expiryMarginMillis;
+    }
+
+    /**
+     * Adds a deploy, waiting up to the provided time for space
+     *
+     * @param deploy  the deploy to add
+     * @param timeout how long to wait for space
+     * @param unit    the unit of the timeout
+     * @return the submission of the deploy or of an equal deploy already pending, null if there was no space
+     * @throws InterruptedException  if interrupted while waiting for space
+     * @throws IllegalStateException if the queue is closed
+     */
+    Submission offer(final Deploy deploy, final long timeout, final TimeUnit unit) throws InterruptedException {
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            // Checked again after each wait as the lock is released while waiting
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("Deploy submitter is closed");
+                }
+                final Submission existing = pending.get(deploy.getHash());
+                if (existing != null) {
+                    duplicateCount++;
+                    return existing;
+                }
+                if (count < capacity) {
+                    break;
+                }
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            final Submission submission = new Submission(deploy, sequence++);
+            pending.put(deploy.getHash(), submission);
+            count++;
+
+            final List<Digest> dependencies = deploy.getHeader().getDependencies();
+            if (dependencies != null) {
+                for (final Digest dependency : dependencies) {
+                    final Submission pendingDependency = pending.get(dependency);
+                    if (pendingDependency != null && pendingDependency != submission) {
+                        pendingDependency.dependents.add(submission);
+                        submission.unmetDependencies++;
+                    }
+                }
+            }
+
+            if (submission.unmetDependencies == 0) {
+                ready.add(submission);
+                notEmpty.signal();
+            }
+            return submission;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the deploys that expire soonest, waiting up to the provided time for a deploy to be ready
+     *
+     * @param batch   receives the deploys to put
+     * @param expired receives the deploys that expired while waiting, these must be failed
+     * @param max     the most deploys to take
+     * @param timeout how long to wait for a deploy
+     * @param unit    the unit of the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void drainTo(final List<Submission> batch,
+                 final List<Submission> expired,
+                 final int max,
+                 final long timeout,
+                 final TimeUnit unit) throws InterruptedException {
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (ready.isEmpty()) {
+                if (nanos <= 0) {
+                    return;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            final long expiredBefore = System.currentTimeMillis() + expiryMarginMillis;
+            while (batch.size() < max && !ready.isEmpty()) {
+                final Submission submission = ready.poll();
+                count--;
+                if (submission.expiresAt <= expiredBefore) {
+                    expired.add(submission);
+                } else {
+                    batch.add(submission);
+                }
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the deploys held back by a deploy that has been accepted by the node
+     *
+     * @param submission the accepted deploy
+     */
+    void onAccepted(final Submission submission) {
+        lock.lock();
+        try {
+            pending.remove(submission.deploy.getHash(), submission);
+            for (final Submission dependent : submission.dependents) {
+                if (--dependent.unmetDependencies == 0) {
+                    ready.add(dependent);
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a deploy that failed or expired
+     *
+     * @param submission the failed deploy
+     * @return the deploys held back by the failed deploy, which must also be failed
+     */
+    List<Submission> onFailed(final Submission submission) {
+        lock.lock();
+        try {
+            pending.remove(submission.deploy.getHash(), submission);
+            if (submission.dependents.isEmpty()) {
+                return Collections.emptyList();
+            }
+            // Held back deploys still count against the capacity until failed
+            final List<Submission> dependents = new ArrayList<>();
+            for (final Submission dependent : submission.dependents) {
+                if (dependent.unmetDependencies > 0 && pending.get(dependent.deploy.getHash()) == dependent) {
+                    dependent.unmetDependencies = -1;
+                    count--;
+                    dependents.add(dependent);
+                }
+            }
+            notFull.signalAll();
+            return dependents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops new deploys being added, the deploys already added can still be taken
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the deploys that are still waiting or held back once no deploy is being put
+     *
+     * @return the removed deploys, which must be failed
+     */
+    List<Submission> clear() {
+        lock.lock();
+        try {
+            final List<Submission> remaining = new ArrayList<>(pending.values());
+            pending.clear();
+            ready.clear();
+            count = 0;
+            notFull.signalAll();
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of deploys waiting or held back
+     */
+    int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of deploys offered while an equal deploy was pending
+     */
+    long getDuplicateCount() {
+        lock.lock();
+        try {
+            return duplicateCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A deploy waiting to be put and the future of its hash
+     */
+    static class Submission {
+
+        final Deploy deploy;
+        final CompletableFuture<Digest> future = new CompletableFuture<>();
+        /** The time the deploy expires in milliseconds since the UNIX epoch */
+        private final long expiresAt;
+        private final long sequence;
+        /** The pending deploys held back until this deploy is accepted */
+        private final List<Submission> dependents = new ArrayList<>();
+        /** The number of pending dependencies, -1 once failed with a dependency */
+        private int unmetDependencies;
+
+        private Submission(final Deploy deploy, final long sequence) {
+            this.deploy = deploy;
+            this.expiresAt = deploy.getHeader().getTimestamp() + deploy.getHeader().getTtl();
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployExpiredException;
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.exceptions.RateLimitException;
+import com.casper.sdk.service.http.rpc.DeployQueue.Submission;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Puts signed deploys to a node from a bounded queue using a number of concurrent submitter threads, each with its own
+ * connection to the node. Producers block while the queue is full so that they cannot outrun the node. Each thread
+ * takes a single deploy from the queue, or as many deploys as are waiting up to the batch size when batching is
+ * configured and sends them as one JSON-RPC batch.
+ * <p>
+ * The deploys closest to their expiry are put first and a deploy that expires while queued is dropped, its future
+ * failed with a {@link DeployExpiredException} and the deploy reported to the expiry listener. A deploy that depends
+ * on a deploy still in the submitter is only put once that deploy has been accepted, see {@link DeployQueue}.
+ * <p>
+ * A deploy submitted while an equal deploy is queued or being put is not queued again, the future of the first
+ * submission is returned instead. As putting a deploy is not idempotent a failed put is only retried when the deploy
+ * provably never reached the node, the connection to the node could not be opened or the call was rejected by the
+ * client's rate limiter. A put that may have reached the node, such as one whose response timed out, fails instead of
+ * risking the deploy being sent twice.
+ */
+public class DeploySubmitter implements Closeable {
+
+    /** The number of seconds the throughput is averaged over */
+    private static final int THROUGHPUT_SECONDS = 10;
+
+    private final NodeClient nodeClient;
+    private final DeployQueue queue;
+    private final Consumer<Deploy> expiryListener;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryDelayNanos;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final long[] secondCounts = new long[THROUGHPUT_SECONDS];
+    private final long[] seconds = new long[THROUGHPUT_SECONDS];
+
+    DeploySubmitter(final NodeClient nodeClient,
+                    final int queueCapacity,
+                    final int concurrency,
+                    final int batchSize,
+                    final int maxRetries,
+                    final long retryDelayNanos,
+                    final long expiryMarginMillis,
+                    final Consumer<Deploy> expiryListener) {
+        this.nodeClient = nodeClient;
+        this.queue = new DeployQueue(queueCapacity, expiryMarginMillis);
+        this.expiryListener = expiryListener;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryDelayNanos = retryDelayNanos;
+        Arrays.fill(seconds, Long.MIN_VALUE);
+
+        for (int i = 0; i < concurrency; i++) {
+            final Thread worker = new Thread(this::submitQueued, "casper-deploy-submitter-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues a deploy to be put to the node, waiting while the queue is full
+     *
+     * @param signedDeploy the signed deploy to put
+     * @return the future of the deploy's hash once accepted by the node
+     * @throws InterruptedException     if interrupted while waiting for space in the queue
+     * @throws IllegalArgumentException if the deploy is too large for the node to accept
+     * @throws IllegalStateException    if the submitter is closed
+     */
+    public CompletableFuture<Digest> submit(final Deploy signedDeploy) throws InterruptedException {
+        return submit(signedDeploy, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Queues a deploy to be put to the node, waiting up to the provided time for space in the queue
+     *
+     * @param signedDeploy the signed deploy to put
+     * @param timeout      how long to wait for space in the queue
+     * @param unit         the unit of the timeout
+     * @return the future of the deploy's hash once accepted by the node, null if the queue remained full
+     * @throws InterruptedException     if interrupted while waiting for space in the queue
+     * @throws IllegalArgumentException if the deploy is too large for the node to accept
+     * @throws IllegalStateException    if the submitter is closed
+     */
+    public CompletableFuture<Digest> submit(final Deploy signedDeploy,
+                                            final long timeout,
+                                            final TimeUnit unit) throws InterruptedException {
+        if (queue.isClosed()) {
+            throw new IllegalStateException("Deploy submitter is closed");
+        }
+        nodeClient.checkDeploySize(signedDeploy);
+
+        final Submission submission = queue.offer(signedDeploy, timeout, unit);
+        return submission != null ? submission.future : null;
+    }
+
+    /**
+     * Stops accepting deploys and waits for the queued deploys to be put, producers waiting for space in the queue are
+     * rejected. Any deploy left in the queue once the submitter threads have stopped is failed.
+     */
+    @Override
+    public void close() {
+        queue.close();
+        for (final Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        // Only left when a submitter thread was interrupted
+        final IllegalStateException error = new IllegalStateException("Deploy submitter is closed");
+        queue.clear().forEach(submission -> fail(submission, error));
+    }
+
+    /**
+     * @return the number of deploys waiting in the queue, including those held back by their dependencies
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of deploys accepted by the node
+     */
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    /**
+     * @return the number of deploys rejected by the node or not put once the retries were exhausted
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return the number of times a deploy or batch was sent again after failing to reach the node
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return the number of submissions of a deploy that was already queued or being put
+     */
+    public long getDuplicateCount() {
+        return queue.getDuplicateCount();
+    }
+
+    /**
+     * @return the number of deploys dropped as they expired before they were put
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * @return the number of deploys accepted by the node per second averaged over the last ten whole seconds
+     */
+    public synchronized double getThroughput() {
+        final long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long count = 0;
+        for (int i = 0; i < THROUGHPUT_SECONDS; i++) {
+            if (seconds[i] < now && seconds[i] >= now - THROUGHPUT_SECONDS) {
+                count += secondCounts[i];
+            }
+        }
+        return (double) count / THROUGHPUT_SECONDS;
+    }
+
+    private void submitQueued() {
+
+        final List<Submission> batch = new ArrayList<>(batchSize);
+        final List<Submission> expired = new ArrayList<>();
+
+        while (!queue.isClosed() || !queue.isEmpty()) {
+            try {
+                queue.drainTo(batch, expired, batchSize, 100, TimeUnit.MILLISECONDS);
+                expired.forEach(this::expire);
+                if (!batch.isEmpty()) {
+                    put(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(submission -> fail(submission, e));
+                return;
+            } catch (RuntimeException e) {
+                batch.forEach(submission -> fail(submission, e));
+            } finally {
+                batch.clear();
+                expired.clear();
+            }
+        }
+    }
+
+    private void put(final List<Submission> batch) throws InterruptedException {
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                if (batchSize == 1) {
+                    final Submission submission = batch.get(0);
+                    complete(submission, new Digest(nodeClient.putDeploy(submission.deploy)));
+                } else {
+                    final List<Deploy> deploys = new ArrayList<>(batch.size());
+                    batch.forEach(submission -> deploys.add(submission.deploy));
+                    final List<RpcResult<Digest>> results = nodeClient.putDeploys(deploys);
+                    for (int i = 0; i < batch.size(); i++) {
+                        final RpcResult<Digest> result = results.get(i);
+                        if (result.isSuccess()) {
+                            complete(batch.get(i), result.getValue());
+                        } else {
+                            fail(batch.get(i), result.getError());
+                        }
+                    }
+                }
+                return;
+            } catch (HttpException e) {
+                if (attempt >= maxRetries || !isNotSent(e)) {
+                    throw e;
+                }
+                retryCount.incrementAndGet();
+                TimeUnit.NANOSECONDS.sleep(retryDelayNanos << Math.min(attempt, 16));
+            }
+        }
+    }
+
+    private static boolean isNotSent(final HttpException failure) {
+        return failure instanceof RateLimitException || RetryPolicy.isNotSent(failure.getCause());
+    }
+
+    private void complete(final Submission submission, final Digest deployHash) {
+        queue.onAccepted(submission);
+        submittedCount.incrementAndGet();
+        recordThroughput();
+        submission.future.complete(deployHash);
+    }
+
+    private void fail(final Submission submission, final Throwable error) {
+        // A submission is only ever completed by the thread putting it
+        if (!submission.future.isDone()) {
+            failedCount.incrementAndGet();
+            submission.future.completeExceptionally(error);
+        }
+        // The deploys that depend on a failed deploy fail with its error
+        queue.onFailed(submission).forEach(dependent -> fail(dependent, error));
+    }
+
+    private void expire(final Submission submission) {
+        expiredCount.incrementAndGet();
+        try {
+            expiryListener.accept(submission.deploy);
+        } catch (RuntimeException e) {
+            // The listener must not prevent the deploy being dropped
+        }
+        final DeployExpiredException error = new DeployExpiredException(submission.deploy.getHash());
+        submission.future.completeExceptionally(error);
+        queue.onFailed(submission).forEach(dependent -> fail(dependent, error));
+    }
+
+    private synchronized void recordThroughput() {
+        final long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        final int index = (int) Math.floorMod(now, (long) THROUGHPUT_SECONDS);
+        if (seconds[index] != now) {
+            seconds[index] = now;
+            secondCounts[index] = 0;
+        }
+        secondCounts[index]++;
+    }
+}
@@ -0,0 +1,119 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.types.Deploy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Builder for a {@link DeploySubmitter}
+ */
+public class DeploySubmitterBuilder {
+
+    private final NodeClient nodeClient;
+    private int queueCapacity = 1000;
+    private int concurrency = 4;
+    private int batchSize = 1;
+    private int maxRetries = 3;
+    private long retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long expiryMarginMillis;
+    private Consumer<Deploy> expiryListener = deploy -> {
+    };
+
+    /**
+     * @param nodeClient the client the deploys are put with
+     */
+    public DeploySubmitterBuilder(final NodeClient nodeClient) {
+        this.nodeClient = nodeClient;
+    }
+
+    /**
+     * @param queueCapacity the number of deploys that can wait to be put before producers are blocked
+     * @return this builder
+     */
+    public DeploySubmitterBuilder queueCapacity(final int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be positive: " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * @param concurrency the number of deploys or batches put to the node at the same time
+     * @return this builder
+     */
+    public DeploySubmitterBuilder concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * @param batchSize the most deploys put in a single JSON-RPC batch, 1 puts each deploy with its own call which
+     *                  nodes that do not support batches require
+     * @return this builder
+     */
+    public DeploySubmitterBuilder batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the retries of a deploy or batch that failed to reach the node, the delay doubles after each retry
+     *
+     * @param maxRetries the most times a deploy or batch is sent again
+     * @param delay      the delay before the first retry
+     * @param unit       the unit of the delay
+     * @return this builder
+     */
+    public DeploySubmitterBuilder retries(final int maxRetries, final long delay, final TimeUnit unit) {
+        if (maxRetries < 0 || delay < 0) {
+            throw new IllegalArgumentException("Invalid retries: " + maxRetries + " delay: " + delay);
+        }
+        this.maxRetries = maxRetries;
+        this.retryDelayNanos = unit.toNanos(delay);
+        return this;
+    }
+
+    /**
+     * @param margin how long before its expiry a queued deploy is dropped, allowing for the time to propagate the
+     *               deploy and include it in a block
+     * @param unit   the unit of the margin
+     * @return this builder
+     */
+    public DeploySubmitterBuilder expiryMargin(final long margin, final TimeUnit unit) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("margin must not be negative: " + margin);
+        }
+        this.expiryMarginMillis = unit.toMillis(margin);
+        return this;
+    }
+
+    /**
+     * @param expiryListener called with each deploy dropped from the queue because it expired before it was put
+     * @return this builder
+     */
+    public DeploySubmitterBuilder expiryListener(final Consumer<Deploy> expiryListener) {
+        this.expiryListener = expiryListener;
+        return this;
+    }
+
+    public DeploySubmitter build() {
+        return new DeploySubmitter(
+                nodeClient,
+                queueCapacity,
+                concurrency,
+                batchSize,
+                maxRetries,
+                retryDelayNanos,
+                expiryMarginMillis,
+                expiryListener
+        );
+    }
+}
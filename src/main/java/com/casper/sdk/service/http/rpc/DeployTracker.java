@@ -0,0 +1,311 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployExpiredException;
+import com.casper.sdk.service.http.event.EventStream;
+import com.casper.sdk.service.http.event.EventStreamBuilder;
+import com.casper.sdk.service.http.event.EventType;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.DeployInfo;
+import com.casper.sdk.types.DeployParams;
+import com.casper.sdk.types.DeployProcessed;
+import com.casper.sdk.types.Digest;
+import com.casper.sdk.types.ExecutionResult;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Waits for the execution of any number of deploys. Each tracked deploy is given a future of its execution result and
+ * a single scheduled task polls the deploys that are due in JSON-RPC batches of info_get_deploy, so tracking many
+ * deploys needs neither a thread nor a request loop per deploy. A deploy is first polled soon after it is tracked and
+ * the interval to its next poll then doubles up to a maximum. When an event stream is configured the deploys are
+ * completed by the node's DeployProcessed events and polling falls back to the maximum interval to cover missed
+ * events.
+ * <p>
+ * A deploy that has not been executed once its timestamp plus its time to live has passed, allowing a grace period
+ * for execution of a block proposed just before then, is dropped and its future completed with a
+ * {@link DeployExpiredException}. Until the header of a deploy tracked by hash is read from the node the deploy is
+ * assumed to have the default time to live.
+ * <p>
+ * Should polling a batch fail unexpectedly, other than by the node not being reached, the deploys of the batch are
+ * failed with the exception, which is also passed to the error listener, rather than left waiting forever.
+ */
+public class DeployTracker implements Closeable {
+
+    private final NodeClient nodeClient;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final long minIntervalNanos;
+    private final long maxIntervalNanos;
+    private final int batchSize;
+    private final long expiryGraceMillis;
+    private final EventStream eventStream;
+    private final Consumer<Throwable> errorListener;
+    private final ConcurrentMap<Digest, Pending> pending = new ConcurrentHashMap<>();
+    /** The pending deploys ordered by the time they are next polled */
+    private final DelayQueue<Pending> due = new DelayQueue<>();
+    private final ScheduledFuture<?> poller;
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private volatile boolean closed;
+
+    DeployTracker(final NodeClient nodeClient,
+                  final ScheduledExecutorService scheduler,
+                  final boolean ownsScheduler,
+                  final long minIntervalNanos,
+                  final long maxIntervalNanos,
+                  final int batchSize,
+                  final long expiryGraceMillis,
+                  final EventStreamBuilder eventStreamBuilder,
+                  final Consumer<Throwable> errorListener) {
+        this.nodeClient = nodeClient;
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.minIntervalNanos = minIntervalNanos;
+        this.maxIntervalNanos = maxIntervalNanos;
+        this.batchSize = batchSize;
+        this.expiryGraceMillis = expiryGraceMillis;
+        this.errorListener = errorListener;
+        this.eventStream = eventStreamBuilder != null
+                ? eventStreamBuilder.listener(EventType.DEPLOY_PROCESSED, this::onDeployProcessed).build().start()
+                : null;
+        final long tickNanos = Math.max(minIntervalNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        this.poller = scheduler.scheduleWithFixedDelay(this::pollDue, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Tracks a deploy that has been put to a node
+     *
+     * @param deploy the deploy to track
+     * @return the future of the deploy's execution result, the same future is returned each time a deploy is tracked
+     * and cancelling it stops the tracking
+     */
+    public CompletableFuture<ExecutionResult> track(final Deploy deploy) {
+        return track(deploy.getHash(), deploy.getHeader().getTimestamp() + deploy.getHeader().getTtl());
+    }
+
+    /**
+     * Tracks a deploy by its hash, its expiry is read from the node
+     *
+     * @param deployHash the hash of the deploy to track
+     * @return the future of the deploy's execution result
+     */
+    public CompletableFuture<ExecutionResult> track(final Digest deployHash) {
+        return track(deployHash, System.currentTimeMillis() + DeployParams.DEFAULT_TTL);
+    }
+
+    /**
+     * Tracks a deploy by its hash
+     *
+     * @param deployHash the hash of the deploy to track
+     * @param expiresAt  the time the deploy expires in milliseconds since the UNIX epoch
+     * @return the future of the deploy's execution result
+     */
+    public CompletableFuture<ExecutionResult> track(final Digest deployHash, final long expiresAt) {
+        if (closed) {
+            throw new IllegalStateException("Deploy tracker is closed");
+        }
+        return pending.computeIfAbsent(deployHash, hash -> {
+            final Pending deploy = new Pending(hash, expiresAt, System.nanoTime() + minIntervalNanos);
+            due.add(deploy);
+            return deploy;
+        }).future;
+    }
+
+    /**
+     * Completes the wait for a deploy from the node's DeployProcessed event, added as a listener to the event stream
+     * when one is configured
+     *
+     * @param event the event of the deploy's execution
+     */
+    public void onDeployProcessed(final DeployProcessed event) {
+        final Pending deploy = pending.get(event.getDeployHash());
+        if (deploy != null) {
+            complete(deploy, event.getExecutionResult());
+        }
+    }
+
+    /**
+     * Stops tracking, the futures of the deploys still pending are cancelled
+     */
+    @Override
+    public void close() {
+        closed = true;
+        poller.cancel(false);
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+        if (eventStream != null) {
+            eventStream.close();
+        }
+        for (final Pending deploy : pending.values()) {
+            deploy.future.cancel(false);
+        }
+        pending.clear();
+        due.clear();
+    }
+
+    /**
+     * @return the number of deploys waiting to be executed
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of batches of info_get_deploy sent to the node
+     */
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    /**
+     * @return the number of deploys whose execution result has been obtained
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * @return the number of deploys dropped as they expired before they were executed
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    private void pollDue() {
+        final List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed && due.drainTo(batch, batchSize) > 0) {
+                batch.removeIf(deploy -> deploy.future.isDone());
+                if (!batch.isEmpty()) {
+                    poll(batch);
+                }
+                batch.clear();
+            }
+        } catch (RuntimeException e) {
+            // Never thrown out of the task as that would stop it being scheduled, the deploys drained from the queue
+            // are failed as they would otherwise never be polled again
+            batch.forEach(deploy -> fail(deploy, e));
+            try {
+                errorListener.accept(e);
+            } catch (RuntimeException listenerError) {
+                // The listener must not stop the polling
+            }
+        }
+    }
+
+    private void poll(final List<Pending> batch) {
+
+        final List<Digest> deployHashes = new ArrayList<>(batch.size());
+        batch.forEach(deploy -> deployHashes.add(deploy.deployHash));
+
+        final List<RpcResult<DeployInfo>> results;
+        try {
+            pollCount.incrementAndGet();
+            results = nodeClient.getDeployInfos(deployHashes);
+        } catch (RuntimeException e) {
+            // Deploys still expire while the node cannot be reached, the others are polled again after their interval
+            batch.forEach(this::expireOrReschedule);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            final Pending deploy = batch.get(i);
+            final RpcResult<DeployInfo> result = results.get(i);
+
+            // A failure is usually a deploy the node has not yet received from the node it was put to
+            if (result.isSuccess()) {
+                final DeployInfo deployInfo = result.getValue();
+                if (deployInfo.isExecuted()) {
+                    complete(deploy, deployInfo.getExecutionResults().get(0));
+                    continue;
+                }
+                deploy.expiresAt = deployInfo.getExpiresAt();
+            }
+
+            expireOrReschedule(deploy);
+        }
+    }
+
+    private void expireOrReschedule(final Pending deploy) {
+        if (System.currentTimeMillis() > deploy.expiresAt + expiryGraceMillis) {
+            expire(deploy);
+        } else {
+            reschedule(deploy);
+        }
+    }
+
+    private void reschedule(final Pending deploy) {
+        if (deploy.future.isDone()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long untilExpiredNanos = TimeUnit.MILLISECONDS.toNanos(deploy.expiresAt + expiryGraceMillis - System.currentTimeMillis());
+        deploy.intervalNanos = eventStream != null ? maxIntervalNanos : Math.min(deploy.intervalNanos * 2, maxIntervalNanos);
+        // Polled once more as soon as it expires so that it is not tracked for up to an interval longer than needed
+        deploy.nextPollNanos = now + Math.max(0, Math.min(deploy.intervalNanos, untilExpiredNanos + 1));
+        due.add(deploy);
+    }
+
+    private void complete(final Pending deploy, final ExecutionResult executionResult) {
+        if (pending.remove(deploy.deployHash, deploy)) {
+            completedCount.incrementAndGet();
+        }
+        deploy.future.complete(executionResult);
+    }
+
+    private void fail(final Pending deploy, final Throwable error) {
+        pending.remove(deploy.deployHash, deploy);
+        deploy.future.completeExceptionally(error);
+    }
+
+    private void expire(final Pending deploy) {
+        if (pending.remove(deploy.deployHash, deploy)) {
+            expiredCount.incrementAndGet();
+        }
+        deploy.future.completeExceptionally(new DeployExpiredException(deploy.deployHash));
+    }
+
+    /**
+     * A deploy being tracked, ordered in the queue of due deploys by the time it is next polled
+     */
+    private class Pending implements Delayed {
+
+        private final Digest deployHash;
+        private final CompletableFuture<ExecutionResult> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+        private long intervalNanos = minIntervalNanos;
+        private long nextPollNanos;
+
+        private Pending(final Digest deployHash, final long expiresAt, final long nextPollNanos) {
+            this.deployHash = deployHash;
+            this.expiresAt = expiresAt;
+            this.nextPollNanos = nextPollNanos;
+            // Stops polling a deploy whose future is cancelled by the caller
+            future.whenComplete((result, error) -> pending.remove(deployHash, this));
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(nextPollNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return Long.compare(nextPollNanos, ((Pending) other).nextPollNanos);
+        }
+    }
+}
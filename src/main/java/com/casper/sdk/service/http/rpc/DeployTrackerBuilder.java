@@ -0,0 +1,126 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.http.event.EventStreamBuilder;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Builder for a {@link DeployTracker}
+ */
+public class DeployTrackerBuilder {
+
+    private final NodeClient nodeClient;
+    private long minIntervalNanos = TimeUnit.SECONDS.toNanos(2);
+    private long maxIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+    private int batchSize = 100;
+    private long expiryGraceMillis = TimeUnit.SECONDS.toMillis(30);
+    private EventStreamBuilder eventStreamBuilder;
+    private ScheduledExecutorService scheduler;
+    private Consumer<Throwable> errorListener = error -> {
+    };
+
+    /**
+     * @param nodeClient the client the deploys are polled with
+     */
+    public DeployTrackerBuilder(final NodeClient nodeClient) {
+        this.nodeClient = nodeClient;
+    }
+
+    /**
+     * Sets the interval between polls of a deploy, which starts at the minimum and doubles after each poll
+     *
+     * @param min  the delay before a deploy is first polled
+     * @param max  the longest interval between polls
+     * @param unit the unit of the intervals
+     * @return this builder
+     */
+    public DeployTrackerBuilder pollInterval(final long min, final long max, final TimeUnit unit) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid poll interval min: " + min + " max: " + max);
+        }
+        this.minIntervalNanos = unit.toNanos(min);
+        this.maxIntervalNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * @param batchSize the most deploys polled in a single JSON-RPC batch
+     * @return this builder
+     */
+    public DeployTrackerBuilder batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param grace how long after its expiry a deploy is still waited for
+     * @param unit  the unit of the grace period
+     * @return this builder
+     */
+    public DeployTrackerBuilder expiryGrace(final long grace, final TimeUnit unit) {
+        if (grace < 0) {
+            throw new IllegalArgumentException("grace must not be negative: " + grace);
+        }
+        this.expiryGraceMillis = unit.toMillis(grace);
+        return this;
+    }
+
+    /**
+     * Completes the deploys from the node's DeployProcessed events, the tracker adds its listener to the builder and
+     * closes the stream when it is closed
+     *
+     * @param eventStreamBuilder the builder of the stream with its endpoint set
+     * @return this builder
+     */
+    public DeployTrackerBuilder eventStream(final EventStreamBuilder eventStreamBuilder) {
+        this.eventStreamBuilder = eventStreamBuilder;
+        return this;
+    }
+
+    /**
+     * @param scheduler the scheduler the deploys are polled on, a single daemon thread is used if not provided
+     * @return this builder
+     */
+    public DeployTrackerBuilder scheduler(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * @param errorListener receives unexpected failures to poll a batch of deploys, the deploys of the batch are failed
+     *                      with the same exception
+     * @return this builder
+     */
+    public DeployTrackerBuilder errorListener(final Consumer<Throwable> errorListener) {
+        this.errorListener = errorListener;
+        return this;
+    }
+
+    public DeployTracker build() {
+        return new DeployTracker(
+                nodeClient,
+                scheduler != null ? scheduler : createScheduler(),
+                scheduler == null,
+                minIntervalNanos,
+                maxIntervalNanos,
+                batchSize,
+                expiryGraceMillis,
+                eventStreamBuilder,
+                errorListener
+        );
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "casper-deploy-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
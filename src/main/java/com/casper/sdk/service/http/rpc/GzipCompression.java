@@ -0,0 +1,258 @@
+package com.casper.sdk.service.http.rpc;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.ForwardingSource;
+import okio.GzipSink;
+import okio.Okio;
+import okio.Sink;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gzip compression of the calls to the nodes. Installed on the HTTP client by {@link NodeClientConfigBuilder}, it
+ * compresses request bodies at or above a size threshold and counts the bytes of requests and responses both as sent
+ * over the wire and uncompressed so that the saving can be monitored. Responses are decoded by OkHttp, which asks for
+ * gzip responses, so the compressed bytes of a response are counted by the {@link #getNetworkInterceptor() network
+ * interceptor} that sees the response as received.
+ * <p>
+ * Whether a request body whose length is unknown, such as a streamed JSON-RPC body, is compressed is decided by writing
+ * at most the threshold's worth of the body. A smaller body is sent from that buffer while a larger body is written
+ * again, streamed through the compression to the connection. Only compress requests when the nodes accept gzip request
+ * bodies, or behind a proxy that decodes them.
+ */
+public class GzipCompression implements Interceptor {
+
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String GZIP = "gzip";
+
+    /** The smallest request body compressed */
+    private final long minRequestBytes;
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong requestWireBytes = new AtomicLong();
+    private final AtomicLong compressedRequestCount = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final AtomicLong responseWireBytes = new AtomicLong();
+    private final AtomicLong compressedResponseCount = new AtomicLong();
+    private final Interceptor networkInterceptor = this::countReceived;
+
+    /**
+     * Compresses request bodies of at least the provided size
+     *
+     * @param minRequestBytes the smallest request body compressed
+     */
+    public GzipCompression(final long minRequestBytes) {
+        if (minRequestBytes < 0) {
+            throw new IllegalArgumentException("minRequestBytes must not be negative: " + minRequestBytes);
+        }
+        this.minRequestBytes = minRequestBytes;
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+        final Request request = chain.request();
+        final RequestBody body = request.body();
+        final boolean compressible = body != null && !body.isOneShot() && !body.isDuplex() && request.header(CONTENT_ENCODING) == null;
+        final Response response = chain.proceed(compressible ? compress(request, body) : request);
+        // Read once decoded by OkHttp
+        return count(response, responseBytes);
+    }
+
+    /**
+     * @return the interceptor that counts the bytes of responses as received, installed as a network interceptor
+     */
+    public Interceptor getNetworkInterceptor() {
+        return networkInterceptor;
+    }
+
+    /**
+     * @return the uncompressed bytes of the request bodies
+     */
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * @return the bytes of the request bodies as sent, compressed or not
+     */
+    public long getRequestWireBytes() {
+        return requestWireBytes.get();
+    }
+
+    /**
+     * @return the number of request bodies sent compressed
+     */
+    public long getCompressedRequestCount() {
+        return compressedRequestCount.get();
+    }
+
+    /**
+     * @return the uncompressed bytes of the response bodies read
+     */
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    /**
+     * @return the bytes of the response bodies read as received, compressed or not
+     */
+    public long getResponseWireBytes() {
+        return responseWireBytes.get();
+    }
+
+    /**
+     * @return the number of response bodies received compressed
+     */
+    public long getCompressedResponseCount() {
+        return compressedResponseCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "GzipCompression{" +
+               "minRequestBytes=" + minRequestBytes +
+               '}';
+    }
+
+    private Request compress(final Request request, final RequestBody body) throws IOException {
+
+        final long length = body.contentLength();
+        if (length >= 0 && length < minRequestBytes) {
+            requestBytes.addAndGet(length);
+            requestWireBytes.addAndGet(length);
+            return request;
+        }
+
+        if (length < 0) {
+            final Buffer head = new Buffer();
+            if (writeBelowThreshold(body, head)) {
+                requestBytes.addAndGet(head.size());
+                requestWireBytes.addAndGet(head.size());
+                return request.newBuilder().method(request.method(), RequestBody.create(head.readByteString(), body.contentType())).build();
+            }
+        }
+
+        return request.newBuilder()
+                .header(CONTENT_ENCODING, GZIP)
+                .method(request.method(), new GzipRequestBody(body))
+                .build();
+    }
+
+    /**
+     * Writes a body of unknown length to a buffer unless it reaches the threshold
+     *
+     * @return true if the whole body was written as it is smaller than the threshold
+     */
+    private boolean writeBelowThreshold(final RequestBody body, final Buffer head) throws IOException {
+        try (final BufferedSink sink = Okio.buffer(new ForwardingSink(head) {
+            @Override
+            public void write(final Buffer source, final long byteCount) throws IOException {
+                super.write(source, byteCount);
+                if (head.size() >= minRequestBytes) {
+                    throw new ThresholdReachedException();
+                }
+            }
+        })) {
+            body.writeTo(sink);
+        } catch (ThresholdReachedException e) {
+            return false;
+        }
+        return head.size() < minRequestBytes;
+    }
+
+    private Response countReceived(final Chain chain) throws IOException {
+        final Response response = chain.proceed(chain.request());
+        if (GZIP.equalsIgnoreCase(response.header(CONTENT_ENCODING))) {
+            compressedResponseCount.incrementAndGet();
+        }
+        return count(response, responseWireBytes);
+    }
+
+    private static Response count(final Response response, final AtomicLong counter) {
+        final ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        final Source counted = new ForwardingSource(body.source()) {
+            @Override
+            public long read(final Buffer sink, final long byteCount) throws IOException {
+                final long read = super.read(sink, byteCount);
+                if (read > 0) {
+                    counter.addAndGet(read);
+                }
+                return read;
+            }
+        };
+        return response.newBuilder().body(ResponseBody.create(Okio.buffer(counted), body.contentType(), body.contentLength())).build();
+    }
+
+    /**
+     * A request body streamed through gzip to the connection each time it is sent
+     */
+    private class GzipRequestBody extends RequestBody {
+
+        private final RequestBody body;
+
+        private GzipRequestBody(final RequestBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public void writeTo(final BufferedSink sink) throws IOException {
+            final Sink wire = new ForwardingSink(sink) {
+                @Override
+                public void write(final Buffer source, final long byteCount) throws IOException {
+                    super.write(source, byteCount);
+                    requestWireBytes.addAndGet(byteCount);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // The connection's sink is closed by OkHttp
+                    flush();
+                }
+            };
+            final BufferedSink uncompressed = Okio.buffer(new ForwardingSink(new GzipSink(wire)) {
+                @Override
+                public void write(final Buffer source, final long byteCount) throws IOException {
+                    super.write(source, byteCount);
+                    requestBytes.addAndGet(byteCount);
+                }
+            });
+            body.writeTo(uncompressed);
+            // Writes the gzip trailer
+            uncompressed.close();
+            compressedRequestCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops the writing of a body once it is known to be large enough to compress
+     */
+    private static class ThresholdReachedException extends IOException {
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
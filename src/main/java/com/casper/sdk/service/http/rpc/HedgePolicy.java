@@ -0,0 +1,138 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy for hedging idempotent RPC calls. When a call has not been answered within a percentile of the recent
+ * latencies of its method a duplicate is sent to another node, the first response wins and the other call is
+ * cancelled. The number of hedges is limited by a budget that is a fraction of the calls made so that hedging cannot
+ * double the load on the nodes when they are all slow.
+ */
+public class HedgePolicy {
+
+    /** The maximum number of hedges that can be saved up while calls are fast */
+    private static final double MAX_TOKENS = 10;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int windowSize;
+    private final int minSamples;
+    private final double budgetRatio;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+    private double tokens;
+
+    HedgePolicy(final double percentile,
+                final long minDelayNanos,
+                final int windowSize,
+                final int minSamples,
+                final double budgetRatio,
+                final ScheduledExecutorService scheduler) {
+        this.percentile = percentile;
+        this.minDelayNanos = minDelayNanos;
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.budgetRatio = budgetRatio;
+        this.scheduler = scheduler;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    /**
+     * @return the number of calls that were eligible for hedging
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * @return the number of duplicate calls sent
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return the number of duplicate calls that answered before the original call
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /**
+     * @return the number of hedges that were not sent because the budget was used up
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    /**
+     * Obtains the time to wait for a response before hedging a call
+     *
+     * @param methodName the name of the RPC method
+     * @return the delay in nanoseconds or -1 if too few calls have completed to know the latency of the method
+     */
+    long getDelayNanos(final String methodName) {
+        final LatencyWindow window = windows.get(methodName);
+        if (window == null || window.getCount() < minSamples) {
+            return -1;
+        }
+        return Math.max(minDelayNanos, window.getPercentileNanos());
+    }
+
+    void recordLatency(final String methodName, final long latencyNanos) {
+        windows.computeIfAbsent(methodName, name -> new LatencyWindow(windowSize, percentile)).record(latencyNanos);
+    }
+
+    /**
+     * Records a call that may be hedged, each call adds a fraction of a hedge to the budget
+     */
+    synchronized void onCall() {
+        callCount.incrementAndGet();
+        tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+    }
+
+    /**
+     * Takes a hedge from the budget
+     *
+     * @return true if the budget allows a hedge to be sent
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (tokens >= 1) {
+            tokens--;
+            hedgeCount.incrementAndGet();
+            return true;
+        }
+        budgetExhaustedCount.incrementAndGet();
+        return false;
+    }
+
+    void onHedgeWin() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    ScheduledFuture<?> schedule(final Runnable hedge, final long delayNanos) {
+        return scheduler.schedule(hedge, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgePolicy{" +
+               "percentile=" + percentile +
+               ", budgetRatio=" + budgetRatio +
+               ", callCount=" + callCount +
+               ", hedgeCount=" + hedgeCount +
+               ", hedgeWinCount=" + hedgeWinCount +
+               '}';
+    }
+}
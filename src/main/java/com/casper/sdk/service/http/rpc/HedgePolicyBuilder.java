@@ -0,0 +1,100 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link HedgePolicy}
+ */
+public class HedgePolicyBuilder {
+
+    private double percentile = 0.95;
+    private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private int windowSize = 1000;
+    private int minSamples = 20;
+    private double budgetRatio = 0.1;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param percentile the percentile of recent latencies, between 0 and 1, after which a call is hedged
+     * @return this builder
+     */
+    public HedgePolicyBuilder percentile(final double percentile) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+        }
+        this.percentile = percentile;
+        return this;
+    }
+
+    /**
+     * @param minDelay the minimum time to wait before hedging a call however fast the recent calls were
+     * @param unit     the unit of the delay
+     * @return this builder
+     */
+    public HedgePolicyBuilder minDelay(final long minDelay, final TimeUnit unit) {
+        if (minDelay < 0) {
+            throw new IllegalArgumentException("minDelay must not be negative: " + minDelay);
+        }
+        this.minDelayNanos = unit.toNanos(minDelay);
+        return this;
+    }
+
+    /**
+     * Sets the number of recent latencies of each method the percentile is computed from and the number that must be
+     * recorded before calls of the method are hedged
+     *
+     * @param windowSize the number of latencies kept per method
+     * @param minSamples the number of latencies required before hedging
+     * @return this builder
+     */
+    public HedgePolicyBuilder window(final int windowSize, final int minSamples) {
+        if (windowSize < 1 || minSamples < 1 || minSamples > windowSize) {
+            throw new IllegalArgumentException("Invalid window size: " + windowSize + " min samples: " + minSamples);
+        }
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    /**
+     * @param budgetRatio the maximum number of hedges as a fraction of calls, eg 0.1 allows at most 10% extra load
+     * @return this builder
+     */
+    public HedgePolicyBuilder budget(final double budgetRatio) {
+        if (budgetRatio <= 0 || budgetRatio > 1) {
+            throw new IllegalArgumentException("budgetRatio must be greater than 0 and at most 1: " + budgetRatio);
+        }
+        this.budgetRatio = budgetRatio;
+        return this;
+    }
+
+    /**
+     * @param scheduler the scheduler that sends hedges, a single daemon thread is used if not provided
+     * @return this builder
+     */
+    public HedgePolicyBuilder scheduler(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public HedgePolicy build() {
+        return new HedgePolicy(
+                percentile,
+                minDelayNanos,
+                windowSize,
+                minSamples,
+                budgetRatio,
+                scheduler != null ? scheduler : createScheduler()
+        );
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "casper-hedge-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,15 +1,32 @@
 package com.casper.sdk.service.http.rpc;
 
+import com.casper.sdk.exceptions.ConversionException;
 import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.exceptions.ValueNotFoundException;
 import com.casper.sdk.service.json.JsonConversionService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import okhttp3.*;
+import okio.Okio;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Optional;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 
 /**
- * All used HTTP methods
+ * All used HTTP methods. Each call is routed to a node of the {@link NodePool}, calls that only read from the node are
+ * retried on another node if the node they were sent to fails. When a {@link HedgePolicy} is provided slow idempotent
+ * calls are also sent to a second node. When a {@link RetryPolicy} is provided calls that failed on every node are
+ * retried after a backoff, apart from the attempts of hedged calls, and calls are not sent to nodes whose circuit
+ * breaker is open. When a {@link RateLimiter}
+ * is provided each call must be admitted by the limiter before it is sent. The request bodies of the calls are compressed
+ * when the client is configured with a {@link GzipCompression}.
  */
 public class HttpMethods {
 
@@ -17,65 +34,746 @@ public class HttpMethods {
     public static final String ACCEPT = "Accept";
     public static final String CONTENT_TYPE = "Content-type";
     public static final String RPC = "rpc";
+    private static final String ID = "id";
     private static final MediaType JSON = MediaType.get(APPLICATION_JSON);
-    private final OkHttpClient client = new OkHttpClient();
+    private static final BodyReader<String> STRING_READER = ResponseBody::string;
+    private final OkHttpClient client;
     private final JsonConversionService jsonConversionService;
-    private final String url;
-    private final int port;
+    private final NodePool nodePool;
+    /** The policy for hedging slow calls, null if calls are not hedged */
+    private final HedgePolicy hedgePolicy;
+    /** The policy for retrying failed calls, null if calls are not retried */
+    private final RetryPolicy retryPolicy;
+    /** The limiter calls are admitted by, null if calls are not limited */
+    private final RateLimiter rateLimiter;
 
     public HttpMethods(final JsonConversionService jsonConversionService, final String url, int port) {
+        this(jsonConversionService, url, port, new OkHttpClient());
+    }
+
+    /**
+     * Creates the HTTP methods using the provided client, the client's {@link Dispatcher} bounds the number of
+     * concurrent asynchronous calls.
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param url                   the url of the node
+     * @param port                  the RPC port of the node
+     * @param client                the HTTP client to issue calls with
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final String url,
+                       final int port,
+                       final OkHttpClient client) {
+        this(jsonConversionService, NodePool.of(url, port), client);
+    }
+
+    /**
+     * Creates the HTTP methods that spread calls across a pool of nodes
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param nodePool              the nodes to call
+     * @param client                the HTTP client to issue calls with
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final NodePool nodePool,
+                       final OkHttpClient client) {
+        this(jsonConversionService, nodePool, client, null);
+    }
+
+    /**
+     * Creates the HTTP methods that spread calls across a pool of nodes using the client and policies of a
+     * configuration
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param nodePool              the nodes to call
+     * @param config                the client and policies to call the nodes with
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final NodePool nodePool,
+                       final NodeClientConfig config) {
+        this(
+                jsonConversionService,
+                nodePool,
+                config.getHttpClient(),
+                config.getHedgePolicy(),
+                config.getRetryPolicy(),
+                config.getRateLimiter()
+        );
+    }
+
+    /**
+     * Creates the HTTP methods that spread calls across a pool of nodes and hedge slow idempotent calls
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param nodePool              the nodes to call
+     * @param client                the HTTP client to issue calls with
+     * @param hedgePolicy           the policy for hedging slow calls or null to disable hedging
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final NodePool nodePool,
+                       final OkHttpClient client,
+                       final HedgePolicy hedgePolicy) {
+        this(jsonConversionService, nodePool, client, hedgePolicy, null);
+    }
+
+    /**
+     * Creates the HTTP methods that spread calls across a pool of nodes, hedge slow idempotent calls and retry failed
+     * calls
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param nodePool              the nodes to call
+     * @param client                the HTTP client to issue calls with
+     * @param hedgePolicy           the policy for hedging slow calls or null to disable hedging
+     * @param retryPolicy           the policy for retrying failed calls or null to disable retries
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final NodePool nodePool,
+                       final OkHttpClient client,
+                       final HedgePolicy hedgePolicy,
+                       final RetryPolicy retryPolicy) {
+        this(jsonConversionService, nodePool, client, hedgePolicy, retryPolicy, null);
+    }
+
+    /**
+     * Creates the HTTP methods that spread calls across a pool of nodes, hedge slow idempotent calls, retry failed
+     * calls and limit the rate of calls to each node
+     *
+     * @param jsonConversionService the service used to write the RPC methods as JSON
+     * @param nodePool              the nodes to call
+     * @param client                the HTTP client to issue calls with
+     * @param hedgePolicy           the policy for hedging slow calls or null to disable hedging
+     * @param retryPolicy           the policy for retrying failed calls or null to disable retries
+     * @param rateLimiter           the limiter calls are admitted by or null to send calls without limit
+     */
+    public HttpMethods(final JsonConversionService jsonConversionService,
+                       final NodePool nodePool,
+                       final OkHttpClient client,
+                       final HedgePolicy hedgePolicy,
+                       final RetryPolicy retryPolicy,
+                       final RateLimiter rateLimiter) {
         this.jsonConversionService = jsonConversionService;
-        this.url = url;
-        this.port = port;
+        this.nodePool = nodePool;
+        this.client = client;
+        this.hedgePolicy = hedgePolicy;
+        this.retryPolicy = retryPolicy;
+        this.rateLimiter = rateLimiter;
+        nodePool.setProber(this::probe);
+    }
+
+    public NodePool getNodePool() {
+        return nodePool;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
     }
 
     Optional<String> rpcCallMethod(final Method method) throws HttpException {
+        final RequestBody body = buildRpcBody(method);
+        if (isHedged(method)) {
+            try {
+                return Optional.ofNullable(new HedgedCall(method.getMethod(), endpoint -> buildRpcRequest(endpoint, body)).start().join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof HttpException ? (HttpException) e.getCause() : new HttpException(e.getMessage());
+            }
+        }
+        return Optional.ofNullable(call(namesOf(method), endpoint -> buildRpcRequest(endpoint, body), method.isIdempotent()));
+    }
 
+    /**
+     * Calls the RPC method and streams the response to the reader, the response is never held as a string. The call is
+     * retried on another node if the node fails before the response has been read.
+     *
+     * @param method the method to call against a node
+     * @param reader the reader of the response, called with the parser before the first token of the response
+     * @param <T>    the type of the value read
+     * @return the value read from the response
+     */
+    <T> T rpcCallMethod(final Method method, final ResultReader<T> reader) throws HttpException {
+        final RequestBody body = buildRpcBody(method);
+        final T value = call(namesOf(method), endpoint -> buildRpcRequest(endpoint, body), method.isIdempotent(), responseBody -> {
+            try (final JsonParser parser = jsonConversionService.createParser(responseBody.byteStream())) {
+                final T read = reader.read(parser);
+                // Consume the rest of the response so that the connection can be reused
+                responseBody.source().readAll(Okio.blackhole());
+                return read;
+            }
+        });
+        if (value == null) {
+            throw new ValueNotFoundException("For " + method);
+        }
+        return value;
+    }
+
+    /**
+     * Enqueues the RPC method with the client's dispatcher so that no thread is blocked while the call is in flight.
+     * Cancelling the returned future cancels the HTTP call.
+     *
+     * @param method the method to call against a node
+     * @return a future that completes with the JSON response
+     */
+    CompletableFuture<Optional<String>> rpcCallMethodAsync(final Method method) {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
         try {
+            final RequestBody body = buildRpcBody(method);
+            if (isHedged(method)) {
+                future = new HedgedCall(method.getMethod(), endpoint -> buildRpcRequest(endpoint, body)).start();
+            } else {
+                enqueue(future, namesOf(method), endpoint -> buildRpcRequest(endpoint, body), method.isIdempotent(), newTriedSet(), 1);
+            }
+        } catch (Exception e) {
+            future.completeExceptionally(e instanceof HttpException ? e : new HttpException(e.getMessage()));
+        }
+
+        final CompletableFuture<String> call = future;
+        final CompletableFuture<Optional<String>> result = call.thenApply(Optional::ofNullable);
+        // Propagate cancellation back to the in flight call
+        result.whenComplete((content, throwable) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
 
-            final String content = jsonConversionService.writeValueAsString(method);
-            final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
-            final RequestBody body = RequestBody.create(bytes, JSON);
+    /**
+     * Sends the methods to the node as a single JSON-RPC batch and demultiplexes the responses by method ID. A method
+     * whose response is absent from the batch response is absent from the returned map.
+     *
+     * @param methods the methods to call, each must have a unique ID
+     * @return the JSON response object of each method keyed by method ID
+     */
+    Map<Integer, String> rpcCallBatch(final List<Method> methods) throws HttpException {
 
-            final Request request = new Request.Builder()
-                    .url(buildRpcUrl())
-                    .header(ACCEPT, APPLICATION_JSON)
-                    .header(CONTENT_TYPE, APPLICATION_JSON)
-                    .post(body)
-                    .build();
+        final Set<Integer> ids = new HashSet<>();
+        final List<String> methodNames = new ArrayList<>(methods.size());
+        boolean idempotent = true;
+        for (final Method method : methods) {
+            if (!ids.add(method.getId())) {
+                throw new IllegalArgumentException("Duplicate method id " + method.getId() + " in batch");
+            }
+            methodNames.add(method.getMethod());
+            idempotent &= method.isIdempotent();
+        }
 
-            final Response response = client.newCall(request).execute();
-            //noinspection ConstantConditions
-            return Optional.ofNullable(response.body().string());
+        final RequestBody body = buildRpcBody(methods);
+        final String content = call(methodNames, endpoint -> buildRpcRequest(endpoint, body), idempotent);
 
-        } catch (Exception e) {
+        final JsonNode root;
+        try {
+            root = jsonConversionService.readTree(content);
+        } catch (IOException e) {
             throw new HttpException(e.getMessage());
         }
+
+        // The whole batch is rejected by the node with a single error response object
+        if (!root.isArray()) {
+            throw new HttpException("Batch rejected: " + content);
+        }
+
+        final Map<Integer, String> responses = new HashMap<>();
+        for (final JsonNode node : root) {
+            final JsonNode id = node.get(ID);
+            if (id != null && id.canConvertToInt()) {
+                responses.put(id.intValue(), node.toString());
+            }
+        }
+        return responses;
     }
 
     public Optional<String> callGetMethod(final String urlPath) {
+        return Optional.ofNullable(call(Collections.singletonList(urlPath), endpoint -> new Request.Builder()
+                .url(endpoint.buildUrl(urlPath))
+                .header(ACCEPT, APPLICATION_JSON)
+                .get()
+                .build(), true));
+    }
+
+    /**
+     * Sends a request to the best node, when the request is idempotent and the node fails the request is sent to the
+     * next best node until all nodes have failed. The request is then sent again after a backoff if the retry policy
+     * allows.
+     *
+     * @param methodNames    the names of the methods sent by the request that it is rate limited by
+     * @param requestFactory creates the request for the selected node
+     * @param idempotent     true if the request may be sent more than once
+     * @return the response body
+     */
+    private String call(final List<String> methodNames,
+                        final Function<NodeEndpoint, Request> requestFactory,
+                        final boolean idempotent) {
+        return call(methodNames, requestFactory, idempotent, STRING_READER);
+    }
+
+    private <T> T call(final List<String> methodNames,
+                       final Function<NodeEndpoint, Request> requestFactory,
+                       final boolean idempotent,
+                       final BodyReader<T> reader) {
+
+        for (int attempt = 1; ; attempt++) {
+
+            final Set<NodeEndpoint> tried = new HashSet<>();
+            HttpException failure = null;
+            boolean retryable = true;
+            NodeEndpoint endpoint;
+
+            while ((endpoint = nodePool.select(!idempotent, tried)) != null) {
+                tried.add(endpoint);
+                if (retryPolicy != null && !retryPolicy.tryAcquire(endpoint)) {
+                    failure = new HttpException("Circuit open for " + endpoint.buildUrl(RPC));
+                    continue;
+                }
+                final Request request;
+                try {
+                    request = requestFactory.apply(endpoint);
+                } catch (Exception e) {
+                    // Not sent so a trial call of a half-open breaker may be made by another call
+                    if (retryPolicy != null) {
+                        retryPolicy.onCancel(endpoint);
+                    }
+                    throw new HttpException(e.getMessage(), e);
+                }
+                final RateLimiter.Permit permit = admit(endpoint, methodNames, true);
+                try {
+                    return execute(endpoint, request, reader, permit);
+                } catch (RequestBodyException e) {
+                    // The payload is at fault rather than the node so no other node is tried
+                    throw new HttpException(e.getMessage(), e.getCause());
+                } catch (IOException e) {
+                    failure = new HttpException(e.getMessage(), e);
+                    // A deploy may only be sent again if it provably did not reach the node
+                    retryable = retryPolicy != null ? retryPolicy.isRetryable(idempotent, e) : idempotent;
+                    if (!retryable) {
+                        break;
+                    }
+                } catch (HttpException | ValueNotFoundException | ConversionException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new HttpException(e.getMessage());
+                }
+            }
+
+            if (failure == null) {
+                throw new HttpException("No node available");
+            }
+            final long delayNanos = retryable && retryPolicy != null ? retryPolicy.getRetryDelayNanos(idempotent, attempt) : -1;
+            if (delayNanos < 0) {
+                throw failure;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failure;
+            }
+        }
+    }
+
+    private <T> T execute(final NodeEndpoint endpoint,
+                          final Request request,
+                          final BodyReader<T> reader,
+                          final RateLimiter.Permit permit) throws IOException {
+
+        final long start = System.nanoTime();
+        nodePool.onStart(endpoint);
+        boolean answered = false;
+        boolean cancelled = false;
+
+        try (final Response response = client.newCall(request).execute()) {
+            checkStatus(response);
+            final ResponseBody body = response.body();
+            try {
+                final T value = body != null ? reader.read(body) : null;
+                answered = true;
+                return value;
+            } catch (RuntimeException e) {
+                // The node answered but not with the expected content
+                answered = true;
+                throw e;
+            }
+        } catch (RequestBodyException e) {
+            cancelled = true;
+            throw e;
+        } finally {
+            if (cancelled) {
+                onCancel(endpoint, start, permit);
+            } else if (answered) {
+                nodePool.onSuccess(endpoint, System.nanoTime() - start);
+            } else {
+                nodePool.onFailure(endpoint);
+            }
+            if (retryPolicy != null) {
+                if (answered) {
+                    retryPolicy.onSuccess(endpoint);
+                } else {
+                    retryPolicy.onFailure(endpoint);
+                }
+            }
+            if (permit != null && !cancelled) {
+                permit.release(!answered);
+            }
+        }
+    }
+
+    /**
+     * Releases a call that was not answered for reasons that say nothing about the health of the node
+     */
+    private void onCancel(final NodeEndpoint endpoint, final long start, final RateLimiter.Permit permit) {
+        nodePool.onCancel(endpoint, System.nanoTime() - start);
+        if (retryPolicy != null) {
+            retryPolicy.onCancel(endpoint);
+        }
+        if (permit != null) {
+            permit.cancel();
+        }
+    }
+
+    /**
+     * Admits a call with the rate limiter once the node's circuit breaker has let it through
+     *
+     * @return the permit to release once the call completes or null if calls are not limited
+     */
+    private RateLimiter.Permit admit(final NodeEndpoint endpoint, final List<String> methodNames, final boolean blocking) {
+        if (rateLimiter == null) {
+            return null;
+        }
+        try {
+            return rateLimiter.acquire(endpoint, methodNames, blocking);
+        } catch (HttpException e) {
+            // Not sent so a trial call of a half-open breaker may be made by another call
+            if (retryPolicy != null) {
+                retryPolicy.onCancel(endpoint);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isHedged(final Method method) {
+        return hedgePolicy != null && method.isIdempotent() && nodePool.size() > 1;
+    }
+
+    private static Set<NodeEndpoint> newTriedSet() {
+        return Collections.synchronizedSet(new HashSet<>());
+    }
+
+    /**
+     * Enqueues a request to the best node that has not been tried, when the request is idempotent and the node fails
+     * the request is sent to the next best node until all nodes have failed. The request is then enqueued again after
+     * a backoff if the retry policy allows.
+     *
+     * @param future         the future to complete with the response body
+     * @param methodNames    the names of the methods sent by the request that it is rate limited by
+     * @param requestFactory creates the request for the selected node
+     * @param idempotent     true if the request may be sent more than once
+     * @param tried          the nodes already sent the request, shared by all attempts of a hedged call
+     * @param attempt        the number of the attempt starting at one, zero for an attempt of a hedged call which is
+     *                       not retried after a backoff
+     */
+    private void enqueue(final CompletableFuture<String> future,
+                         final List<String> methodNames,
+                         final Function<NodeEndpoint, Request> requestFactory,
+                         final boolean idempotent,
+                         final Set<NodeEndpoint> tried,
+                         final int attempt) {
 
+        if (future.isDone()) {
+            // Cancelled while waiting out the backoff
+            return;
+        }
+        final NodeEndpoint endpoint = nodePool.select(!idempotent, tried);
+        if (endpoint == null) {
+            final HttpException failure = new HttpException("No node available");
+            if (tried.isEmpty()) {
+                future.completeExceptionally(failure);
+            } else {
+                retryOrFail(future, methodNames, requestFactory, idempotent, attempt, failure);
+            }
+            return;
+        }
+        tried.add(endpoint);
+        if (retryPolicy != null && !retryPolicy.tryAcquire(endpoint)) {
+            if (tried.size() < nodePool.size()) {
+                enqueue(future, methodNames, requestFactory, idempotent, tried, attempt);
+            } else {
+                retryOrFail(future, methodNames, requestFactory, idempotent, attempt, new HttpException("Circuit open for " + endpoint.buildUrl(RPC)));
+            }
+            return;
+        }
+
+        // Asynchronous calls are admitted without waiting so that no thread is blocked
+        final RateLimiter.Permit permit;
+        final Call call;
         try {
-            final Request request = new Request.Builder()
-                    .url(buildUrl(urlPath))
-                    .header(ACCEPT, APPLICATION_JSON)
-                    .get()
-                    .build();
+            permit = admit(endpoint, methodNames, false);
+        } catch (HttpException e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        try {
+            call = client.newCall(requestFactory.apply(endpoint));
+        } catch (Exception e) {
+            if (retryPolicy != null) {
+                retryPolicy.onCancel(endpoint);
+            }
+            if (permit != null) {
+                permit.cancel();
+            }
+            future.completeExceptionally(new HttpException(e.getMessage(), e));
+            return;
+        }
+
+        final long start = System.nanoTime();
+        nodePool.onStart(endpoint);
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(final Call call, final IOException e) {
+                if (call.isCanceled()) {
+                    // Cancelled by the caller so says nothing about the health of the node
+                    onCancel(endpoint, start, permit);
+                    future.completeExceptionally(new HttpException(e.getMessage()));
+                    return;
+                }
+                if (e instanceof RequestBodyException) {
+                    // The payload is at fault rather than the node so no other node is tried
+                    onCancel(endpoint, start, permit);
+                    future.completeExceptionally(new HttpException(e.getMessage(), e.getCause()));
+                    return;
+                }
+                nodePool.onFailure(endpoint);
+                if (retryPolicy != null) {
+                    retryPolicy.onFailure(endpoint);
+                }
+                if (permit != null) {
+                    permit.release(true);
+                }
+                if (idempotent && !future.isDone() && tried.size() < nodePool.size()) {
+                    enqueue(future, methodNames, requestFactory, true, tried, attempt);
+                } else if (retryPolicy != null && retryPolicy.isRetryable(idempotent, e)) {
+                    retryOrFail(future, methodNames, requestFactory, idempotent, attempt, new HttpException(e.getMessage(), e));
+                } else {
+                    future.completeExceptionally(new HttpException(e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                final String content;
+                try (final Response closeable = response) {
+                    content = readBody(closeable);
+                } catch (IOException e) {
+                    onFailure(call, e);
+                    return;
+                }
+                nodePool.onSuccess(endpoint, System.nanoTime() - start);
+                if (retryPolicy != null) {
+                    retryPolicy.onSuccess(endpoint);
+                }
+                if (permit != null) {
+                    permit.release(false);
+                }
+                future.complete(content);
+            }
+        });
+
+        future.whenComplete((content, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+    }
+
+    /**
+     * Enqueues a request that failed on every node it could be sent to again after a backoff, or fails it if the
+     * retry policy does not allow another attempt
+     */
+    private void retryOrFail(final CompletableFuture<String> future,
+                             final List<String> methodNames,
+                             final Function<NodeEndpoint, Request> requestFactory,
+                             final boolean idempotent,
+                             final int attempt,
+                             final HttpException failure) {
+
+        final long delayNanos = attempt > 0 && retryPolicy != null ? retryPolicy.getRetryDelayNanos(idempotent, attempt) : -1;
+        if (delayNanos < 0) {
+            future.completeExceptionally(failure);
+            return;
+        }
+        try {
+            retryPolicy.schedule(() -> enqueue(future, methodNames, requestFactory, idempotent, newTriedSet(), attempt + 1), delayNanos);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * A call that is sent to a second node if the first has not answered within the hedge delay. The first successful
+     * response completes the call and cancels the other attempt, the call only fails once every attempt has failed.
+     */
+    private class HedgedCall {
+
+        private final String methodName;
+        private final Function<NodeEndpoint, Request> requestFactory;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final Set<NodeEndpoint> tried = newTriedSet();
+        private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+        /** Attempts in flight plus one while the hedge may still be sent */
+        private int outstanding;
+        private Throwable failure;
 
-            final Response response = client.newCall(request).execute();
-            //noinspection ConstantConditions
-            return Optional.ofNullable(response.body().string());
+        private HedgedCall(final String methodName, final Function<NodeEndpoint, Request> requestFactory) {
+            this.methodName = methodName;
+            this.requestFactory = requestFactory;
+        }
+
+        private CompletableFuture<String> start() {
+
+            hedgePolicy.onCall();
+            final long delayNanos = hedgePolicy.getDelayNanos(methodName);
+
+            synchronized (this) {
+                outstanding = delayNanos < 0 ? 1 : 2;
+                attempt(false);
+                if (delayNanos >= 0 && !result.isDone()) {
+                    timer = hedgePolicy.schedule(this::hedge, delayNanos);
+                }
+            }
+
+            result.whenComplete((content, throwable) -> cancelAll());
+            return result;
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                if (tried.size() < nodePool.size() && hedgePolicy.tryAcquireHedge()) {
+                    // The hedge attempt takes the place of the pending hedge in the outstanding count
+                    attempt(true);
+                    return;
+                }
+            }
+            onAttemptFailed(null);
+        }
+
+        private void attempt(final boolean hedge) {
+            final long start = System.nanoTime();
+            final CompletableFuture<String> attempt = new CompletableFuture<>();
+            attempts.add(attempt);
+            attempt.whenComplete((content, throwable) -> {
+                if (throwable == null) {
+                    hedgePolicy.recordLatency(methodName, System.nanoTime() - start);
+                    if (result.complete(content) && hedge) {
+                        hedgePolicy.onHedgeWin();
+                    }
+                } else if (!attempt.isCancelled()) {
+                    onAttemptFailed(throwable);
+                }
+            });
+            enqueue(attempt, Collections.singletonList(methodName), requestFactory, true, tried, 0);
+        }
+
+        private void onAttemptFailed(final Throwable throwable) {
+            final Throwable cause;
+            synchronized (this) {
+                if (throwable != null) {
+                    failure = throwable;
+                }
+                cause = --outstanding == 0 ? failure : null;
+            }
+            if (cause != null) {
+                result.completeExceptionally(cause);
+            }
+        }
+
+        private synchronized void cancelAll() {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            for (final CompletableFuture<String> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
 
+    /**
+     * Sends an info_get_status call to an ejected node to test if it can be returned to the pool
+     *
+     * @param endpoint the node to probe
+     */
+    private void probe(final NodeEndpoint endpoint) {
+
+        final Request request;
+        try {
+            request = buildRpcRequest(endpoint, buildRpcBody(MethodFactory.nodeStatus()));
         } catch (Exception e) {
-            throw new HttpException(e.getMessage());
+            nodePool.onProbe(endpoint, false, 0);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(final Call call, final IOException e) {
+                nodePool.onProbe(endpoint, false, 0);
+            }
+
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                try (final Response closeable = response) {
+                    nodePool.onProbe(endpoint, closeable.isSuccessful(), System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    private static String readBody(final Response response) throws IOException {
+        checkStatus(response);
+        final ResponseBody body = response.body();
+        return body != null ? body.string() : null;
+    }
+
+    private static void checkStatus(final Response response) throws IOException {
+        // Server errors and throttling indicate the node cannot currently serve the request
+        if (response.code() >= 500 || response.code() == 429) {
+            throw new IOException("HTTP " + response.code() + " " + response.message());
         }
     }
 
-    private String buildUrl(final String urlPath) {
-        return url + ':' + port + '/' + urlPath;
+    private static List<String> namesOf(final Method method) {
+        return Collections.singletonList(method.getMethod());
+    }
+
+    private RequestBody buildRpcBody(final Object payload) {
+        return new JsonRequestBody(jsonConversionService, payload, JSON);
+    }
+
+    private Request buildRpcRequest(final NodeEndpoint endpoint, final RequestBody body) {
+        return new Request.Builder()
+                .url(endpoint.buildUrl(RPC))
+                .header(ACCEPT, APPLICATION_JSON)
+                .header(CONTENT_TYPE, APPLICATION_JSON)
+                .post(body)
+                .build();
     }
 
-    private String buildRpcUrl() {
-        return buildUrl(RPC);
+    /**
+     * Reads the body of a successful response
+     *
+     * @param <T> the type of the value read
+     */
+    private interface BodyReader<T> {
+        T read(ResponseBody body) throws IOException;
     }
 }
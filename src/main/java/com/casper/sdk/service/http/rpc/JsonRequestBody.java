@@ -0,0 +1,58 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.json.JsonConversionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * A request body that writes a JSON-RPC payload straight to the connection each time it is sent, so that the JSON of a
+ * large deploy is never held as a string or byte array. The length of the payload is not known until it has been
+ * written so the body is sent with chunked transfer encoding, which spares writing the payload a second time only to
+ * count its bytes.
+ * <p>
+ * A payload that cannot be written as JSON fails with a {@link RequestBodyException} so that it is not mistaken for a
+ * failure of the connection.
+ */
+class JsonRequestBody extends RequestBody {
+
+    private final JsonConversionService jsonConversionService;
+    private final Object payload;
+    private final MediaType contentType;
+
+    /**
+     * @param jsonConversionService the service used to write the payload
+     * @param payload               the method or batch of methods to write
+     * @param contentType           the type of the content
+     */
+    JsonRequestBody(final JsonConversionService jsonConversionService,
+                    final Object payload,
+                    final MediaType contentType) {
+        this.jsonConversionService = jsonConversionService;
+        this.payload = payload;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(final BufferedSink sink) throws IOException {
+        // The sink's stream writes through to the sink's buffer which the connection drains as it fills
+        try {
+            jsonConversionService.writeValue(payload, sink.outputStream());
+        } catch (JsonProcessingException e) {
+            throw new RequestBodyException("Unable to write request body: " + e.getOriginalMessage(), e);
+        }
+    }
+}
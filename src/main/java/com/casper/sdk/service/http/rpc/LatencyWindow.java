@@ -0,0 +1,47 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.Arrays;
+
+/**
+ * A sliding window of the most recent call latencies used to estimate a latency percentile
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private long percentileNanos = -1;
+    /** The percentile is recomputed once this many new samples have been recorded */
+    private final int recomputeInterval;
+    private int sinceRecompute;
+
+    LatencyWindow(final int size, final double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+        this.recomputeInterval = Math.max(1, size / 10);
+    }
+
+    synchronized void record(final long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++sinceRecompute >= recomputeInterval || percentileNanos < 0) {
+            sinceRecompute = 0;
+            final long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the latency percentile of the window or -1 if no latency has been recorded
+     */
+    synchronized long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
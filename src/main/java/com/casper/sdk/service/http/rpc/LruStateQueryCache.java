@@ -0,0 +1,118 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link StateQueryCache} bounded by an estimated memory budget that evicts the least recently used responses once
+ * the budget is exceeded
+ */
+public class LruStateQueryCache implements StateQueryCache {
+
+    /** Estimated bytes used by a map entry, its key object and the string headers */
+    private static final int ENTRY_OVERHEAD = 128;
+    /** The responses in least recently used order */
+    private final LinkedHashMap<Method, String> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long sizeInBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a new cache
+     *
+     * @param maxBytes the estimated number of bytes the cached responses may occupy
+     */
+    public LruStateQueryCache(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be greater than zero: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized String get(final Method method) {
+        final String response = responses.get(method);
+        if (response != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return response;
+    }
+
+    @Override
+    public synchronized void put(final Method method, final String response) {
+
+        final long weight = weigh(method, response);
+        if (weight > maxBytes) {
+            // Caching the response would evict everything else
+            return;
+        }
+
+        final String previous = responses.put(method, response);
+        if (previous != null) {
+            sizeInBytes -= weigh(method, previous);
+        }
+        sizeInBytes += weight;
+
+        final Iterator<Map.Entry<Method, String>> eldest = responses.entrySet().iterator();
+        while (sizeInBytes > maxBytes && eldest.hasNext()) {
+            final Map.Entry<Method, String> entry = eldest.next();
+            sizeInBytes -= weigh(entry.getKey(), entry.getValue());
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized int size() {
+        return responses.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized void clear() {
+        responses.clear();
+        sizeInBytes = 0;
+    }
+
+    private static long weigh(final Method method, final String response) {
+        // Strings are estimated at two bytes per char
+        return ENTRY_OVERHEAD + 2L * (response.length() + method.toString().length());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LruStateQueryCache{" +
+               "size=" + responses.size() +
+               ", sizeInBytes=" + sizeInBytes +
+               ", maxBytes=" + maxBytes +
+               ", hitCount=" + hitCount +
+               ", missCount=" + missCount +
+               ", evictionCount=" + evictionCount +
+               '}';
+    }
+}
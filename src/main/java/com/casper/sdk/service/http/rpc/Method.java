@@ -1,7 +1,11 @@
 package com.casper.sdk.service.http.rpc;
 
+import com.casper.sdk.Constants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Simple class to build up the rpc json call The class is instantiated and it's json conversion used as the rpc
@@ -10,7 +14,9 @@ import java.util.Map;
 public class Method {
 
     private static final String JSON_RPC = "2.0";
-    private static final int id = 1;
+    private static final int DEFAULT_ID = 1;
+    /** The id used to match the response to the request, must be unique within a batch */
+    private final int id;
     private final String method;
     /** The parameters that will be written as JSON */
     private final Map<String, Object> params;
@@ -20,10 +26,25 @@ public class Method {
     }
 
     public Method(final String method, final Map<String, Object> params) {
+        this(DEFAULT_ID, method, params);
+    }
+
+    public Method(final int id, final String method, final Map<String, Object> params) {
+        this.id = id;
         this.method = method;
         this.params = params;
     }
 
+    /**
+     * Creates a copy of this method with a new ID, used to give each method in a batch a unique ID
+     *
+     * @param id the ID of the new method
+     * @return the copied method
+     */
+    public Method withId(final int id) {
+        return new Method(id, method, params);
+    }
+
     public int getId() {
         return id;
     }
@@ -40,6 +61,33 @@ public class Method {
         return params;
     }
 
+    /**
+     * Indicates if the method can safely be sent more than once, all methods except account_put_deploy only read from
+     * the node
+     *
+     * @return true if the method is idempotent
+     */
+    @JsonIgnore
+    public boolean isIdempotent() {
+        return !Constants.ACCOUNT_PUT_DEPLOY.equals(method);
+    }
+
+    /**
+     * Methods are equal if they call the same method with the same parameters, the ID is not compared
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Method other = (Method) o;
+        return Objects.equals(method, other.method) && Objects.equals(params, other.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, params);
+    }
+
     @Override
     public String toString() {
         return "Method{" +
@@ -2,18 +2,25 @@ package com.casper.sdk.service.http.rpc;
 
 import com.casper.sdk.Constants;
 import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import static com.casper.sdk.Constants.RESULT;
 
 /**
- * ENUM that provides the methods to extract the requested key from the returned json
+ * ENUM that provides the methods to extract the requested key from the returned json. As well as extracting the key
+ * from a JSON string each method can stream the response to the key and hand a {@link ResultReader} the parser
+ * positioned at it, so that large responses are never built into a tree or copied into intermediate strings.
  */
 public enum MethodEnums {
 
-    ACCOUNT_INFO {
+    ACCOUNT_INFO(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -24,20 +31,20 @@ public enum MethodEnums {
         }
     },
 
-    ACCOUNT_PUT_DEPLOY {
+    ACCOUNT_PUT_DEPLOY(RESULT, Constants.DEPLOY_HASH) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
-            JsonNode resultNode = null;
+            JsonNode rootNode = null;
             try {
-                resultNode = getResultNode(result);
-                return resultNode.get(Constants.DEPLOY_HASH).textValue();
+                rootNode = getRootNode(result);
+                return rootNode.get(RESULT).get(Constants.DEPLOY_HASH).textValue();
             } catch (Exception e) {
-                throw new ValueNotFoundException("deploy_hash not found " + buildErrorMessage(resultNode));
+                throw new ValueNotFoundException("deploy_hash not found " + buildErrorMessage(rootNode));
             }
         }
     },
 
-    CHAIN_GET_BLOCK {
+    CHAIN_GET_BLOCK(RESULT, Constants.BLOCK) {
         @Override
         public String getValue(String result) throws ValueNotFoundException {
             try {
@@ -48,7 +55,7 @@ public enum MethodEnums {
         }
     },
 
-    CHAIN_GET_BLOCK_TRANSFERS {
+    CHAIN_GET_BLOCK_TRANSFERS(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -59,7 +66,7 @@ public enum MethodEnums {
         }
     },
 
-    CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK {
+    CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -70,20 +77,20 @@ public enum MethodEnums {
         }
     },
 
-    INFO_GET_DEPLOY {
+    INFO_GET_DEPLOY(RESULT, Constants.DEPLOY) {
         @Override
         public String getValue(String result) throws ValueNotFoundException {
-            JsonNode resultNode = null;
+            JsonNode rootNode = null;
             try {
-                resultNode = getResultNode(result);
-                return resultNode.get(Constants.DEPLOY).toPrettyString();
+                rootNode = getRootNode(result);
+                return rootNode.get(RESULT).get(Constants.DEPLOY).toPrettyString();
             } catch (Exception e) {
-                throw new ValueNotFoundException("deploy not found " + buildErrorMessage(resultNode));
+                throw new ValueNotFoundException("deploy not found " + buildErrorMessage(rootNode));
             }
         }
     },
 
-    INFO_GET_PEERS {
+    INFO_GET_PEERS(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -94,7 +101,7 @@ public enum MethodEnums {
         }
     },
 
-    INFO_GET_STATUS {
+    INFO_GET_STATUS(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -105,7 +112,7 @@ public enum MethodEnums {
         }
     },
 
-    RPC_DISCOVER {
+    RPC_DISCOVER(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -116,7 +123,7 @@ public enum MethodEnums {
         }
     },
 
-    STATE_GET_BALANCE {
+    STATE_GET_BALANCE(RESULT, Constants.BALANCE_VALUE) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -127,20 +134,20 @@ public enum MethodEnums {
         }
     },
 
-    STATE_GET_ITEM {
+    STATE_GET_ITEM(RESULT, Constants.STORED_VALUE, Constants.ACCOUNT, Constants.MAIN_PURSE) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
-            JsonNode resultNode = null;
+            JsonNode rootNode = null;
             try {
-                resultNode = getResultNode(result);
-                return resultNode.get("stored_value").get("Account").get("main_purse").textValue();
+                rootNode = getRootNode(result);
+                return rootNode.get(RESULT).get(Constants.STORED_VALUE).get(Constants.ACCOUNT).get(Constants.MAIN_PURSE).textValue();
             } catch (Exception e) {
-                throw new ValueNotFoundException("main_purse not found " + buildErrorMessage(resultNode));
+                throw new ValueNotFoundException("main_purse not found " + buildErrorMessage(rootNode));
             }
         }
     },
 
-    STATE_GET_AUCTION_INFO {
+    STATE_GET_AUCTION_INFO(RESULT) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -151,7 +158,7 @@ public enum MethodEnums {
         }
     },
 
-    STATE_ROOT_HASH {
+    STATE_ROOT_HASH(RESULT, Constants.STATE_ROOT_HASH) {
         @Override
         public String getValue(final String result) throws ValueNotFoundException {
             try {
@@ -162,15 +169,141 @@ public enum MethodEnums {
         }
     };
 
+    private static final String ERROR = "error";
+    /** Shared as creating a mapper per response is expensive, the mapper is thread safe once configured */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /** The field names from the root of the response to the value this method extracts */
+    private final String[] path;
+
+    MethodEnums(final String... path) {
+        this.path = path;
+    }
+
     abstract String getValue(final String result) throws ValueNotFoundException;
 
+    /**
+     * Creates a reader of a whole response that streams it to the value this method extracts and reads the value
+     * with the provided reader
+     *
+     * @param valueReader the reader of the value
+     * @param subPath     the field names from the value this method extracts to a value nested within it
+     * @param <T>         the type of the value
+     * @return the reader of the response
+     */
+    <T> ResultReader<T> reader(final ResultReader<T> valueReader, final String... subPath) {
+        final String[] fullPath = getPath(subPath);
+        return parser -> readValue(parser, fullPath, valueReader);
+    }
+
+    /**
+     * Reads the value this method extracts from a JSON string without building a tree of the whole response
+     *
+     * @param result      the JSON response
+     * @param valueReader the reader of the value
+     * @param subPath     the field names from the value this method extracts to a value nested within it
+     * @param <T>         the type of the value
+     * @return the value read
+     * @throws ValueNotFoundException if the response does not contain the value
+     */
+    <T> T readValue(final String result, final ResultReader<T> valueReader, final String... subPath) throws ValueNotFoundException {
+        final String[] fullPath = getPath(subPath);
+        try (final JsonParser parser = MAPPER.createParser(result)) {
+            return readValue(parser, fullPath, valueReader);
+        } catch (IOException e) {
+            throw new ValueNotFoundException(getNotFoundMessage(fullPath) + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a value from the result of the method, for values that are not within the value this method extracts
+     *
+     * @param result      the JSON response
+     * @param valueReader the reader of the value, called with the parser positioned at the start of the result
+     * @param <T>         the type of the value
+     * @return the value read
+     * @throws ValueNotFoundException if the response does not contain a result
+     */
+    <T> T readResult(final String result, final ResultReader<T> valueReader) throws ValueNotFoundException {
+        final String[] resultPath = {RESULT};
+        try (final JsonParser parser = MAPPER.createParser(result)) {
+            return readValue(parser, resultPath, valueReader);
+        } catch (IOException e) {
+            throw new ValueNotFoundException(getNotFoundMessage(resultPath) + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * Streams the response to the value this method extracts and reads the value
+     *
+     * @param parser      the parser at the start of the response
+     * @param valueReader the reader of the value, called with the parser positioned at the first token of the value
+     * @param <T>         the type of the value
+     * @return the value read
+     * @throws IOException            if the response could not be read
+     * @throws ValueNotFoundException if the response is not valid or does not contain the value
+     */
+    <T> T readValue(final JsonParser parser, final ResultReader<T> valueReader) throws IOException {
+        return readValue(parser, path, valueReader);
+    }
+
+    private <T> T readValue(final JsonParser parser, final String[] fullPath, final ResultReader<T> valueReader) throws IOException {
+        try {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                return readField(parser, fullPath, 0, valueReader);
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValueNotFoundException(getNotFoundMessage(fullPath) + " " + e.getOriginalMessage());
+        }
+        throw new ValueNotFoundException(getNotFoundMessage(fullPath));
+    }
+
+    private <T> T readField(final JsonParser parser,
+                            final String[] fullPath,
+                            final int depth,
+                            final ResultReader<T> valueReader) throws IOException {
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+
+            if (fullPath[depth].equals(name)) {
+                if (depth == fullPath.length - 1) {
+                    return valueReader.read(parser);
+                } else if (token == JsonToken.START_OBJECT) {
+                    return readField(parser, fullPath, depth + 1, valueReader);
+                }
+                break;
+            } else if (depth == 0 && ERROR.equals(name)) {
+                throw new ValueNotFoundException(getNotFoundMessage(fullPath) + " " + parser.readValueAsTree());
+            }
+            parser.skipChildren();
+        }
+        throw new ValueNotFoundException(getNotFoundMessage(fullPath));
+    }
+
+    private String[] getPath(final String... subPath) {
+        if (subPath.length == 0) {
+            return path;
+        }
+        final String[] fullPath = Arrays.copyOf(path, path.length + subPath.length);
+        System.arraycopy(subPath, 0, fullPath, path.length, subPath.length);
+        return fullPath;
+    }
+
+    private static String getNotFoundMessage(final String[] fullPath) {
+        return fullPath[fullPath.length - 1] + " not found";
+    }
+
     JsonNode getResultNode(final String result) throws JsonProcessingException {
-        final JsonNode node = new ObjectMapper().readTree(result);
-        return node.get(RESULT);
+        return getRootNode(result).get(RESULT);
+    }
+
+    JsonNode getRootNode(final String result) throws JsonProcessingException {
+        return MAPPER.readTree(result);
     }
 
     String buildErrorMessage(final JsonNode node) {
-        final JsonNode error = node != null ? node.get("error") : null;
+        final JsonNode error = node != null ? node.get(ERROR) : null;
         if (error != null) {
             return error.toString();
         } else {
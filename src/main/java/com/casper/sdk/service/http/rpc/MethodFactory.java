@@ -0,0 +1,105 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.Constants;
+import com.casper.sdk.service.serialization.util.CollectionUtils;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factory that creates the {@link Method} objects for each RPC call so that the blocking and non-blocking node
+ * clients send identical payloads
+ */
+final class MethodFactory {
+
+    private static final String ACCOUNT_HASH_PREFIX = "account-hash-";
+    private static final String HASH = "Hash";
+
+    private MethodFactory() {
+    }
+
+    static Method stateRootHash() {
+        return new Method(Constants.CHAIN_GET_STATE_ROOT_HASH);
+    }
+
+    static Method accountInfo(final String stateRootHash, final String accountHash) {
+        return stateItem(stateRootHash, ACCOUNT_HASH_PREFIX + accountHash, Collections.emptyList());
+    }
+
+    static Method stateItem(final String stateRootHash, final String key, final List<String> path) {
+        return new Method(Constants.STATE_GET_ITEM,
+                CollectionUtils.Map.of(
+                        Constants.STATE_ROOT_HASH, stateRootHash,
+                        Constants.KEY, key,
+                        Constants.PATH, path
+                )
+        );
+    }
+
+    static Method accountBalance(final String stateRootHash, final String purseURef) {
+        return new Method(Constants.STATE_GET_BALANCE,
+                CollectionUtils.Map.of(
+                        Constants.STATE_ROOT_HASH, stateRootHash,
+                        Constants.PURSE_UREF, purseURef
+                )
+        );
+    }
+
+    static Method auctionInfo() {
+        return new Method(Constants.STATE_GET_AUCTION_INFO, new HashMap<>());
+    }
+
+    static Method nodePeers() {
+        return new Method(Constants.INFO_GET_PEERS, new HashMap<>());
+    }
+
+    static Method nodeStatus() {
+        return new Method(Constants.INFO_GET_STATUS, new HashMap<>());
+    }
+
+    static Method putDeploy(final Deploy signedDeploy) {
+        return new Method(Constants.ACCOUNT_PUT_DEPLOY, CollectionUtils.Map.of(Constants.DEPLOY, signedDeploy));
+    }
+
+    static Method getDeploy(final Digest deployHash) {
+        return new Method(Constants.INFO_GET_DEPLOY, CollectionUtils.Map.of(Constants.DEPLOY_HASH, deployHash.toString()));
+    }
+
+    static Method latestBlockInfo() {
+        return chainBlockInfo(new HashMap<>());
+    }
+
+    static Method blockInfo(final Digest blockHash) {
+        return chainBlockInfo(CollectionUtils.Map.of(
+                Constants.BLOCK_IDENTIFIER,
+                CollectionUtils.Map.of(HASH, blockHash.toString())
+        ));
+    }
+
+    static Method blockInfoByHeight(final Number height) {
+        return chainBlockInfo(CollectionUtils.Map.of(
+                Constants.BLOCK_IDENTIFIER,
+                CollectionUtils.Map.of(Constants.HEIGHT, height.toString())
+        ));
+    }
+
+    static Method chainBlockInfo(final Map<String, Object> params) {
+        return new Method(Constants.CHAIN_GET_BLOCK, params);
+    }
+
+    static Method rpcSchema() {
+        return new Method(Constants.RPC_DISCOVER, new HashMap<>());
+    }
+
+    static Method blockTransfers() {
+        return new Method(Constants.CHAIN_GET_BLOCK_TRANSFERS, new HashMap<>());
+    }
+
+    static Method eraInfoBySwitchBlock() {
+        return new Method(Constants.CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK, new HashMap<>());
+    }
+}
@@ -3,16 +3,16 @@ package com.casper.sdk.service.http.rpc;
 import com.casper.sdk.Constants;
 import com.casper.sdk.exceptions.ValueNotFoundException;
 import com.casper.sdk.service.hash.HashService;
-import com.casper.sdk.service.serialization.util.CollectionUtils;
-import com.casper.sdk.types.Deploy;
-import com.casper.sdk.types.DeployService;
-import com.casper.sdk.types.Digest;
-import com.casper.sdk.types.URef;
+import com.casper.sdk.types.*;
+import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.math.BigInteger;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static com.casper.sdk.service.http.rpc.MethodEnums.*;
@@ -23,72 +23,126 @@ import static com.casper.sdk.service.http.rpc.MethodEnums.*;
 public class NodeClient {
 
     public static final String DEPLOY_TOO_LARGE_MSG = "Deploy can not be send, because it's too large: %d bytes. Max size is 1 megabyte.";
-    private static final int ONE_MEGABYTE = 1048576;
-    private static final String HASH = "Hash";
+    static final int ONE_MEGABYTE = 1048576;
+    /* Readers that bind typed results from the parser positioned at the result's JSON */
+    static final ResultReader<Block> BLOCK = parser -> parser.readValueAs(Block.class);
+    static final ResultReader<DeployInfo> DEPLOY_INFO = parser -> parser.readValueAs(DeployInfo.class);
+    static final ResultReader<List<TransferRecord>> TRANSFER_RECORDS = parser -> parser.readValueAs(new TypeReference<List<TransferRecord>>() {
+    });
+    static final ResultReader<EraSummary> ERA_SUMMARY = parser -> parser.readValueAs(EraSummary.class);
+    static final ResultReader<NodeStatus> NODE_STATUS = parser -> parser.readValueAs(NodeStatus.class);
+    static final ResultReader<List<ValidatorBid>> VALIDATOR_BIDS = parser -> parser.readValueAs(new TypeReference<List<ValidatorBid>>() {
+    });
+    /* Readers of whole responses, constants so that identical calls can be collapsed */
+    private static final ResultReader<Block> BLOCK_RESPONSE = CHAIN_GET_BLOCK.reader(BLOCK);
+    private static final ResultReader<List<TransferRecord>> TRANSFER_RECORDS_RESPONSE = CHAIN_GET_BLOCK_TRANSFERS.reader(TRANSFER_RECORDS, Constants.TRANSFERS);
+    private static final ResultReader<EraSummary> ERA_SUMMARY_RESPONSE = CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK.reader(ERA_SUMMARY, Constants.ERA_SUMMARY);
+    private static final ResultReader<NodeStatus> NODE_STATUS_RESPONSE = INFO_GET_STATUS.reader(NODE_STATUS);
+    private static final ResultReader<List<ValidatorBid>> VALIDATOR_BIDS_RESPONSE = STATE_GET_AUCTION_INFO.reader(VALIDATOR_BIDS, Constants.AUCTION_STATE, Constants.BIDS);
     private final HttpMethods httpMethods;
     private final HashService hashService;
     private final DeployService deployService;
+    /** The optional cache of immutable global state query responses */
+    private final StateQueryCache stateQueryCache;
+    /** Shares one request between concurrent identical calls */
+    private final SingleFlight singleFlight = new SingleFlight();
+    /** Streams info_get_deploy responses straight to the deploy, a field so that identical calls can be collapsed */
+    private final ResultReader<Deploy> deployReader;
 
     public NodeClient(final DeployService deployService,
                       final HashService hashService,
                       final HttpMethods httpMethods) {
+        this(deployService, hashService, httpMethods, null);
+    }
+
+    /**
+     * Creates a node client that serves repeated state_get_item and state_get_balance queries made against the same
+     * state root hash from a cache
+     *
+     * @param deployService   the deploy service
+     * @param hashService     the hash service
+     * @param httpMethods     the HTTP methods used to call the node
+     * @param stateQueryCache the cache of global state query responses, may be null for no caching
+     */
+    public NodeClient(final DeployService deployService,
+                      final HashService hashService,
+                      final HttpMethods httpMethods,
+                      final StateQueryCache stateQueryCache) {
         this.deployService = deployService;
         this.hashService = hashService;
         this.httpMethods = httpMethods;
+        this.stateQueryCache = stateQueryCache;
+        this.deployReader = MethodEnums.INFO_GET_DEPLOY.reader(deployService::fromJson);
+    }
+
+    /**
+     * @return the cache of global state query responses or null if responses are not cached
+     */
+    public StateQueryCache getStateQueryCache() {
+        return stateQueryCache;
+    }
+
+    /**
+     * Obtains the number of idempotent calls made through this client, including those that were collapsed
+     *
+     * @return the number of calls
+     */
+    public long getCallCount() {
+        return singleFlight.getCallCount();
+    }
+
+    /**
+     * Obtains the number of calls that were collapsed into an identical call already in flight rather than sending
+     * their own request to the node
+     *
+     * @return the number of collapsed calls
+     */
+    public long getCollapsedCallCount() {
+        return singleFlight.getCollapsedCount();
     }
 
     public String getStateRootHash() {
         return rcpCallMethodMap(
-                new Method(Constants.CHAIN_GET_STATE_ROOT_HASH),
+                MethodFactory.stateRootHash(),
                 MethodEnums.STATE_ROOT_HASH::getValue
         );
     }
 
-    public String getAccountInfo(final String accountKey) {
+    /**
+     * Obtains the current state root hash and creates a query session pinned to it
+     *
+     * @return a snapshot of the current global state
+     */
+    public StateSnapshot getStateSnapshot() {
+        return getStateSnapshot(getStateRootHash());
+    }
 
-        return rcpCallMethodMap(
-                new Method(Constants.STATE_GET_ITEM,
-                        CollectionUtils.Map.of(
-                                Constants.STATE_ROOT_HASH, getStateRootHash(),
-                                Constants.KEY, "account-hash-" + hashService.getAccountHash(accountKey),
-                                Constants.PATH, Collections.emptyList()
-                        )
-                ),
-                MethodEnums.ACCOUNT_INFO::getValue
-        );
+    /**
+     * Creates a query session pinned to the provided state root hash
+     *
+     * @param stateRootHash the global state root hash to query
+     * @return a snapshot of the global state at the state root hash
+     */
+    public StateSnapshot getStateSnapshot(final String stateRootHash) {
+        return new StateSnapshot(this, hashService, stateRootHash);
     }
 
-    public BigInteger getAccountBalance(final String accountKey) {
+    public String getAccountInfo(final String accountKey) {
+        return getStateSnapshot().getAccountInfo(accountKey);
+    }
 
-        return rcpCallMethodMap(
-                new Method(Constants.STATE_GET_BALANCE,
-                        CollectionUtils.Map.of(
-                                Constants.STATE_ROOT_HASH, getStateRootHash(),
-                                Constants.PURSE_UREF, getAccountMainPurseURef(accountKey).toString()
-                        )
-                ),
-                result -> new BigInteger(MethodEnums.STATE_GET_BALANCE.getValue(result))
-        );
+    public BigInteger getAccountBalance(final String accountKey) {
+        return getStateSnapshot().getAccountBalance(accountKey);
     }
 
     public URef getAccountMainPurseURef(final String accountKey) {
-
-        return rcpCallMethodMap(
-                new Method(Constants.STATE_GET_ITEM,
-                        CollectionUtils.Map.of(
-                                "key", "account-hash-" + hashService.getAccountHash(accountKey),
-                                Constants.STATE_ROOT_HASH, getStateRootHash(),
-                                "path", Collections.emptyList()
-                        )
-                ),
-                result -> new URef(MethodEnums.STATE_GET_ITEM.getValue(result))
-        );
+        return getStateSnapshot().getAccountMainPurseURef(accountKey);
     }
 
     public String getAuctionInfo() {
 
         return rcpCallMethodMap(
-                new Method(Constants.STATE_GET_AUCTION_INFO, new HashMap<>()),
+                MethodFactory.auctionInfo(),
                 MethodEnums.STATE_GET_AUCTION_INFO::getValue
         );
     }
@@ -96,81 +150,223 @@ public class NodeClient {
     public String getNodePeers() {
 
         return rcpCallMethodMap(
-                new Method(Constants.INFO_GET_PEERS, new HashMap<>()),
+                MethodFactory.nodePeers(),
                 MethodEnums.INFO_GET_PEERS::getValue
         );
     }
 
     public String getNodeStatus() {
         return rcpCallMethodMap(
-                new Method(Constants.INFO_GET_STATUS, new HashMap<>()),
+                MethodFactory.nodeStatus(),
                 MethodEnums.INFO_GET_STATUS::getValue
         );
     }
 
-    public String putDeploy(final Deploy signedDeploy) {
+    /**
+     * Obtains the status of the node bound from the response in a single pass
+     *
+     * @return the node's status
+     */
+    public NodeStatus getNodeStatusInfo() {
+        return rcpCallMethodRead(MethodFactory.nodeStatus(), NODE_STATUS_RESPONSE);
+    }
 
-        final int size = deployService.deploySizeInBytes(signedDeploy);
+    /**
+     * Obtains the bids of the validators in the current auction bound from the response in a single pass
+     *
+     * @return the validators' bids
+     */
+    public List<ValidatorBid> getValidatorBids() {
+        return rcpCallMethodRead(MethodFactory.auctionInfo(), VALIDATOR_BIDS_RESPONSE);
+    }
 
-        if (size > ONE_MEGABYTE) {
-            throw new IllegalArgumentException(String.format(DEPLOY_TOO_LARGE_MSG, size));
-        }
+    public String putDeploy(final Deploy signedDeploy) {
+
+        checkDeploySize(signedDeploy);
 
         return rcpCallMethodMap(
-                new Method(Constants.ACCOUNT_PUT_DEPLOY, CollectionUtils.Map.of(Constants.DEPLOY, signedDeploy)),
+                MethodFactory.putDeploy(signedDeploy),
                 MethodEnums.ACCOUNT_PUT_DEPLOY::getValue
         );
     }
 
+    /**
+     * Puts deploys to the node in a single JSON-RPC batch, the batch is not sent to another node if the node fails
+     *
+     * @param signedDeploys the signed deploys to put
+     * @return the hash of each deploy accepted by the node or the node's error in the order of the provided deploys
+     */
+    public List<RpcResult<Digest>> putDeploys(final List<Deploy> signedDeploys) {
+
+        final List<Method> methods = new ArrayList<>(signedDeploys.size());
+        for (final Deploy signedDeploy : signedDeploys) {
+            checkDeploySize(signedDeploy);
+            methods.add(MethodFactory.putDeploy(signedDeploy));
+        }
+        return rcpCallBatchMap(methods, result -> new Digest(MethodEnums.ACCOUNT_PUT_DEPLOY.getValue(result)));
+    }
+
+    /**
+     * Checks that a deploy is not too large for a node to accept
+     *
+     * @param signedDeploy the deploy to check
+     * @throws IllegalArgumentException if the deploy is larger than a megabyte
+     */
+    void checkDeploySize(final Deploy signedDeploy) {
+        final int size = deployService.deploySizeInBytes(signedDeploy);
+        if (size > ONE_MEGABYTE) {
+            throw new IllegalArgumentException(String.format(DEPLOY_TOO_LARGE_MSG, size));
+        }
+    }
+
     public Deploy getDeploy(final Digest deployHash) {
 
-        return rcpCallMethodMap(
-                new Method(Constants.INFO_GET_DEPLOY, CollectionUtils.Map.of(Constants.DEPLOY_HASH, deployHash.toString())),
-                result -> deployService.fromJson(MethodEnums.INFO_GET_DEPLOY.getValue(result))
-        );
+        return rcpCallMethodRead(MethodFactory.getDeploy(deployHash), deployReader);
+
+    }
+
+    /**
+     * Obtains the deploys from the node in a single JSON-RPC batch
+     *
+     * @param deployHashes the hashes of the deploys to obtain
+     * @return the result for each deploy in the order of the provided hashes
+     */
+    public List<RpcResult<Deploy>> getDeploys(final List<Digest> deployHashes) {
+
+        final List<Method> methods = new ArrayList<>(deployHashes.size());
+        for (final Digest deployHash : deployHashes) {
+            methods.add(MethodFactory.getDeploy(deployHash));
+        }
+        return rcpCallBatchMap(methods, result -> MethodEnums.INFO_GET_DEPLOY.readValue(result, deployService::fromJson));
+    }
+
+    /**
+     * Obtains the header and execution results of a deploy without reading its session or payment
+     *
+     * @param deployHash the hash of the deploy
+     * @return what the node knows of the deploy
+     */
+    public DeployInfo getDeployInfo(final Digest deployHash) {
+        return rcpCallMethodMap(MethodFactory.getDeploy(deployHash), result -> INFO_GET_DEPLOY.readResult(result, DEPLOY_INFO));
+    }
 
+    /**
+     * Obtains the headers and execution results of deploys in a single JSON-RPC batch
+     *
+     * @param deployHashes the hashes of the deploys
+     * @return the result for each deploy in the order of the provided hashes
+     */
+    public List<RpcResult<DeployInfo>> getDeployInfos(final List<Digest> deployHashes) {
+
+        final List<Method> methods = new ArrayList<>(deployHashes.size());
+        for (final Digest deployHash : deployHashes) {
+            methods.add(MethodFactory.getDeploy(deployHash));
+        }
+        return rcpCallBatchMap(methods, result -> INFO_GET_DEPLOY.readResult(result, DEPLOY_INFO));
+    }
+
+    /**
+     * Obtains the account balances at the same state root hash using one JSON-RPC batch to obtain the main purses and
+     * another to obtain the balances
+     *
+     * @param accountKeys the keys of the accounts
+     * @return the balance result of each account in the order of the provided keys
+     */
+    public List<RpcResult<BigInteger>> getAccountBalances(final List<String> accountKeys) {
+        return getStateSnapshot().getAccountBalances(accountKeys);
     }
 
     public String getLatestBlockInfo() {
-        return getChainBlockInfo(new HashMap<>());
+        return getChainBlockInfo(MethodFactory.latestBlockInfo());
     }
 
     public String getBlockInfo(final Digest blockHash) {
-        final Map<String, Object> params = CollectionUtils.Map.of(
-                Constants.BLOCK_IDENTIFIER,
-                CollectionUtils.Map.of(HASH, blockHash.toString()
-                ));
-        return getChainBlockInfo(params);
+        return getChainBlockInfo(MethodFactory.blockInfo(blockHash));
     }
 
     public String getBlockInfoByHeight(final Number height) {
-        final Map<String, Object> params = CollectionUtils.Map.of(
-                Constants.BLOCK_IDENTIFIER,
-                CollectionUtils.Map.of(Constants.HEIGHT, height.toString())
-        );
-        return getChainBlockInfo(params);
+        return getChainBlockInfo(MethodFactory.blockInfoByHeight(height));
     }
 
     /**
-     * Obtains the block info using the provided parameters
+     * Obtains the latest block, the block's body is decoded on first use
      *
-     * @param params the parameters to obtain the block info with
+     * @return the latest block
+     */
+    public Block getBlock() {
+        return rcpCallMethodRead(MethodFactory.latestBlockInfo(), BLOCK_RESPONSE);
+    }
+
+    /**
+     * Obtains a block by its hash, the block's body is decoded on first use
+     *
+     * @param blockHash the hash of the block to obtain
+     * @return the block
+     */
+    public Block getBlock(final Digest blockHash) {
+        return rcpCallMethodRead(MethodFactory.blockInfo(blockHash), BLOCK_RESPONSE);
+    }
+
+    /**
+     * Obtains a block by its height, the block's body is decoded on first use
+     *
+     * @param height the height of the block to obtain
+     * @return the block
+     */
+    public Block getBlockByHeight(final Number height) {
+        return rcpCallMethodRead(MethodFactory.blockInfoByHeight(height), BLOCK_RESPONSE);
+    }
+
+    /**
+     * Obtains the block info using the provided chain_get_block method
+     *
+     * @param method the chain_get_block method to obtain the block info with
      * @return the chain block info
      */
-    String getChainBlockInfo(final Map<String, Object> params) {
+    String getChainBlockInfo(final Method method) {
         return rcpCallMethodMap(
-                new Method(Constants.CHAIN_GET_BLOCK, params),
+                method,
                 CHAIN_GET_BLOCK::getValue
         );
     }
 
+    /**
+     * Obtains the block infos of the provided heights in a single JSON-RPC batch
+     *
+     * @param heights the heights of the blocks to obtain
+     * @return the block info JSON result of each height in the order of the provided heights
+     */
+    public List<RpcResult<String>> getBlockInfosByHeight(final List<? extends Number> heights) {
+
+        final List<Method> methods = new ArrayList<>(heights.size());
+        for (final Number height : heights) {
+            methods.add(MethodFactory.blockInfoByHeight(height));
+        }
+        return rcpCallBatchMap(methods, CHAIN_GET_BLOCK::getValue);
+    }
+
+    /**
+     * Obtains the blocks of the provided heights in a single JSON-RPC batch, each block's body is decoded on first use
+     *
+     * @param heights the heights of the blocks to obtain
+     * @return the block of each height in the order of the provided heights
+     */
+    public List<RpcResult<Block>> getBlocksByHeight(final List<? extends Number> heights) {
+
+        final List<Method> methods = new ArrayList<>(heights.size());
+        for (final Number height : heights) {
+            methods.add(MethodFactory.blockInfoByHeight(height));
+        }
+        return rcpCallBatchMap(methods, result -> CHAIN_GET_BLOCK.readValue(result, BLOCK));
+    }
+
     /**
      * Obtain the RPC Schema
      *
      * @return the
      */
     public String getRpcSchema() {
-        return rcpCallMethodMap(new Method(Constants.RPC_DISCOVER, new HashMap<>()), RPC_DISCOVER::getValue);
+        return rcpCallMethodMap(MethodFactory.rpcSchema(), RPC_DISCOVER::getValue);
     }
 
     /**
@@ -180,11 +376,29 @@ public class NodeClient {
      */
     public String getBlockTransfers() {
         return rcpCallMethodMap(
-                new Method(Constants.CHAIN_GET_BLOCK_TRANSFERS, new HashMap<>()),
+                MethodFactory.blockTransfers(),
                 CHAIN_GET_BLOCK_TRANSFERS::getValue
         );
     }
 
+    /**
+     * Obtains the transfers executed in the latest block bound from the response in a single pass
+     *
+     * @return the transfer records
+     */
+    public List<TransferRecord> getTransferRecords() {
+        return rcpCallMethodRead(MethodFactory.blockTransfers(), TRANSFER_RECORDS_RESPONSE);
+    }
+
+    /**
+     * Obtains the era summary of the latest switch block bound from the response in a single pass
+     *
+     * @return the era summary
+     */
+    public EraSummary getEraSummary() {
+        return rcpCallMethodRead(MethodFactory.eraInfoBySwitchBlock(), ERA_SUMMARY_RESPONSE);
+    }
+
     /**
      * Obtains the chain era info by switch block result as JSON
      *
@@ -192,11 +406,27 @@ public class NodeClient {
      */
     public String getEraInfoBySwitchBlock() {
         return rcpCallMethodMap(
-                new Method(Constants.CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK, new HashMap<>()),
+                MethodFactory.eraInfoBySwitchBlock(),
                 CHAIN_GET_ERA_INFO_BY_SWITCH_BLOCK::getValue
         );
     }
 
+    /**
+     * Calls the method and streams the response to the reader without holding it as a string
+     *
+     * @param method the method to call
+     * @param reader the reader of the whole response, eg {@link MethodEnums#reader(ResultReader)}
+     * @param <T>    the type of the value read
+     * @return the value read
+     */
+    <T> T rcpCallMethodRead(final Method method, final ResultReader<T> reader) {
+        if (method.isIdempotent()) {
+            // The reader is part of the key as different readers produce different results from the same response
+            return singleFlight.call(Arrays.asList(method, reader), () -> httpMethods.rpcCallMethod(method, reader));
+        }
+        return httpMethods.rpcCallMethod(method, reader);
+    }
+
     /**
      * Calls the RCP method and applies the provided map function to transform the result
      *
@@ -205,9 +435,86 @@ public class NodeClient {
      * @param <T>    the type of object generated by the mapper function
      * @return the generated function
      */
-    private <T> T rcpCallMethodMap(final Method method, final Function<String, ? extends T> mapper) {
-        return httpMethods.rpcCallMethod(method)
-                .map(mapper)
-                .orElseThrow(() -> new ValueNotFoundException("For " + method));
+    <T> T rcpCallMethodMap(final Method method, final Function<String, ? extends T> mapper) {
+
+        final boolean cacheable = isCacheable(method);
+        if (cacheable) {
+            final String cached = stateQueryCache.get(method);
+            if (cached != null) {
+                return mapper.apply(cached);
+            }
+        }
+
+        // Deploys are never collapsed as each call must reach the node
+        final Optional<String> result = method.isIdempotent()
+                ? singleFlight.call(method, () -> httpMethods.rpcCallMethod(method))
+                : httpMethods.rpcCallMethod(method);
+        final String response = result.orElseThrow(() -> new ValueNotFoundException("For " + method));
+
+        // Only responses the mapper accepts are cached so that errors are never served from the cache
+        final T value = mapper.apply(response);
+        if (cacheable) {
+            stateQueryCache.put(method, response);
+        }
+        return value;
+    }
+
+    /**
+     * Calls the RCP methods as a single JSON-RPC batch and applies the provided map function to each response. The
+     * methods are given the IDs 1 to n in order, a failure of one method is returned as its result rather than failing
+     * the batch.
+     *
+     * @param methods the methods to call against a node
+     * @param mapper  the mapper to transform each resulting JSON String
+     * @param <T>     the type of object generated by the mapper function
+     * @return the result of each method in the order of the provided methods
+     */
+    <T> List<RpcResult<T>> rcpCallBatchMap(final List<Method> methods, final Function<String, ? extends T> mapper) {
+
+        final List<RpcResult<T>> results = new ArrayList<>(methods.size());
+        if (methods.isEmpty()) {
+            return results;
+        }
+
+        final List<Method> batch = new ArrayList<>(methods.size());
+        final Map<Integer, String> responses = new HashMap<>();
+        final List<Method> uncached = new ArrayList<>(methods.size());
+
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i).withId(i + 1);
+            batch.add(method);
+            final String cached = isCacheable(method) ? stateQueryCache.get(method) : null;
+            if (cached != null) {
+                responses.put(method.getId(), cached);
+            } else {
+                uncached.add(method);
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            final Map<Integer, String> fetched = httpMethods.rpcCallBatch(uncached);
+            responses.putAll(fetched);
+        }
+
+        for (final Method method : batch) {
+            final String response = responses.get(method.getId());
+            if (response == null) {
+                results.add(RpcResult.failure(method.getId(), new ValueNotFoundException("For " + method)));
+            } else {
+                try {
+                    results.add(RpcResult.success(method.getId(), mapper.apply(response)));
+                    if (isCacheable(method)) {
+                        stateQueryCache.put(method, response);
+                    }
+                } catch (RuntimeException e) {
+                    results.add(RpcResult.failure(method.getId(), e));
+                }
+            }
+        }
+        return results;
+    }
+
+    private boolean isCacheable(final Method method) {
+        return stateQueryCache != null && StateQueryCache.isCacheable(method);
     }
 }
@@ -0,0 +1,91 @@
+package com.casper.sdk.service.http.rpc;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * The HTTP client and call policies that node calls are made with. The same configuration can be given to any number of
+ * SDK instances so that they share a connection pool and keep their connections to the nodes warm.
+ *
+ * @see NodeClientConfigBuilder
+ */
+public class NodeClientConfig {
+
+    private final OkHttpClient httpClient;
+    private final HedgePolicy hedgePolicy;
+    private final RetryPolicy retryPolicy;
+    private final RateLimiter rateLimiter;
+    private final GzipCompression compression;
+    private final StateQueryCache stateQueryCache;
+
+    NodeClientConfig(final OkHttpClient httpClient,
+                     final HedgePolicy hedgePolicy,
+                     final RetryPolicy retryPolicy,
+                     final RateLimiter rateLimiter,
+                     final GzipCompression compression,
+                     final StateQueryCache stateQueryCache) {
+        this.httpClient = httpClient;
+        this.hedgePolicy = hedgePolicy;
+        this.retryPolicy = retryPolicy;
+        this.rateLimiter = rateLimiter;
+        this.compression = compression;
+        this.stateQueryCache = stateQueryCache;
+    }
+
+    /**
+     * @return the client the calls are made with
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * @return the policy for hedging slow calls or null if calls are not hedged
+     */
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * @return the policy for retrying failed calls or null if calls are not retried
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return the limiter calls are admitted by or null if calls are not limited
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @return the compression installed on the client or null if the request bodies of calls are not compressed
+     */
+    public GzipCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * @return the cache of global state query responses or null if responses are not cached
+     */
+    public StateQueryCache getStateQueryCache() {
+        return stateQueryCache;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeClientConfig{" +
+               "protocols=" + httpClient.protocols() +
+               ", connectTimeoutMillis=" + httpClient.connectTimeoutMillis() +
+               ", readTimeoutMillis=" + httpClient.readTimeoutMillis() +
+               ", callTimeoutMillis=" + httpClient.callTimeoutMillis() +
+               ", maxRequestsPerHost=" + httpClient.dispatcher().getMaxRequestsPerHost() +
+               ", hedgePolicy=" + hedgePolicy +
+               ", retryPolicy=" + retryPolicy +
+               ", rateLimiter=" + rateLimiter +
+               ", compression=" + compression +
+               ", stateQueryCache=" + stateQueryCache +
+               '}';
+    }
+}
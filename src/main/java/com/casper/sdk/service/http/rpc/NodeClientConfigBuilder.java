@@ -0,0 +1,218 @@
+package com.casper.sdk.service.http.rpc;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link NodeClientConfig}. Options that are not set keep the values of the shared client when one is
+ * provided, otherwise the OkHttp defaults. Setting the connection pool or request limits of a shared client gives the
+ * built client its own pool or dispatcher, timeouts and protocols can be set without losing the shared connections.
+ */
+public class NodeClientConfigBuilder {
+
+    private OkHttpClient httpClient;
+    private ConnectionPool connectionPool;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private boolean h2cPriorKnowledge;
+    private Long connectTimeoutMillis;
+    private Long readTimeoutMillis;
+    private Long writeTimeoutMillis;
+    private Long callTimeoutMillis;
+    private HedgePolicy hedgePolicy;
+    private RetryPolicy retryPolicy;
+    private RateLimiter rateLimiter;
+    private GzipCompression compression;
+    private StateQueryCache stateQueryCache;
+
+    /**
+     * @param httpClient the client whose connection pool and dispatcher are shared with the built client
+     * @return this builder
+     */
+    public NodeClientConfigBuilder httpClient(final OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * @param maxIdleConnections the most idle connections kept open
+     * @param keepAlive          how long an idle connection is kept open
+     * @param unit               the unit of the keep alive
+     * @return this builder
+     */
+    public NodeClientConfigBuilder connectionPool(final int maxIdleConnections, final long keepAlive, final TimeUnit unit) {
+        if (maxIdleConnections < 0 || keepAlive <= 0) {
+            throw new IllegalArgumentException("Invalid connection pool max idle: " + maxIdleConnections + " keep alive: " + keepAlive);
+        }
+        this.connectionPool = new ConnectionPool(maxIdleConnections, keepAlive, unit);
+        return this;
+    }
+
+    /**
+     * Sets the limits on the asynchronous calls in flight, further calls are queued by the client's dispatcher
+     *
+     * @param maxRequests        the most calls in flight to all nodes
+     * @param maxRequestsPerHost the most calls in flight to each node
+     * @return this builder
+     */
+    public NodeClientConfigBuilder maxRequests(final int maxRequests, final int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1 || maxRequests < maxRequestsPerHost) {
+            throw new IllegalArgumentException("Invalid max requests: " + maxRequests + " per host: " + maxRequestsPerHost);
+        }
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Calls the nodes over cleartext HTTP/2 without an upgrade, multiplexing the calls to a node on a single
+     * connection. The nodes must accept HTTP/2 with prior knowledge.
+     *
+     * @param h2cPriorKnowledge true to use HTTP/2 with prior knowledge
+     * @return this builder
+     */
+    public NodeClientConfigBuilder h2cPriorKnowledge(final boolean h2cPriorKnowledge) {
+        this.h2cPriorKnowledge = h2cPriorKnowledge;
+        return this;
+    }
+
+    /**
+     * @param timeout the longest to wait for a connection to a node, zero for no timeout
+     * @param unit    the unit of the timeout
+     * @return this builder
+     */
+    public NodeClientConfigBuilder connectTimeout(final long timeout, final TimeUnit unit) {
+        this.connectTimeoutMillis = toTimeoutMillis(timeout, unit);
+        return this;
+    }
+
+    /**
+     * @param timeout the longest to wait for data from a node, zero for no timeout
+     * @param unit    the unit of the timeout
+     * @return this builder
+     */
+    public NodeClientConfigBuilder readTimeout(final long timeout, final TimeUnit unit) {
+        this.readTimeoutMillis = toTimeoutMillis(timeout, unit);
+        return this;
+    }
+
+    /**
+     * @param timeout the longest to wait to send data to a node, zero for no timeout
+     * @param unit    the unit of the timeout
+     * @return this builder
+     */
+    public NodeClientConfigBuilder writeTimeout(final long timeout, final TimeUnit unit) {
+        this.writeTimeoutMillis = toTimeoutMillis(timeout, unit);
+        return this;
+    }
+
+    /**
+     * @param timeout the longest a whole call to a node may take including reading the response, zero for no timeout
+     * @param unit    the unit of the timeout
+     * @return this builder
+     */
+    public NodeClientConfigBuilder callTimeout(final long timeout, final TimeUnit unit) {
+        this.callTimeoutMillis = toTimeoutMillis(timeout, unit);
+        return this;
+    }
+
+    /**
+     * @param hedgePolicy the policy for hedging slow idempotent calls
+     * @return this builder
+     */
+    public NodeClientConfigBuilder hedgePolicy(final HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+        return this;
+    }
+
+    /**
+     * @param retryPolicy the policy for retrying failed calls
+     * @return this builder
+     */
+    public NodeClientConfigBuilder retryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * @param rateLimiter the limiter calls are admitted by
+     * @return this builder
+     */
+    public NodeClientConfigBuilder rateLimiter(final RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Compresses the request bodies of calls with gzip, the counts of the compression's bytes cover every call made
+     * with the built client
+     *
+     * @param compression the compression of the request bodies and counts of the request and response bytes
+     * @return this builder
+     */
+    public NodeClientConfigBuilder compression(final GzipCompression compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * Serves repeated state_get_item and state_get_balance queries made against the same state root hash from a
+     * cache, the cache is shared by every SDK instance created with the built configuration
+     *
+     * @param stateQueryCache the cache of global state query responses, see {@link LruStateQueryCache}
+     * @return this builder
+     */
+    public NodeClientConfigBuilder stateQueryCache(final StateQueryCache stateQueryCache) {
+        this.stateQueryCache = stateQueryCache;
+        return this;
+    }
+
+    public NodeClientConfig build() {
+
+        final OkHttpClient.Builder builder = httpClient != null ? httpClient.newBuilder() : new OkHttpClient.Builder();
+
+        if (connectionPool != null) {
+            builder.connectionPool(connectionPool);
+        }
+        if (maxRequests != null) {
+            final Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(maxRequests);
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+            builder.dispatcher(dispatcher);
+        }
+        if (h2cPriorKnowledge) {
+            builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
+        if (connectTimeoutMillis != null) {
+            builder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        if (readTimeoutMillis != null) {
+            builder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        if (writeTimeoutMillis != null) {
+            builder.writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        if (callTimeoutMillis != null) {
+            builder.callTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (compression != null) {
+            builder.addInterceptor(compression);
+            builder.addNetworkInterceptor(compression.getNetworkInterceptor());
+        }
+
+        return new NodeClientConfig(builder.build(), hedgePolicy, retryPolicy, rateLimiter, compression, stateQueryCache);
+    }
+
+    private static long toTimeoutMillis(final long timeout, final TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        return unit.toMillis(timeout);
+    }
+}
@@ -0,0 +1,198 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A node that RPC calls can be routed to, along with the health statistics used to choose between nodes
+ */
+public class NodeEndpoint {
+
+    /** Weight given to the latest latency sample in the exponentially weighted moving average */
+    private static final double EWMA_WEIGHT = 0.3;
+    /** Latency charged to a node for a failed call so that failing nodes are chosen less often before ejection */
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** The least latency a node is scored with so that its calls in flight still count when its latency is unknown */
+    private static final long MIN_SCORE_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final String url;
+    private final int port;
+    private double ewmaLatencyNanos;
+    private int inFlight;
+    private int consecutiveFailures;
+    private boolean ejected;
+    private boolean probing;
+    private long ejectedUntilMillis;
+    private long ejectionMillis;
+
+    public NodeEndpoint(final String url, final int port) {
+        this.url = url;
+        this.port = port;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Builds the URL of a path on the node
+     *
+     * @param urlPath the path on the node
+     * @return the full url
+     */
+    public String buildUrl(final String urlPath) {
+        return url + ':' + port + '/' + urlPath;
+    }
+
+    /**
+     * @return the exponentially weighted moving average latency of successful calls in milliseconds
+     */
+    public synchronized double getEwmaLatencyMillis() {
+        return ewmaLatencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the latency average in nanoseconds, zero until the node has been timed
+     */
+    synchronized double getEwmaLatencyNanos() {
+        return ewmaLatencyNanos;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public synchronized boolean isEjected() {
+        return ejected;
+    }
+
+    synchronized void onStart() {
+        inFlight++;
+    }
+
+    synchronized void onSuccess(final long latencyNanos) {
+        inFlight--;
+        consecutiveFailures = 0;
+        // A call that succeeds while every node is ejected proves the node is back
+        ejected = false;
+        ejectionMillis = 0;
+        ewmaLatencyNanos = ewmaLatencyNanos == 0 ? latencyNanos : ewmaLatencyNanos + EWMA_WEIGHT * (latencyNanos - ewmaLatencyNanos);
+    }
+
+    /**
+     * Records a call cancelled before it was answered, eg the loser of a hedged call. The node took at least as long as
+     * the call was in flight so the latency average is raised to that if it was lower.
+     *
+     * @param elapsedNanos the time the call was in flight
+     */
+    synchronized void onCancel(final long elapsedNanos) {
+        inFlight--;
+        if (elapsedNanos > ewmaLatencyNanos) {
+            ewmaLatencyNanos = ewmaLatencyNanos + EWMA_WEIGHT * (elapsedNanos - ewmaLatencyNanos);
+        }
+    }
+
+    /**
+     * Records a failed call, ejecting the node once the failure threshold is reached
+     *
+     * @param failureThreshold  the number of consecutive failures that eject the node
+     * @param minEjectionMillis the time the node is first ejected for
+     * @param maxEjectionMillis the maximum time the node is ejected for as ejections repeat
+     */
+    synchronized void onFailure(final int failureThreshold, final long minEjectionMillis, final long maxEjectionMillis) {
+        inFlight--;
+        consecutiveFailures++;
+        ewmaLatencyNanos = Math.max(ewmaLatencyNanos * 2, FAILURE_PENALTY_NANOS);
+        if (!ejected && consecutiveFailures >= failureThreshold) {
+            eject(minEjectionMillis, maxEjectionMillis);
+        }
+    }
+
+    /**
+     * Score used to choose between nodes, lower is better. Nodes with a high latency or many calls in flight score
+     * higher.
+     *
+     * @param unknownLatencyNanos the latency assumed for a node that has no latency average yet
+     */
+    synchronized double score(final double unknownLatencyNanos) {
+        final double latencyNanos = ewmaLatencyNanos > 0 ? ewmaLatencyNanos : unknownLatencyNanos;
+        return Math.max(latencyNanos, MIN_SCORE_LATENCY_NANOS) * (inFlight + 1);
+    }
+
+    synchronized long getEjectedUntilMillis() {
+        return ejectedUntilMillis;
+    }
+
+    /**
+     * Indicates if the node has been ejected and its ejection time has elapsed so that it should be probed. If so the
+     * node is marked as being probed so that only one probe is sent.
+     *
+     * @param nowMillis the current time
+     * @return true if the caller should probe the node
+     */
+    synchronized boolean startProbe(final long nowMillis) {
+        if (ejected && !probing && nowMillis >= ejectedUntilMillis) {
+            probing = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records the result of a probe, a successful probe returns the node to the pool with its latency average reset to
+     * the probe's latency while a failed one ejects it for twice as long as before
+     *
+     * @param latencyNanos the time the probe took
+     */
+    synchronized void onProbe(final boolean success,
+                              final long latencyNanos,
+                              final long minEjectionMillis,
+                              final long maxEjectionMillis) {
+        probing = false;
+        if (success) {
+            ejected = false;
+            consecutiveFailures = 0;
+            ejectionMillis = 0;
+            ewmaLatencyNanos = latencyNanos;
+        } else {
+            eject(minEjectionMillis, maxEjectionMillis);
+        }
+    }
+
+    private void eject(final long minEjectionMillis, final long maxEjectionMillis) {
+        ejected = true;
+        ejectionMillis = ejectionMillis == 0 ? minEjectionMillis : Math.min(ejectionMillis * 2, maxEjectionMillis);
+        ejectedUntilMillis = System.currentTimeMillis() + ejectionMillis;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final NodeEndpoint that = (NodeEndpoint) o;
+        return port == that.port && Objects.equals(url, that.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, port);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "NodeEndpoint{" +
+               "url='" + url + '\'' +
+               ", port=" + port +
+               ", ewmaLatencyMillis=" + getEwmaLatencyMillis() +
+               ", inFlight=" + inFlight +
+               ", ejected=" + ejected +
+               '}';
+    }
+}
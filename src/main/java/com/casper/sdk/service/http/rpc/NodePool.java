@@ -0,0 +1,158 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * A pool of nodes that RPC calls are spread across. Each call is routed to the better of two randomly chosen healthy
+ * nodes, scored on their moving average latency and calls in flight. Nodes that fail repeatedly are ejected from the
+ * pool and returned to it once an info_get_status probe succeeds.
+ */
+public class NodePool {
+
+    private final List<NodeEndpoint> endpoints;
+    /** The nodes that deploys are sent to, all nodes if empty */
+    private final List<NodeEndpoint> deployEndpoints;
+    private final int failureThreshold;
+    private final long minEjectionMillis;
+    private final long maxEjectionMillis;
+    private volatile Consumer<NodeEndpoint> prober = endpoint -> {
+    };
+
+    NodePool(final List<NodeEndpoint> endpoints,
+             final List<NodeEndpoint> deployEndpoints,
+             final int failureThreshold,
+             final long minEjectionMillis,
+             final long maxEjectionMillis) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("A node pool requires at least one endpoint");
+        }
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+        this.deployEndpoints = Collections.unmodifiableList(new ArrayList<>(deployEndpoints));
+        this.failureThreshold = failureThreshold;
+        this.minEjectionMillis = minEjectionMillis;
+        this.maxEjectionMillis = maxEjectionMillis;
+    }
+
+    /**
+     * Creates a pool of a single node
+     *
+     * @param url  the url of the node
+     * @param port the RPC port of the node
+     * @return the new pool
+     */
+    public static NodePool of(final String url, final int port) {
+        return new NodePoolBuilder().endpoint(url, port).build();
+    }
+
+    public List<NodeEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public List<NodeEndpoint> getDeployEndpoints() {
+        return deployEndpoints.isEmpty() ? endpoints : deployEndpoints;
+    }
+
+    public int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * Selects the node to send a call to
+     *
+     * @param deploy   true if the call sends a deploy so must be sent to one of the deploy nodes
+     * @param excluded nodes that must not be selected, eg because they have already failed the call
+     * @return the selected node or null if all candidate nodes are excluded
+     */
+    NodeEndpoint select(final boolean deploy, final Set<NodeEndpoint> excluded) {
+
+        final List<NodeEndpoint> targets = deploy ? getDeployEndpoints() : endpoints;
+        final long now = System.currentTimeMillis();
+
+        final List<NodeEndpoint> healthy = new ArrayList<>(targets.size());
+        NodeEndpoint soonestReadmitted = null;
+
+        for (final NodeEndpoint endpoint : targets) {
+            if (endpoint.startProbe(now)) {
+                prober.accept(endpoint);
+            }
+            if (excluded.contains(endpoint)) {
+                continue;
+            }
+            if (!endpoint.isEjected()) {
+                healthy.add(endpoint);
+            } else if (soonestReadmitted == null || endpoint.getEjectedUntilMillis() < soonestReadmitted.getEjectedUntilMillis()) {
+                soonestReadmitted = endpoint;
+            }
+        }
+
+        if (healthy.isEmpty()) {
+            // Every node is ejected so try the one closest to being readmitted rather than failing outright
+            return soonestReadmitted;
+        } else if (healthy.size() == 1) {
+            return healthy.get(0);
+        }
+
+        // Power of two choices
+        final Random random = ThreadLocalRandom.current();
+        final int first = random.nextInt(healthy.size());
+        final int second = (first + 1 + random.nextInt(healthy.size() - 1)) % healthy.size();
+        final NodeEndpoint a = healthy.get(first);
+        final NodeEndpoint b = healthy.get(second);
+        // A node without a latency average yet, eg one just added, is assumed to be as fast as the others on average
+        final double unknownLatencyNanos = a.getEwmaLatencyNanos() > 0 && b.getEwmaLatencyNanos() > 0 ? 0 : meanLatencyNanos(healthy);
+        return a.score(unknownLatencyNanos) <= b.score(unknownLatencyNanos) ? a : b;
+    }
+
+    private static double meanLatencyNanos(final List<NodeEndpoint> endpoints) {
+        double total = 0;
+        int count = 0;
+        for (final NodeEndpoint endpoint : endpoints) {
+            final double latencyNanos = endpoint.getEwmaLatencyNanos();
+            if (latencyNanos > 0) {
+                total += latencyNanos;
+                count++;
+            }
+        }
+        return count == 0 ? 0 : total / count;
+    }
+
+    void onStart(final NodeEndpoint endpoint) {
+        endpoint.onStart();
+    }
+
+    void onSuccess(final NodeEndpoint endpoint, final long latencyNanos) {
+        endpoint.onSuccess(latencyNanos);
+    }
+
+    void onCancel(final NodeEndpoint endpoint, final long elapsedNanos) {
+        endpoint.onCancel(elapsedNanos);
+    }
+
+    void onFailure(final NodeEndpoint endpoint) {
+        endpoint.onFailure(failureThreshold, minEjectionMillis, maxEjectionMillis);
+    }
+
+    void onProbe(final NodeEndpoint endpoint, final boolean success, final long latencyNanos) {
+        endpoint.onProbe(success, latencyNanos, minEjectionMillis, maxEjectionMillis);
+    }
+
+    /**
+     * Sets the function that sends an asynchronous probe to an ejected node. The prober must report the outcome via
+     * {@link #onProbe(NodeEndpoint, boolean, long)}.
+     *
+     * @param prober the function that probes a node
+     */
+    void setProber(final Consumer<NodeEndpoint> prober) {
+        this.prober = prober;
+    }
+
+    @Override
+    public String toString() {
+        return "NodePool{" +
+               "endpoints=" + endpoints +
+               ", deployEndpoints=" + deployEndpoints +
+               '}';
+    }
+}
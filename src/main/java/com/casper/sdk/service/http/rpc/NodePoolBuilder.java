@@ -0,0 +1,78 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link NodePool}
+ */
+public class NodePoolBuilder {
+
+    private final List<NodeEndpoint> endpoints = new ArrayList<>();
+    private final List<NodeEndpoint> deployEndpoints = new ArrayList<>();
+    private int failureThreshold = 3;
+    private long minEjectionMillis = TimeUnit.SECONDS.toMillis(5);
+    private long maxEjectionMillis = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Adds a node that all calls may be routed to
+     *
+     * @param url  the url of the node
+     * @param port the RPC port of the node
+     * @return this builder
+     */
+    public NodePoolBuilder endpoint(final String url, final int port) {
+        endpoints.add(new NodeEndpoint(url, port));
+        return this;
+    }
+
+    /**
+     * Adds a node that all calls may be routed to and that is one of the preferred nodes for account_put_deploy. Once a
+     * deploy node is added deploys are only sent to deploy nodes.
+     *
+     * @param url  the url of the node
+     * @param port the RPC port of the node
+     * @return this builder
+     */
+    public NodePoolBuilder deployEndpoint(final String url, final int port) {
+        final NodeEndpoint endpoint = new NodeEndpoint(url, port);
+        endpoints.add(endpoint);
+        deployEndpoints.add(endpoint);
+        return this;
+    }
+
+    /**
+     * @param failureThreshold the number of consecutive failures after which a node is ejected
+     * @return this builder
+     */
+    public NodePoolBuilder failureThreshold(final int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        return this;
+    }
+
+    /**
+     * Sets how long an ejected node is kept out of the pool before it is probed. Each failed probe doubles the ejection
+     * time up to the maximum.
+     *
+     * @param min  the initial ejection time
+     * @param max  the maximum ejection time
+     * @param unit the unit of the times
+     * @return this builder
+     */
+    public NodePoolBuilder ejectionTime(final long min, final long max, final TimeUnit unit) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Invalid ejection time min: " + min + " max: " + max);
+        }
+        this.minEjectionMillis = unit.toMillis(min);
+        this.maxEjectionMillis = unit.toMillis(max);
+        return this;
+    }
+
+    public NodePool build() {
+        return new NodePool(endpoints, deployEndpoints, failureThreshold, minEjectionMillis, maxEjectionMillis);
+    }
+}
@@ -0,0 +1,199 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.RateLimitException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client side admission control for the calls to each node. Calls are limited per node and RPC method by token buckets
+ * with a sustained rate and a burst size, and optionally per node by an adaptive {@link ConcurrencyLimit}. A blocking
+ * call that exceeds a limit waits up to the maximum wait for its turn, a non-blocking call does not wait. A call that
+ * cannot be admitted fails with a {@link RateLimitException} without being sent.
+ */
+public class RateLimiter {
+
+    private final Rate defaultRate;
+    private final Map<String, Rate> methodRates;
+    private final long maxWaitNanos;
+    /** The initial, minimum and maximum concurrency limits, the concurrency is not limited if the maximum is zero */
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final ConcurrentMap<NodeEndpoint, ConcurrentMap<String, TokenBucket>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<NodeEndpoint, ConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final AtomicLong delayedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    RateLimiter(final Rate defaultRate,
+                final Map<String, Rate> methodRates,
+                final long maxWaitNanos,
+                final int initialLimit,
+                final int minLimit,
+                final int maxLimit,
+                final double latencyTolerance) {
+        this.defaultRate = defaultRate;
+        this.methodRates = Collections.unmodifiableMap(methodRates);
+        this.maxWaitNanos = maxWaitNanos;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * @return the number of calls that waited for a token or for the concurrency limit
+     */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    /**
+     * @return the number of calls rejected as they exceeded a limit
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @param endpoint the node
+     * @return the adaptive concurrency limit of the node or null if the concurrency is not limited
+     */
+    public ConcurrencyLimit getConcurrencyLimit(final NodeEndpoint endpoint) {
+        if (maxLimit == 0) {
+            return null;
+        }
+        return limits.computeIfAbsent(endpoint, key -> new ConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance));
+    }
+
+    /**
+     * Admits a call to a node, waiting for the limits of a blocking call
+     *
+     * @param endpoint    the node the call is to be sent to
+     * @param methodNames the names of the RPC methods sent by the call, more than one for a batch
+     * @param blocking    true if the caller may wait up to the maximum wait
+     * @return the permit to release once the call has completed
+     * @throws RateLimitException if the call cannot be admitted in time
+     */
+    Permit acquire(final NodeEndpoint endpoint, final List<String> methodNames, final boolean blocking) {
+
+        final long waitLimitNanos = blocking ? maxWaitNanos : 0;
+        final long start = System.nanoTime();
+        long waitNanos = 0;
+
+        for (int i = 0; i < methodNames.size(); i++) {
+            final TokenBucket bucket = getBucket(endpoint, methodNames.get(i), start);
+            if (bucket == null) {
+                continue;
+            }
+            final long reserved = bucket.reserve(start, waitLimitNanos);
+            if (reserved < 0) {
+                // Return the tokens reserved for the other methods of the batch
+                refund(endpoint, methodNames.subList(0, i), start);
+                rejectedCount.incrementAndGet();
+                throw new RateLimitException("Rate limit exceeded for " + methodNames.get(i) + " on " + endpoint.buildUrl(HttpMethods.RPC));
+            }
+            waitNanos = Math.max(waitNanos, reserved);
+        }
+
+        final ConcurrencyLimit limit = getConcurrencyLimit(endpoint);
+        try {
+            if (waitNanos > 0) {
+                delayedCount.incrementAndGet();
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            if (limit != null && !limit.acquire(Math.max(0, waitLimitNanos - (System.nanoTime() - start)))) {
+                // The call is not sent so its tokens are returned
+                refund(endpoint, methodNames, start);
+                rejectedCount.incrementAndGet();
+                throw new RateLimitException("Concurrency limit of " + limit.getLimit() + " reached on " + endpoint.buildUrl(HttpMethods.RPC));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            refund(endpoint, methodNames, start);
+            throw new RateLimitException("Interrupted waiting to call " + endpoint.buildUrl(HttpMethods.RPC));
+        }
+        return new Permit(limit);
+    }
+
+    /**
+     * Returns the tokens reserved for methods of a call that will not be sent
+     */
+    private void refund(final NodeEndpoint endpoint, final List<String> methodNames, final long nowNanos) {
+        for (final String methodName : methodNames) {
+            final TokenBucket bucket = getBucket(endpoint, methodName, nowNanos);
+            if (bucket != null) {
+                bucket.refund();
+            }
+        }
+    }
+
+    private TokenBucket getBucket(final NodeEndpoint endpoint, final String methodName, final long nowNanos) {
+        final Rate rate = methodRates.getOrDefault(methodName, defaultRate);
+        if (rate == null) {
+            return null;
+        }
+        return buckets.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, key -> new TokenBucket(rate.permitsPerSecond, rate.burst, nowNanos));
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter{" +
+               "delayedCount=" + delayedCount +
+               ", rejectedCount=" + rejectedCount +
+               ", limits=" + limits +
+               '}';
+    }
+
+    /**
+     * The sustained rate and burst size of a token bucket
+     */
+    static class Rate {
+
+        private final double permitsPerSecond;
+        private final int burst;
+
+        Rate(final double permitsPerSecond, final int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * The admission of a call, released with the outcome of the call to adapt the concurrency limit
+     */
+    static class Permit {
+
+        private final ConcurrencyLimit limit;
+        private final long start = System.nanoTime();
+
+        private Permit(final ConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * @param failed true if the node failed or throttled the call
+         */
+        void release(final boolean failed) {
+            if (limit != null) {
+                limit.release(System.nanoTime() - start, failed);
+            }
+        }
+
+        /**
+         * Releases a call cancelled before it was answered
+         */
+        void cancel() {
+            if (limit != null) {
+                limit.release(-1, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link RateLimiter}. Without a rate or a concurrency limit the built limiter admits every call.
+ */
+public class RateLimiterBuilder {
+
+    private final Map<String, RateLimiter.Rate> methodRates = new HashMap<>();
+    private RateLimiter.Rate defaultRate;
+    private long maxWaitNanos = TimeUnit.SECONDS.toNanos(1);
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    private double latencyTolerance = 2;
+
+    /**
+     * Limits the calls of every RPC method to each node
+     *
+     * @param permitsPerSecond the sustained rate of calls of each method
+     * @param burst            the number of calls that may be made at once after a quiet period
+     * @return this builder
+     */
+    public RateLimiterBuilder rate(final double permitsPerSecond, final int burst) {
+        this.defaultRate = createRate(permitsPerSecond, burst);
+        return this;
+    }
+
+    /**
+     * Limits the calls of an RPC method to each node, overriding the rate of every method
+     *
+     * @param methodName       the name of the RPC method, eg account_put_deploy
+     * @param permitsPerSecond the sustained rate of calls of the method
+     * @param burst            the number of calls that may be made at once after a quiet period
+     * @return this builder
+     */
+    public RateLimiterBuilder rate(final String methodName, final double permitsPerSecond, final int burst) {
+        methodRates.put(methodName, createRate(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * @param maxWait the longest a blocking call waits to be admitted before it is rejected
+     * @param unit    the unit of the wait
+     * @return this builder
+     */
+    public RateLimiterBuilder maxWait(final long maxWait, final TimeUnit unit) {
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+        }
+        this.maxWaitNanos = unit.toNanos(maxWait);
+        return this;
+    }
+
+    /**
+     * Limits the calls in flight to each node to a limit adapted from the latency of the calls
+     *
+     * @param initial the limit before any call has completed
+     * @param min     the lowest the limit is reduced to
+     * @param max     the highest the limit is raised to
+     * @return this builder
+     */
+    public RateLimiterBuilder adaptiveConcurrency(final int initial, final int min, final int max) {
+        if (min < 1 || initial < min || max < initial) {
+            throw new IllegalArgumentException("Invalid concurrency limit initial: " + initial + " min: " + min + " max: " + max);
+        }
+        this.initialLimit = initial;
+        this.minLimit = min;
+        this.maxLimit = max;
+        return this;
+    }
+
+    /**
+     * @param latencyTolerance the multiple of the lowest latency seen above which the concurrency limit is reduced
+     * @return this builder
+     */
+    public RateLimiterBuilder latencyTolerance(final double latencyTolerance) {
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("latencyTolerance must be greater than 1: " + latencyTolerance);
+        }
+        this.latencyTolerance = latencyTolerance;
+        return this;
+    }
+
+    public RateLimiter build() {
+        return new RateLimiter(defaultRate, methodRates, maxWaitNanos, initialLimit, minLimit, maxLimit, latencyTolerance);
+    }
+
+    private static RateLimiter.Rate createRate(final double permitsPerSecond, final int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Invalid rate: " + permitsPerSecond + " burst: " + burst);
+        }
+        return new RateLimiter.Rate(permitsPerSecond, burst);
+    }
+}
@@ -0,0 +1,15 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.io.IOException;
+
+/**
+ * Thrown by a {@link JsonRequestBody} whose payload cannot be written as JSON. The failure is raised while the body is
+ * being sent, so it is an {@link IOException} for OkHttp to pass on, but it says nothing about the node and the call is
+ * neither blamed on the node nor sent again.
+ */
+class RequestBodyException extends IOException {
+
+    RequestBodyException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
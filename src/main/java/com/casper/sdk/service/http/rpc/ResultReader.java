@@ -0,0 +1,23 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads a value directly from a streamed RPC response
+ *
+ * @param <T> the type of the value read
+ */
+@FunctionalInterface
+public interface ResultReader<T> {
+
+    /**
+     * Reads a value from the parser, the reader must consume the whole value
+     *
+     * @param parser the parser positioned at the first token of the value
+     * @return the value read
+     * @throws IOException if the value could not be read
+     */
+    T read(JsonParser parser) throws IOException;
+}
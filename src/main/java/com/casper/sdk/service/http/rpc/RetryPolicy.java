@@ -0,0 +1,164 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy for retrying RPC calls that failed on every node they could be sent to. Idempotent calls are retried after a
+ * jittered exponential backoff whatever the transport failure. Deploys are only retried when the failure proves the
+ * deploy never reached the node, such as a refused connection, so that a deploy is not sent twice because a response
+ * was lost. Blocking calls wait out the backoff on the calling thread, asynchronous calls are sent again from a
+ * scheduler so that no thread is blocked.
+ * <p>
+ * Each node has a {@link CircuitBreaker} that is opened by consecutive failures, calls are not sent to a node whose
+ * breaker is open so that callers fail fast while a node is down rather than waiting on timeouts.
+ */
+public class RetryPolicy {
+
+    private final int maxRetries;
+    private final int maxDeployRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<NodeEndpoint, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    RetryPolicy(final int maxRetries,
+                final int maxDeployRetries,
+                final long baseDelayNanos,
+                final long maxDelayNanos,
+                final int failureThreshold,
+                final long openMillis,
+                final ScheduledExecutorService scheduler) {
+        this.maxRetries = maxRetries;
+        this.maxDeployRetries = maxDeployRetries;
+        this.baseDelayNanos = baseDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.scheduler = scheduler;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public int getMaxDeployRetries() {
+        return maxDeployRetries;
+    }
+
+    /**
+     * @return the number of times a call was sent again after failing on every node
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return the number of calls not sent to a node as its circuit breaker was open
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @param endpoint the node
+     * @return the circuit breaker of the node
+     */
+    public CircuitBreaker getCircuitBreaker(final NodeEndpoint endpoint) {
+        return breakers.computeIfAbsent(endpoint, key -> new CircuitBreaker(failureThreshold, openMillis));
+    }
+
+    /**
+     * Indicates if a call may be sent to a node
+     *
+     * @param endpoint the node
+     * @return false if the node's circuit breaker is open
+     */
+    boolean tryAcquire(final NodeEndpoint endpoint) {
+        if (getCircuitBreaker(endpoint).tryAcquire(System.currentTimeMillis())) {
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    void onSuccess(final NodeEndpoint endpoint) {
+        getCircuitBreaker(endpoint).onSuccess();
+    }
+
+    void onCancel(final NodeEndpoint endpoint) {
+        getCircuitBreaker(endpoint).onCancel();
+    }
+
+    void onFailure(final NodeEndpoint endpoint) {
+        getCircuitBreaker(endpoint).onFailure(System.currentTimeMillis());
+    }
+
+    /**
+     * Indicates if a failed call may be sent again
+     *
+     * @param idempotent true if the call may be sent more than once
+     * @param failure    the transport failure of the call
+     * @return true if the call is idempotent or the failure proves the call did not reach the node
+     */
+    boolean isRetryable(final boolean idempotent, final IOException failure) {
+        return idempotent || isNotSent(failure);
+    }
+
+    /**
+     * Indicates if a transport failure proves a call never reached the node, the connection could not be opened
+     *
+     * @param failure the transport failure of the call, may be null
+     * @return true if the call was not sent
+     */
+    static boolean isNotSent(final Throwable failure) {
+        return failure instanceof ConnectException
+               || failure instanceof NoRouteToHostException
+               || failure instanceof UnknownHostException;
+    }
+
+    /**
+     * Obtains the delay before the next attempt of a call that failed on every node
+     *
+     * @param idempotent true if the call may be sent more than once
+     * @param attempt    the number of attempts already made, starting at one
+     * @return the delay in nanoseconds or -1 if the call is not to be retried
+     */
+    long getRetryDelayNanos(final boolean idempotent, final int attempt) {
+        if (attempt > (idempotent ? maxRetries : maxDeployRetries)) {
+            return -1;
+        }
+        retryCount.incrementAndGet();
+        // Full jitter spreads the retries of callers that failed together
+        final long ceiling = Math.min(maxDelayNanos, baseDelayNanos << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    ScheduledFuture<?> schedule(final Runnable retry, final long delayNanos) {
+        return scheduler.schedule(retry, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+               "maxRetries=" + maxRetries +
+               ", maxDeployRetries=" + maxDeployRetries +
+               ", retryCount=" + retryCount +
+               ", rejectedCount=" + rejectedCount +
+               ", breakers=" + breakers +
+               '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link RetryPolicy}
+ */
+public class RetryPolicyBuilder {
+
+    private int maxRetries = 3;
+    private int maxDeployRetries = 3;
+    private long baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long maxDelayNanos = TimeUnit.SECONDS.toNanos(5);
+    private int failureThreshold = 5;
+    private long openMillis = TimeUnit.SECONDS.toMillis(10);
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param maxRetries the most times an idempotent call is sent again after failing on every node
+     * @return this builder
+     */
+    public RetryPolicyBuilder maxRetries(final int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * @param maxDeployRetries the most times a deploy is sent again after a failure proving it did not reach the node
+     * @return this builder
+     */
+    public RetryPolicyBuilder maxDeployRetries(final int maxDeployRetries) {
+        if (maxDeployRetries < 0) {
+            throw new IllegalArgumentException("maxDeployRetries must not be negative: " + maxDeployRetries);
+        }
+        this.maxDeployRetries = maxDeployRetries;
+        return this;
+    }
+
+    /**
+     * Sets the backoff between attempts, the delay before a retry is random up to the base delay doubled for each
+     * attempt made, capped at the maximum
+     *
+     * @param base the delay ceiling of the first retry
+     * @param max  the largest delay ceiling
+     * @param unit the unit of the delays
+     * @return this builder
+     */
+    public RetryPolicyBuilder backoff(final long base, final long max, final TimeUnit unit) {
+        if (base < 0 || max < base) {
+            throw new IllegalArgumentException("Invalid backoff base: " + base + " max: " + max);
+        }
+        this.baseDelayNanos = unit.toNanos(base);
+        this.maxDelayNanos = unit.toNanos(max);
+        return this;
+    }
+
+    /**
+     * Sets when the circuit breaker of a node opens and for how long
+     *
+     * @param failureThreshold the number of consecutive failures that open the breaker
+     * @param openTime         how long the breaker stays open before a trial call is let through
+     * @param unit             the unit of the open time
+     * @return this builder
+     */
+    public RetryPolicyBuilder circuitBreaker(final int failureThreshold, final long openTime, final TimeUnit unit) {
+        if (failureThreshold < 1 || openTime < 0) {
+            throw new IllegalArgumentException("Invalid failure threshold: " + failureThreshold + " open time: " + openTime);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = unit.toMillis(openTime);
+        return this;
+    }
+
+    /**
+     * @param scheduler the scheduler that sends asynchronous calls again after the backoff, a single daemon thread is
+     *                  used if not provided
+     * @return this builder
+     */
+    public RetryPolicyBuilder scheduler(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public RetryPolicy build() {
+        return new RetryPolicy(
+                maxRetries,
+                maxDeployRetries,
+                baseDelayNanos,
+                maxDelayNanos,
+                failureThreshold,
+                openMillis,
+                scheduler != null ? scheduler : createScheduler()
+        );
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "casper-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
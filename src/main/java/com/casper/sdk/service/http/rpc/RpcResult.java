@@ -0,0 +1,62 @@
+package com.casper.sdk.service.http.rpc;
+
+/**
+ * The result of a single method within a JSON-RPC batch, either the mapped value or the error raised for that method
+ * alone
+ *
+ * @param <T> the type of the mapped value
+ */
+public class RpcResult<T> {
+
+    /** The ID of the method in the batch */
+    private final int id;
+    private final T value;
+    private final RuntimeException error;
+
+    private RpcResult(final int id, final T value, final RuntimeException error) {
+        this.id = id;
+        this.value = value;
+        this.error = error;
+    }
+
+    static <T> RpcResult<T> success(final int id, final T value) {
+        return new RpcResult<>(id, value, null);
+    }
+
+    static <T> RpcResult<T> failure(final int id, final RuntimeException error) {
+        return new RpcResult<>(id, null, error);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Obtains the value of the method
+     *
+     * @return the mapped value
+     * @throws RuntimeException the error of the method if it failed
+     */
+    public T getValue() {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "RpcResult{" +
+               "id=" + id +
+               (error != null ? ", error=" + error.getMessage() : ", value=" + value) +
+               '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.casper.sdk.service.http.rpc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical RPC calls so that they share a single HTTP request. The first caller with a key makes
+ * the call and every caller with an equal key that arrives while it is in flight receives the same result or exception.
+ * The key is the method, which equals other methods of the same name and parameters, or the method and the reader of
+ * a streamed call.
+ */
+class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong collapsedCount = new AtomicLong();
+
+    /**
+     * Makes the call unless a call with an equal key is already in flight in which case its result is awaited
+     *
+     * @param key    identifies the call
+     * @param caller makes the call to the node
+     * @param <T>    the type of the result, results must not be mutated as they are shared between callers
+     * @return the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    <T> T call(final Object key, final Supplier<T> caller) {
+
+        callCount.incrementAndGet();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            collapsedCount.incrementAndGet();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            final T result = caller.get();
+            // Removed before completing so that a caller arriving after the response is read makes a new call
+            inFlight.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, else the key stays in flight and every later caller with the key waits forever
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of calls made through this single flight, including collapsed calls
+     */
+    long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * @return the number of calls that shared the request of an identical call rather than making their own
+     */
+    long getCollapsedCount() {
+        return collapsedCount.get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.Constants;
+
+/**
+ * Cache of global state query responses. A state_get_item or state_get_balance made against a state root hash can
+ * never change, so its response can be served from the cache for as long as it is retained.
+ */
+public interface StateQueryCache {
+
+    /**
+     * Obtains the cached response of a method
+     *
+     * @param method the method whose response is to be obtained
+     * @return the cached JSON response or null if the response is not cached
+     */
+    String get(Method method);
+
+    /**
+     * Caches the response of a method
+     *
+     * @param method   the method whose response is to be cached
+     * @param response the JSON response of the method
+     */
+    void put(Method method, String response);
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    /**
+     * Indicates if the response of a method is immutable and can therefore be cached. Only state_get_item and
+     * state_get_balance methods that are made against a state root hash are cacheable.
+     *
+     * @param method the method to test
+     * @return true if the method's response can be cached
+     */
+    static boolean isCacheable(final Method method) {
+        return (Constants.STATE_GET_ITEM.equals(method.getMethod()) || Constants.STATE_GET_BALANCE.equals(method.getMethod()))
+               && method.getParams().get(Constants.STATE_ROOT_HASH) != null;
+    }
+}
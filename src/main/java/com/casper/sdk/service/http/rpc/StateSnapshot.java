@@ -0,0 +1,148 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.hash.HashService;
+import com.casper.sdk.types.URef;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A query session pinned to a single global state root hash. The state root hash is obtained once when the snapshot
+ * is created and every query made through the snapshot reads the same state, so the results of several queries are
+ * consistent with each other.
+ */
+public class StateSnapshot {
+
+    private final NodeClient nodeClient;
+    private final HashService hashService;
+    private final String stateRootHash;
+
+    StateSnapshot(final NodeClient nodeClient, final HashService hashService, final String stateRootHash) {
+        this.nodeClient = nodeClient;
+        this.hashService = hashService;
+        this.stateRootHash = stateRootHash;
+    }
+
+    /**
+     * @return the global state root hash all queries are made against
+     */
+    public String getStateRootHash() {
+        return stateRootHash;
+    }
+
+    /**
+     * Obtains the stored value of a global state key
+     *
+     * @param key  the global state key, eg 'account-hash-...' or 'uref-...'
+     * @param path the path components starting from the key
+     * @return the state_get_item result as JSON
+     */
+    public String getItem(final String key, final List<String> path) {
+        return nodeClient.rcpCallMethodMap(
+                MethodFactory.stateItem(stateRootHash, key, path),
+                MethodEnums.ACCOUNT_INFO::getValue
+        );
+    }
+
+    /**
+     * Obtains the account info JSON
+     *
+     * @param accountKey the hex of the account's public key
+     * @return account information in JSON format
+     */
+    public String getAccountInfo(final String accountKey) {
+        return nodeClient.rcpCallMethodMap(
+                MethodFactory.accountInfo(stateRootHash, hashService.getAccountHash(accountKey)),
+                MethodEnums.ACCOUNT_INFO::getValue
+        );
+    }
+
+    /**
+     * Obtains an on-chain account's main purse unforgeable reference.
+     *
+     * @param accountKey the hex of the account's public key
+     * @return the account's main purse unforgeable reference
+     */
+    public URef getAccountMainPurseURef(final String accountKey) {
+        return nodeClient.rcpCallMethodMap(
+                MethodFactory.accountInfo(stateRootHash, hashService.getAccountHash(accountKey)),
+                result -> new URef(MethodEnums.STATE_GET_ITEM.getValue(result))
+        );
+    }
+
+    /**
+     * Obtains the balance of a purse
+     *
+     * @param purseURef the unforgeable reference of the purse
+     * @return the balance of the purse in motes
+     */
+    public BigInteger getPurseBalance(final URef purseURef) {
+        return nodeClient.rcpCallMethodMap(
+                MethodFactory.accountBalance(stateRootHash, purseURef.toString()),
+                result -> new BigInteger(MethodEnums.STATE_GET_BALANCE.getValue(result))
+        );
+    }
+
+    /**
+     * Obtains the balance of an account's main purse
+     *
+     * @param accountKey the hex of the account's public key
+     * @return the balance of the account in motes
+     */
+    public BigInteger getAccountBalance(final String accountKey) {
+        return getPurseBalance(getAccountMainPurseURef(accountKey));
+    }
+
+    /**
+     * Obtains the account balances using one JSON-RPC batch to obtain the main purses and another to obtain the
+     * balances
+     *
+     * @param accountKeys the hex of the accounts' public keys
+     * @return the balance result of each account in the order of the provided keys
+     */
+    public List<RpcResult<BigInteger>> getAccountBalances(final List<String> accountKeys) {
+
+        final List<Method> purseMethods = new ArrayList<>(accountKeys.size());
+        for (final String accountKey : accountKeys) {
+            purseMethods.add(MethodFactory.accountInfo(stateRootHash, hashService.getAccountHash(accountKey)));
+        }
+        final List<RpcResult<URef>> purses = nodeClient.rcpCallBatchMap(
+                purseMethods,
+                result -> new URef(MethodEnums.STATE_GET_ITEM.getValue(result))
+        );
+
+        final List<Method> balanceMethods = new ArrayList<>();
+        for (final RpcResult<URef> purse : purses) {
+            if (purse.isSuccess()) {
+                balanceMethods.add(MethodFactory.accountBalance(stateRootHash, purse.getValue().toString()));
+            }
+        }
+        final List<RpcResult<BigInteger>> balances = nodeClient.rcpCallBatchMap(
+                balanceMethods,
+                result -> new BigInteger(MethodEnums.STATE_GET_BALANCE.getValue(result))
+        );
+
+        // Merge the purse failures with the balance results
+        final List<RpcResult<BigInteger>> results = new ArrayList<>(purses.size());
+        int balanceIndex = 0;
+        for (final RpcResult<URef> purse : purses) {
+            if (purse.isSuccess()) {
+                final RpcResult<BigInteger> balance = balances.get(balanceIndex++);
+                results.add(balance.isSuccess()
+                        ? RpcResult.success(purse.getId(), balance.getValue())
+                        : RpcResult.failure(purse.getId(), balance.getError()));
+            } else {
+                results.add(RpcResult.failure(purse.getId(), purse.getError()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return "StateSnapshot{" +
+               "stateRootHash='" + stateRootHash + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.casper.sdk.service.http.rpc;
+
+/**
+ * A token bucket that refills at a sustained rate up to its burst size. A caller may reserve a token that is not yet
+ * available and wait for it, so callers queue in the order they reserved.
+ */
+class TokenBucket {
+
+    private final double nanosPerToken;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond the sustained rate
+     * @param burst            the most tokens that can be saved up while idle
+     * @param nowNanos         the current time from {@link System#nanoTime()}
+     */
+    TokenBucket(final double permitsPerSecond, final int burst, final long nowNanos) {
+        this.nanosPerToken = 1_000_000_000d / permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Reserves a token if it will be available within the maximum wait
+     *
+     * @param nowNanos     the current time from {@link System#nanoTime()}
+     * @param maxWaitNanos the longest the caller will wait for the token
+     * @return the time to wait for the reserved token in nanoseconds or -1 if no token was reserved
+     */
+    synchronized long reserve(final long nowNanos, final long maxWaitNanos) {
+        refill(nowNanos);
+        final long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens--;
+        return waitNanos;
+    }
+
+    /**
+     * Returns a reserved token that will not be used
+     */
+    synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    private void refill(final long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) / nanosPerToken);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
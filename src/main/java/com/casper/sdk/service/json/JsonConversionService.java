@@ -1,8 +1,11 @@
 package com.casper.sdk.service.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.ByteArrayOutputStream;
@@ -43,6 +46,22 @@ public class JsonConversionService {
         return mapper.writeValueAsString(value);
     }
 
+    /**
+     * Writes a value as compact JSON to an {@link OutputStream} through the generator's own buffer, the stream is
+     * neither flushed nor closed
+     *
+     * @param value the value to write
+     * @param out   the stream to write the JSON to
+     * @throws IOException - on write error
+     */
+    public void writeValue(final Object value, final OutputStream out) throws IOException {
+        try (final JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            mapper.writeValue(gen, value);
+        }
+    }
+
     /**
      * Writes a Casper type object ot a JSON string to an {@link OutputStream}
      *
@@ -85,4 +104,40 @@ public class JsonConversionService {
         clear();
         return mapper.reader().readValue(in, type);
     }
+
+    /**
+     * Reads a casper type object from a parser positioned at the start of its JSON
+     *
+     * @param parser the parser to read from
+     * @param type   the class of the object to create from JSON
+     * @param <T>    the type of the object to create from JSON
+     * @return the casper type object parsed from the JSON
+     * @throws IOException - on a read error
+     */
+    public <T> T fromJson(final JsonParser parser, final Class<T> type) throws IOException {
+        clear();
+        return mapper.readValue(parser, type);
+    }
+
+    /**
+     * Creates a parser that streams JSON from an input stream
+     *
+     * @param in the stream of JSON to parse
+     * @return the new parser
+     * @throws IOException - on a read error
+     */
+    public JsonParser createParser(final InputStream in) throws IOException {
+        return mapper.createParser(in);
+    }
+
+    /**
+     * Parses a JSON string as a tree of nodes
+     *
+     * @param json the JSON to parse
+     * @return the root node of the parsed JSON
+     * @throws IOException - on a read error
+     */
+    public JsonNode readTree(final String json) throws IOException {
+        return mapper.readTree(json);
+    }
 }
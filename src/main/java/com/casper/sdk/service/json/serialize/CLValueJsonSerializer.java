@@ -20,7 +20,7 @@ public class CLValueJsonSerializer extends JsonSerializer<CLValue> {
         gen.writeFieldName("cl_type");
         gen.getCodec().writeValue(gen, value.getCLTypeInfo());
         gen.writeFieldName("bytes");
-        gen.writeString(value.toHex());
+        HexJsonWriter.writeHex(gen, value.getBytes());
         writeParsed(value, gen);
         gen.writeEndObject();
     }
@@ -35,7 +35,7 @@ public class DeployExecutableJsonSerializer extends JsonSerializer<DeployExecuta
         gen.writeFieldName("ModuleBytes");
         gen.writeStartObject();
         gen.writeFieldName("module_bytes");
-        gen.writeString(CLValue.toHex(payment.getModuleBytes()));
+        HexJsonWriter.writeHex(gen, payment.getModuleBytes());
         writeArgs(payment, gen);
         gen.writeEndObject();
         gen.writeEndObject();
@@ -0,0 +1,87 @@
+package com.casper.sdk.service.json.serialize;
+
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Writes byte arrays as JSON hex strings. Large arrays such as module bytes are encoded a chunk at a time as the
+ * generator writes them rather than being held as a whole hex string first.
+ */
+public final class HexJsonWriter {
+
+    /** The most bytes encoded at a time and the size below which the hex is built as a string */
+    static final int CHUNK_SIZE = 4096;
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private HexJsonWriter() {
+    }
+
+    /**
+     * Writes bytes as a hex string value
+     *
+     * @param gen   the generator to write to
+     * @param bytes the bytes to write
+     * @throws IOException - on write error
+     */
+    public static void writeHex(final JsonGenerator gen, final byte[] bytes) throws IOException {
+        // A token buffer cannot stream a string so is always given the whole hex
+        if (bytes.length <= CHUNK_SIZE || gen instanceof TokenBuffer) {
+            gen.writeString(ByteUtils.encodeHexString(bytes));
+        } else {
+            gen.writeString(new HexReader(bytes), bytes.length * 2);
+        }
+    }
+
+    /**
+     * Reads the hex characters of a byte array, encoding only the bytes for each read
+     */
+    private static class HexReader extends Reader {
+
+        private final byte[] bytes;
+        private int position;
+        /** The low digit of a byte whose high digit filled the previous read */
+        private int pending = -1;
+
+        private HexReader(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == bytes.length && pending < 0) {
+                return -1;
+            }
+
+            int written = 0;
+            if (pending >= 0) {
+                buffer[offset + written++] = DIGITS[pending];
+                pending = -1;
+            }
+            final int end = Math.min(bytes.length, position + Math.min(CHUNK_SIZE, (length - written) / 2));
+            while (position < end) {
+                final int b = bytes[position++] & 0xff;
+                buffer[offset + written++] = DIGITS[b >>> 4];
+                buffer[offset + written++] = DIGITS[b & 0x0f];
+            }
+            // Odd sized reads split a byte across two reads
+            if (written < length && position < bytes.length) {
+                final int b = bytes[position++] & 0xff;
+                buffer[offset + written++] = DIGITS[b >>> 4];
+                pending = b & 0x0f;
+            }
+            return written;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
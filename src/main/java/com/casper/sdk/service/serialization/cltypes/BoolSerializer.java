@@ -1,5 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import org.apache.commons.lang3.BooleanUtils;
 
 import java.util.Objects;
@@ -10,7 +11,7 @@ import java.util.Objects;
 class BoolSerializer implements TypesSerializer {
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
         Objects.requireNonNull(toSerialize, "toSerialize must not be null");
 
@@ -26,6 +27,11 @@ class BoolSerializer implements TypesSerializer {
             value = false;
         }
 
-        return new byte[]{(byte) (value ? 1 : 0)};
+        sink.write((byte) (value ? 1 : 0));
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        return 1;
     }
 }
@@ -1,6 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.service.serialization.util.ByteUtils;
 import com.casper.sdk.types.CLPublicKey;
 import com.casper.sdk.types.Digest;
@@ -17,14 +17,31 @@ class ByteArraySerializer extends AbstractTypesSerializer {
     }
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
         byte[] originalBytes = toBytes(toSerialize);
 
-        return new ByteArrayBuilder()
-                .append(getU32Serializer().serialize(originalBytes.length))
-                .append(originalBytes)
-                .toByteArray();
+        getU32Serializer().write(originalBytes.length, sink);
+        sink.write(originalBytes);
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        return Integer.BYTES + byteLength(toSerialize);
+    }
+
+    private int byteLength(final Object toSerialize) {
+        if (toSerialize instanceof String) {
+            return ((String) toSerialize).length() / 2;
+        } else if (toSerialize instanceof byte[]) {
+            return ((byte[]) toSerialize).length;
+        } else if (toSerialize instanceof Digest) {
+            return ((Digest) toSerialize).getHash().length;
+        } else if (toSerialize instanceof PublicKey || toSerialize instanceof CLPublicKey) {
+            return getPublicKeySerializer().sizeOf(toSerialize);
+        } else {
+            return 0;
+        }
     }
 
     private byte[] toBytes(final Object toSerialize) {
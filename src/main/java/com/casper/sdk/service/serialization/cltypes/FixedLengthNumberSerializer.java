@@ -1,6 +1,7 @@
 package com.casper.sdk.service.serialization.cltypes;
 
 import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.math.BigInteger;
@@ -21,9 +22,46 @@ abstract class FixedLengthNumberSerializer implements TypesSerializer {
     }
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
+        if (toSerialize instanceof Long || toSerialize instanceof Integer
+            || toSerialize instanceof Short || toSerialize instanceof Byte) {
+            write(((Number) toSerialize).longValue(), sink);
+        } else if (toSerialize instanceof BigInteger && ((BigInteger) toSerialize).bitLength() < Long.SIZE) {
+            write(((BigInteger) toSerialize).longValue(), sink);
+        } else {
+            write(toBigInteger(toSerialize), sink);
+        }
+    }
+
+    /**
+     * Converts a primitive number to casper byte format without converting it to a {@link BigInteger}
+     *
+     * @param toSerialize the number to serialize
+     * @return the number as little endian bytes
+     */
+    public byte[] serialize(final long toSerialize) {
+        final ByteSink sink = new ByteSink(maxBytes);
+        write(toSerialize, sink);
+        return sink.toByteArray();
+    }
 
-        final BigInteger bigInt = toBigInteger(toSerialize);
+    /**
+     * Writes a primitive number in casper byte format, numbers in the range of the type are written directly in little
+     * endian byte order
+     *
+     * @param toSerialize the number to serialize
+     * @param sink        the sink to write the little endian bytes to
+     */
+    public void write(final long toSerialize, final ByteSink sink) {
+        if (isInRange(toSerialize)) {
+            sink.writeLE(toSerialize, maxBytes);
+        } else {
+            // Numbers outside of the range are converted, or rejected, as before
+            write(BigInteger.valueOf(toSerialize), sink);
+        }
+    }
+
+    private void write(final BigInteger bigInt, final ByteSink sink) {
         byte[] bytes = bigInt.toByteArray();
 
         // Will pad with leading 0x00 for positive and -0xFF for negative numbers if length less than maxBytes
@@ -39,7 +77,20 @@ abstract class FixedLengthNumberSerializer implements TypesSerializer {
         // Switch from BE to LE byte order
         ArrayUtils.reverse(bytes);
 
-        return bytes;
+        sink.write(bytes);
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        return maxBytes;
+    }
+
+    private boolean isInRange(final long value) {
+        if (maxBytes >= Long.BYTES) {
+            return signed || value >= 0;
+        }
+        final long limit = 1L << (maxBytes * Byte.SIZE);
+        return signed ? value >= -(limit >> 1) && value < limit >> 1 : value >= 0 && value < limit;
     }
 
     private byte[] trimLeadingZero(final byte[] bytes) {
@@ -1,15 +1,25 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.CLKeyValue;
 
 class KeySerializer implements TypesSerializer {
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
         if (toSerialize instanceof CLKeyValue) {
-            return ((CLKeyValue) toSerialize).getBytes();
+            sink.write(((CLKeyValue) toSerialize).getBytes());
+        }
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+
+        if (toSerialize instanceof CLKeyValue) {
+            // The key type tag and the key bytes
+            return 1 + ((CLKeyValue) toSerialize).getKeyBytes().length;
         } else {
-            return new byte[0];
+            return 0;
         }
     }
 }
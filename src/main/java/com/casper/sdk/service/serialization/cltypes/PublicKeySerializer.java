@@ -1,6 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.Algorithm;
 import com.casper.sdk.types.CLPublicKey;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPublicKey;
@@ -12,29 +12,29 @@ import org.bouncycastle.jcajce.provider.asymmetric.edec.BCEdDSAPublicKey;
 class PublicKeySerializer implements TypesSerializer {
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
         if (toSerialize instanceof CLPublicKey) {
-            return ((CLPublicKey) toSerialize).toAccount();
+            sink.write(((CLPublicKey) toSerialize).toAccount());
         } else if (toSerialize instanceof BCECPublicKey) {
-            return getSECP256K1PublicKeyRawBytes((BCECPublicKey) toSerialize);
+            sink.write((byte) Algorithm.SECP256K1.getValue())
+                    .write(((BCECPublicKey) toSerialize).getQ().getEncoded(true));
         } else if (toSerialize instanceof BCEdDSAPublicKey) {
-            return getED25519PublicKeyRawBytes((BCEdDSAPublicKey) toSerialize);
-        } else {
-            return new byte[0];
+            sink.write((byte) Algorithm.ED25519.getValue())
+                    .write(((BCEdDSAPublicKey) toSerialize).getPointEncoding());
         }
     }
 
-    private byte[] getSECP256K1PublicKeyRawBytes(final BCECPublicKey publicKey) {
-        return ByteUtils.concat(
-                ByteUtils.toByteArray(Algorithm.SECP256K1.getValue()),
-                publicKey.getQ().getEncoded(true)
-        );
-    }
-
-    private byte[] getED25519PublicKeyRawBytes(final BCEdDSAPublicKey publicKey) {
-        return ByteUtils.concat(
-                ByteUtils.toByteArray(Algorithm.ED25519.getValue()),
-                publicKey.getPointEncoding()
-        );
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        // The algorithm byte and the encoded key
+        if (toSerialize instanceof CLPublicKey) {
+            return 1 + ((CLPublicKey) toSerialize).getBytes().length;
+        } else if (toSerialize instanceof BCECPublicKey) {
+            return 1 + ((BCECPublicKey) toSerialize).getQ().getEncoded(true).length;
+        } else if (toSerialize instanceof BCEdDSAPublicKey) {
+            return 1 + ((BCEdDSAPublicKey) toSerialize).getPointEncoding().length;
+        } else {
+            return 0;
+        }
     }
 }
@@ -1,6 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 import java.nio.charset.StandardCharsets;
 
@@ -11,15 +11,46 @@ class StringSerializer extends AbstractTypesSerializer {
     }
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
         final String str = toSerialize != null ? toSerialize.toString() : "";
         byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
 
-        //return the length of the string in U32 type plus the hex byte value of the string
-        return ByteUtils.concat(
-                getU32Serializer().serialize(bytes.length),
-                bytes
-        );
+        //write the length of the string in U32 type plus the hex byte value of the string
+        getU32Serializer().write(bytes.length, sink);
+        sink.write(bytes);
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        final String str = toSerialize != null ? toSerialize.toString() : "";
+        return Integer.BYTES + utf8Length(str);
+    }
+
+    /**
+     * Obtains the number of bytes a string encodes to in UTF-8 without encoding it, a surrogate without its pair is
+     * counted as the single replacement byte it is encoded as.
+     *
+     * @param str the string to obtain the encoded length of
+     * @return the length of the string in UTF-8 bytes
+     */
+    static int utf8Length(final String str) {
+        int length = 0;
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
     }
 }
@@ -1,5 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 /**
  * Interface to be implemented by classes that are to be converted in to casper byte format
@@ -12,5 +13,25 @@ public interface TypesSerializer {
      * @param toSerialize the object to serialize to casper byte format
      * @return the object converted to casper bytes
      */
-    byte[] serialize(final Object toSerialize);
+    default byte[] serialize(final Object toSerialize) {
+        final ByteSink sink = new ByteSink(sizeOf(toSerialize));
+        write(toSerialize, sink);
+        return sink.toByteArray();
+    }
+
+    /**
+     * Writes a object in casper byte format to a sink
+     *
+     * @param toSerialize the object to serialize to casper byte format
+     * @param sink        the sink to write the casper bytes to
+     */
+    void write(final Object toSerialize, final ByteSink sink);
+
+    /**
+     * Obtains the exact number of casper bytes an object serializes to without serializing it
+     *
+     * @param toSerialize the object to obtain the casper byte size of
+     * @return the number of bytes {@link #write(Object, ByteSink)} writes for the object
+     */
+    int sizeOf(final Object toSerialize);
 }
@@ -1,24 +1,30 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.service.serialization.util.ByteUtils;
 
 class U8Serializer implements TypesSerializer {
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
         if (toSerialize instanceof Byte)
-            return new byte[]{(byte) toSerialize};
+            sink.write((byte) toSerialize);
         else if (toSerialize instanceof Number) {
             if (((Number) toSerialize).shortValue() > 255) {
                 throw new IllegalArgumentException("Not a valid byte " + toSerialize);
             }
-            return serialize(((Number) toSerialize).byteValue());
+            write(((Number) toSerialize).byteValue(), sink);
         } else if (toSerialize instanceof String && ((String) toSerialize).length() == 2) {
             // assume a 2 character representation of a byte
-            return ByteUtils.decodeHex((String) toSerialize);
+            sink.write(ByteUtils.decodeHex((String) toSerialize));
         } else {
             throw new IllegalArgumentException("Not a valid byte " + toSerialize);
         }
     }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        return 1;
+    }
 }
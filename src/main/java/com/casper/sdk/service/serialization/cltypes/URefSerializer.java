@@ -1,6 +1,6 @@
 package com.casper.sdk.service.serialization.cltypes;
 
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.URef;
 
 /**
@@ -9,12 +9,16 @@ import com.casper.sdk.types.URef;
 class URefSerializer implements TypesSerializer {
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
+    public void write(final Object toSerialize, final ByteSink sink) {
 
-        return new ByteArrayBuilder()
-                .append((byte) ((URef) toSerialize).getTag())
-                .append(((URef) toSerialize).getBytes())
-                .append(((URef) toSerialize).getAccessRights().getBits())
-                .toByteArray();
+        sink.write((byte) ((URef) toSerialize).getTag())
+                .write(((URef) toSerialize).getBytes())
+                .write(((URef) toSerialize).getAccessRights().getBits());
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        // The tag, the address and the access rights
+        return 1 + ((URef) toSerialize).getBytes().length + 1;
     }
 }
@@ -1,9 +1,15 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import org.apache.commons.lang3.NotImplementedException;
 
 class UnitSerializer implements TypesSerializer {
-    @Override public byte[] serialize(final Object toSerialize) {
+    @Override public void write(final Object toSerialize, final ByteSink sink) {
+        throw new NotImplementedException("UnitSerializer");
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
         throw new NotImplementedException("UnitSerializer");
     }
 }
@@ -1,11 +1,11 @@
 package com.casper.sdk.service.serialization.cltypes;
 
 import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.math.BigInteger;
 
-import static com.casper.sdk.service.serialization.util.ByteUtils.concat;
 import static com.casper.sdk.service.serialization.util.NumberUtils.toBigInteger;
 
 /**
@@ -21,9 +21,64 @@ abstract class VariableLengthNumberSerializer implements TypesSerializer {
     }
 
     @Override
-    public byte[] serialize(final Object toSerialize) {
-        //Convert string to a bigint
-        final BigInteger bigInt = toBigInteger(toSerialize);
+    public void write(final Object toSerialize, final ByteSink sink) {
+        if (toSerialize instanceof Long || toSerialize instanceof Integer
+            || toSerialize instanceof Short || toSerialize instanceof Byte) {
+            write(((Number) toSerialize).longValue(), sink);
+        } else if (toSerialize instanceof BigInteger && fitsTwoLongs((BigInteger) toSerialize)) {
+            final BigInteger bigInt = (BigInteger) toSerialize;
+            final long high = bigInt.bitLength() < Long.SIZE ? 0 : bigInt.shiftRight(Long.SIZE).longValue();
+            writeUnsigned(bigInt.longValue(), high, sink);
+        } else {
+            writeBigInteger(toBigInteger(toSerialize), sink);
+        }
+    }
+
+    /**
+     * Converts a primitive number to casper byte format without converting it to a {@link BigInteger}
+     *
+     * @param toSerialize the number to serialize
+     * @return the length byte followed by the little endian bytes of the number
+     */
+    public byte[] serialize(final long toSerialize) {
+        final ByteSink sink = new ByteSink(sizeOf(toSerialize));
+        write(toSerialize, sink);
+        return sink.toByteArray();
+    }
+
+    /**
+     * Writes a primitive number in casper byte format, positive numbers are written directly in little endian byte
+     * order
+     *
+     * @param toSerialize the number to serialize
+     * @param sink        the sink to write the length byte and little endian bytes to
+     */
+    public void write(final long toSerialize, final ByteSink sink) {
+        if (toSerialize >= 0) {
+            writeUnsigned(toSerialize, 0, sink);
+        } else {
+            // Negative numbers are converted as before
+            writeBigInteger(BigInteger.valueOf(toSerialize), sink);
+        }
+    }
+
+    @Override
+    public int sizeOf(final Object toSerialize) {
+        if (toSerialize instanceof Long || toSerialize instanceof Integer
+            || toSerialize instanceof Short || toSerialize instanceof Byte) {
+            return sizeOf(((Number) toSerialize).longValue());
+        } else {
+            return 1 + byteLength(toBigInteger(toSerialize));
+        }
+    }
+
+    /**
+     * Writes a number the old way, converting it to a two's-complement byte array that is then trimmed and reversed
+     *
+     * @param bigInt the number to write
+     * @param sink   the sink to write the length byte and little endian bytes to
+     */
+    void writeBigInteger(final BigInteger bigInt, final ByteSink sink) {
         //Get the byte array
         byte[] bytes = bigInt.toByteArray();
 
@@ -39,9 +94,64 @@ abstract class VariableLengthNumberSerializer implements TypesSerializer {
         // Switch from BE to LE byte order
         ArrayUtils.reverse(bytes);
 
-        //Build and return the hex of the length byte
+        //Write the length byte
         //plus the reversed byte array of the number
-        return concat(new byte[]{(byte) bytes.length}, bytes);
+        sink.write((byte) bytes.length).write(bytes);
+    }
+
+    /**
+     * Writes an unsigned number of up to 128 bits held as two longs
+     *
+     * @param low  the low order 64 bits of the number
+     * @param high the high order 64 bits of the number
+     * @param sink the sink to write the length byte and little endian bytes to
+     */
+    private static void writeUnsigned(final long low, final long high, final ByteSink sink) {
+        final int bits = high != 0 ? 2 * Long.SIZE - Long.numberOfLeadingZeros(high) : Long.SIZE - Long.numberOfLeadingZeros(low);
+        final int length = bitsToBytes(bits);
+
+        sink.write((byte) length).writeLE(low, Math.min(length, Long.BYTES));
+        if (length > Long.BYTES) {
+            sink.writeLE(high, length - Long.BYTES);
+        }
+    }
+
+    private int sizeOf(final long toSerialize) {
+        if (toSerialize >= 0) {
+            return 1 + bitsToBytes(Long.SIZE - Long.numberOfLeadingZeros(toSerialize));
+        } else {
+            return 1 + byteLength(BigInteger.valueOf(toSerialize));
+        }
+    }
+
+    /**
+     * @param bigInt the number to test
+     * @return true if the number is positive and fits in 128 bits without a sign bit, so is in range of every type
+     */
+    private static boolean fitsTwoLongs(final BigInteger bigInt) {
+        return bigInt.signum() >= 0 && bigInt.bitLength() < 2 * Long.SIZE;
+    }
+
+    /**
+     * @param bits the number of significant bits of a positive number
+     * @return the number of bytes written for the number, zero is written as a single byte
+     */
+    private static int bitsToBytes(final int bits) {
+        return bits == 0 ? 1 : (bits + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * Obtains the number of bytes written for a number, its two's-complement bytes less any leading zero byte
+     *
+     * @param bigInt the number to obtain the byte length of
+     * @return the number of bytes written after the length byte
+     */
+    private static int byteLength(final BigInteger bigInt) {
+        final int bitLength = bigInt.bitLength();
+        if (bigInt.signum() >= 0 && bitLength > 0 && bitLength % Byte.SIZE == 0) {
+            return bitLength / Byte.SIZE;
+        }
+        return bitLength / Byte.SIZE + 1;
     }
 
     private byte[] removeLeadingZeros(final byte[] bytes) {
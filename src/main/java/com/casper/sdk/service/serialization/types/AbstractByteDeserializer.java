@@ -0,0 +1,94 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The base of the byte deserializers, reads the fields common to the casper byte format checking that the buffer holds
+ * the bytes of each field before reading it.
+ *
+ * @param <T> type of object to deserialize from bytes
+ */
+abstract class AbstractByteDeserializer<T> implements ByteDeserializer<T> {
+
+    byte readByte(final ByteBuffer source) {
+        require(source, 1);
+        return source.get();
+    }
+
+    /**
+     * Reads a U32 used as a length or count, which must fit in an int
+     *
+     * @param source the buffer to read from
+     * @return the length read
+     */
+    int readLength(final ByteBuffer source) {
+        final long length = readU32(source);
+        if (length > Integer.MAX_VALUE) {
+            throw new ConversionException("Length " + length + " at " + (source.position() - Integer.BYTES) + " is too large");
+        }
+        return (int) length;
+    }
+
+    long readU32(final ByteBuffer source) {
+        return readLE(source, Integer.BYTES);
+    }
+
+    long readU64(final ByteBuffer source) {
+        return readLE(source, Long.BYTES);
+    }
+
+    byte[] readBytes(final ByteBuffer source, final int length) {
+        require(source, length);
+        final byte[] bytes = new byte[length];
+        source.get(bytes);
+        return bytes;
+    }
+
+    byte[] readLengthPrefixedBytes(final ByteBuffer source) {
+        return readBytes(source, readLength(source));
+    }
+
+    String readString(final ByteBuffer source) {
+        return new String(readLengthPrefixedBytes(source), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a U32 count followed by that many items
+     *
+     * @param source       the buffer to read from
+     * @param deserializer the deserializer of the items
+     * @param <I>          the type of the items
+     * @return the items read
+     */
+    <I> List<I> readList(final ByteBuffer source, final ByteDeserializer<I> deserializer) {
+        final int count = readLength(source);
+        // Every item is at least a byte so a larger count cannot be valid, checked before allocating for it
+        require(source, count);
+        final List<I> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(deserializer.read(source));
+        }
+        return items;
+    }
+
+    void require(final ByteBuffer source, final int length) {
+        if (source.remaining() < length) {
+            throw new ConversionException("Expected " + length + " bytes of " + getType().getSimpleName() + " at " +
+                                          source.position() + " but " + source.remaining() + " remain");
+        }
+    }
+
+    private long readLE(final ByteBuffer source, final int length) {
+        require(source, length);
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value |= (source.get() & 0xFFL) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+}
@@ -2,7 +2,7 @@ package com.casper.sdk.service.serialization.types;
 
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.CLByteArrayInfo;
 import com.casper.sdk.types.CLOptionTypeInfo;
 import com.casper.sdk.types.CLType;
@@ -16,7 +16,7 @@ abstract class AbstractByteSerializer<T> implements ByteSerializer<T> {
         u32Serializer = typesFactory.getInstance(CLType.U32);
     }
 
-    byte[] toBytesForCLTypeInfo(final CLTypeInfo typeInfo) {
+    void writeCLTypeInfo(final CLTypeInfo typeInfo, final ByteSink sink) {
         switch (typeInfo.getType()) {
             case BOOL:
             case I32:
@@ -32,13 +32,45 @@ abstract class AbstractByteSerializer<T> implements ByteSerializer<T> {
             case KEY:
             case UREF:
             case PUBLIC_KEY:
-                return getTypeBytes(typeInfo);
+                writeType(typeInfo, sink);
+                break;
 
             case BYTE_ARRAY:
-                return getByteArrayType((CLByteArrayInfo) typeInfo);
+                writeByteArrayType((CLByteArrayInfo) typeInfo, sink);
+                break;
 
             case OPTION:
-                return getOptionType(typeInfo);
+                writeOptionType(typeInfo, sink);
+                break;
+
+            default:
+                throw new IllegalArgumentException("Wrong type " + typeInfo.getType());
+        }
+    }
+
+    int sizeOfCLTypeInfo(final CLTypeInfo typeInfo) {
+        switch (typeInfo.getType()) {
+            case BOOL:
+            case I32:
+            case I64:
+            case U8:
+            case U32:
+            case U64:
+            case U128:
+            case U256:
+            case U512:
+            case UNIT:
+            case STRING:
+            case KEY:
+            case UREF:
+            case PUBLIC_KEY:
+                return 1;
+
+            case BYTE_ARRAY:
+                return 1 + u32Serializer.sizeOf(((CLByteArrayInfo) typeInfo).getSize());
+
+            case OPTION:
+                return 1 + sizeOfCLTypeInfo(((CLOptionTypeInfo) typeInfo).getInnerType());
 
             default:
                 throw new IllegalArgumentException("Wrong type " + typeInfo.getType());
@@ -49,21 +81,17 @@ abstract class AbstractByteSerializer<T> implements ByteSerializer<T> {
         return u32Serializer;
     }
 
-    private byte[] getByteArrayType(CLByteArrayInfo typeInfo) {
-        return new ByteArrayBuilder()
-                .append(getTypeBytes(typeInfo))
-                .append(u32Serializer.serialize(typeInfo.getSize()))
-                .toByteArray();
+    private void writeByteArrayType(CLByteArrayInfo typeInfo, final ByteSink sink) {
+        writeType(typeInfo, sink);
+        u32Serializer.write(typeInfo.getSize(), sink);
     }
 
-    private byte[] getOptionType(final CLTypeInfo typeInfo) {
-        return new ByteArrayBuilder()
-                .append(getTypeBytes(typeInfo))
-                .append(toBytesForCLTypeInfo(((CLOptionTypeInfo) typeInfo).getInnerType()))
-                .toByteArray();
+    private void writeOptionType(final CLTypeInfo typeInfo, final ByteSink sink) {
+        writeType(typeInfo, sink);
+        writeCLTypeInfo(((CLOptionTypeInfo) typeInfo).getInnerType(), sink);
     }
 
-    private byte[] getTypeBytes(final CLTypeInfo typeInfo) {
-        return new byte[]{typeInfo.getType().getClType()};
+    private void writeType(final CLTypeInfo typeInfo, final ByteSink sink) {
+        sink.write(typeInfo.getType().getClType());
     }
 }
@@ -0,0 +1,45 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface implemented by all classes that convert casper byte format back into type objects.
+ *
+ * @param <T> type of object to deserialize from bytes
+ */
+public interface ByteDeserializer<T> {
+
+    /**
+     * Converts a byte array holding exactly one object to the object.
+     *
+     * @param bytes the bytes to convert
+     * @return the object converted from the bytes
+     * @throws ConversionException if the bytes are not a valid object or bytes remain after it
+     */
+    default T fromBytes(final byte[] bytes) {
+        final ByteBuffer source = ByteBuffer.wrap(bytes);
+        final T value = read(source);
+        if (source.hasRemaining()) {
+            throw new ConversionException(source.remaining() + " bytes remain after " + getType().getSimpleName());
+        }
+        return value;
+    }
+
+    /**
+     * Reads an object from the current position of a buffer, leaving the buffer positioned after the object.
+     *
+     * @param source the buffer to read the object from
+     * @return the object read
+     * @throws ConversionException if the buffer does not hold a valid object
+     */
+    T read(final ByteBuffer source);
+
+    /**
+     * Obtains the type of the objects deserialized.
+     *
+     * @return the type of the object being deserialized from bytes
+     */
+    Class<T> getType();
+}
@@ -0,0 +1,49 @@
+package com.casper.sdk.service.serialization.types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The factory of all the {@link ByteDeserializer} classes for type objects, the counterpart of
+ * {@link ByteSerializerFactory}.
+ */
+public class ByteDeserializerFactory {
+
+    /** Map of byte deserializers */
+    private final Map<Class<?>, ByteDeserializer<?>> deserializerMap = new HashMap<>();
+
+    public ByteDeserializerFactory() {
+        register(new CLValueByteDeserializer());
+        register(new DeployApprovalByteDeserializer());
+        register(new DeployByteDeserializer(this));
+        register(new DeployExecutableByteDeserializer(this));
+        register(new DeployHeaderByteDeserializer(this));
+        register(new DeployNamedArgByteDeserializer(this));
+        register(new DigestByteDeserializer());
+        register(new PublicKeyByteDeserializer());
+    }
+
+    /**
+     * Obtains a {@link ByteDeserializer} for the specified casper type object class. The subclasses of a registered
+     * type, such as those of {@link com.casper.sdk.types.DeployExecutable}, are read by the deserializer of the type.
+     *
+     * @param type the class of type object to obtain a byte deserializer for
+     * @param <T>  the type of the object
+     * @return the byte deserializer or null if there is none for the type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ByteDeserializer<T> getByteDeserializerByType(final Class<T> type) {
+        ByteDeserializer<T> byteDeserializer = (ByteDeserializer<T>) deserializerMap.get(type);
+        if (byteDeserializer == null) {
+            final Class<?> superclass = type.getSuperclass();
+            if (superclass != null && !superclass.equals(Object.class)) {
+                byteDeserializer = (ByteDeserializer<T>) getByteDeserializerByType(superclass);
+            }
+        }
+        return byteDeserializer;
+    }
+
+    protected void register(final ByteDeserializer<?> byteDeserializer) {
+        deserializerMap.put(byteDeserializer.getType(), byteDeserializer);
+    }
+}
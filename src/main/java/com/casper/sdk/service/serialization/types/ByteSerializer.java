@@ -1,5 +1,7 @@
 package com.casper.sdk.service.serialization.types;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
+
 /**
  * Interface implemented by all classed that convert the casper type objects to byte arrays.
  *
@@ -13,8 +15,27 @@ public interface ByteSerializer<T> {
      * @param source the source object to convert to bytes
      * @return the object converted to bytes
      */
-    byte[] toBytes(final T source);
+    default byte[] toBytes(final T source) {
+        final ByteSink sink = new ByteSink(sizeOf(source));
+        write(source, sink);
+        return sink.toByteArray();
+    }
 
+    /**
+     * Writes the bytes of an object to a sink, the fields of the object are written to the same sink.
+     *
+     * @param source the source object to convert to bytes
+     * @param sink   the sink to write the bytes to
+     */
+    void write(final T source, final ByteSink sink);
+
+    /**
+     * Obtains the exact number of bytes an object converts to without converting it.
+     *
+     * @param source the source object to obtain the byte size of
+     * @return the number of bytes {@link #write(Object, ByteSink)} writes for the object
+     */
+    int sizeOf(final T source);
 
     /**
      * Obtains the type of the source to be serialized.
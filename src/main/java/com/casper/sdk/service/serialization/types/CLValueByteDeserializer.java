@@ -0,0 +1,123 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.NumberUtils;
+import com.casper.sdk.types.CLByteArrayInfo;
+import com.casper.sdk.types.CLOptionTypeInfo;
+import com.casper.sdk.types.CLOptionValue;
+import com.casper.sdk.types.CLType;
+import com.casper.sdk.types.CLTypeInfo;
+import com.casper.sdk.types.CLValue;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts bytes to a CLValue, the counterpart of {@link CLValueByteSerializer}. The parsed value is not part of the
+ * bytes, it is recreated for the numeric, string and byte array types as the JSON from a node provides it when the bytes
+ * hold exactly one value of the type, otherwise it is left null.
+ */
+class CLValueByteDeserializer extends AbstractByteDeserializer<CLValue> {
+
+    /** The deepest nesting of options read, deeper nesting is rejected rather than overflowing the stack */
+    static final int MAX_OPTION_DEPTH = 32;
+
+    @Override
+    public CLValue read(final ByteBuffer source) {
+
+        final byte[] bytes = readLengthPrefixedBytes(source);
+        final CLTypeInfo typeInfo = readCLTypeInfo(source, 0);
+        final Object parsed = toParsed(bytes, typeInfo.getType());
+
+        if (typeInfo instanceof CLOptionTypeInfo) {
+            return new CLOptionValue(bytes, (CLOptionTypeInfo) typeInfo, parsed);
+        } else {
+            return new CLValue(bytes, typeInfo, parsed);
+        }
+    }
+
+    @Override
+    public Class<CLValue> getType() {
+        return CLValue.class;
+    }
+
+    private CLTypeInfo readCLTypeInfo(final ByteBuffer source, final int optionDepth) {
+
+        final int position = source.position();
+        final CLType type;
+        try {
+            type = CLType.fromClType(readByte(source));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid CL type at " + position, e);
+        }
+
+        switch (type) {
+            case BOOL:
+            case I32:
+            case I64:
+            case U8:
+            case U32:
+            case U64:
+            case U128:
+            case U256:
+            case U512:
+            case UNIT:
+            case STRING:
+            case KEY:
+            case UREF:
+            case PUBLIC_KEY:
+                return new CLTypeInfo(type);
+
+            case BYTE_ARRAY:
+                return new CLByteArrayInfo(readLength(source));
+
+            case OPTION:
+                if (optionDepth == MAX_OPTION_DEPTH) {
+                    throw new ConversionException("Options nested deeper than " + MAX_OPTION_DEPTH + " at " + position);
+                }
+                return new CLOptionTypeInfo(readCLTypeInfo(source, optionDepth + 1));
+
+            default:
+                throw new ConversionException("Unsupported CL type " + type + " at " + position);
+        }
+    }
+
+    private Object toParsed(final byte[] bytes, final CLType type) {
+
+        final ByteBuffer value = ByteBuffer.wrap(bytes);
+        try {
+            final Object parsed = toParsed(value, type);
+            return value.hasRemaining() ? null : parsed;
+        } catch (ConversionException e) {
+            return null;
+        }
+    }
+
+    private Object toParsed(final ByteBuffer value, final CLType type) {
+
+        switch (type) {
+            case U8:
+                return BigInteger.valueOf(readByte(value) & 0xFF);
+            case I32:
+                return BigInteger.valueOf((int) readU32(value));
+            case U32:
+                return BigInteger.valueOf(readU32(value));
+            case I64:
+                return BigInteger.valueOf(readU64(value));
+            case U64:
+                return new BigInteger(Long.toUnsignedString(readU64(value)));
+            case U128:
+            case U256:
+            case U512:
+                // Nodes provide the larger numbers as strings
+                return NumberUtils.readLengthPrefixedBigInteger(value).toString();
+            case STRING:
+                return readString(value);
+            case BYTE_ARRAY:
+                return ByteUtils.encodeHexString(readBytes(value, value.remaining()));
+            default:
+                return null;
+        }
+    }
+}
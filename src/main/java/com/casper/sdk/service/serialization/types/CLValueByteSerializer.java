@@ -1,8 +1,9 @@
 package com.casper.sdk.service.serialization.types;
 
+import com.casper.sdk.types.CLKeyValue;
 import com.casper.sdk.types.CLValue;
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 /**
  * Converts a CLValue to a byte array
@@ -14,16 +15,30 @@ class CLValueByteSerializer extends AbstractByteSerializer<CLValue> {
     }
 
     @Override
-    public byte[] toBytes(final CLValue source) {
-        return ByteUtils.concat(
-                getU32Serializer().serialize(source.getBytes().length),
-                source.getBytes(),
-                toBytesForCLTypeInfo(source.getCLTypeInfo())
-        );
+    public void write(final CLValue source, final ByteSink sink) {
+        final byte[] bytes = source.getBytes();
+        getU32Serializer().write(bytes.length, sink);
+        sink.write(bytes);
+        writeCLTypeInfo(source.getCLTypeInfo(), sink);
+    }
+
+    @Override
+    public int sizeOf(final CLValue source) {
+        final int length = bytesLength(source);
+        return getU32Serializer().sizeOf(length) + length + sizeOfCLTypeInfo(source.getCLTypeInfo());
     }
 
     @Override
     public Class<CLValue> getType() {
         return CLValue.class;
     }
+
+    private static int bytesLength(final CLValue source) {
+        if (source instanceof CLKeyValue) {
+            // The bytes of a key value are built from its key type tag and key bytes
+            return 1 + ((CLKeyValue) source).getKeyBytes().length;
+        } else {
+            return source.getBytes().length;
+        }
+    }
 }
@@ -2,7 +2,7 @@ package com.casper.sdk.service.serialization.types;
 
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.CLType;
 
 import java.util.Collection;
@@ -23,21 +23,22 @@ class CollectionByteSerializer implements ByteSerializer<Collection<?>> {
     }
 
     @Override
-    public byte[] toBytes(Collection<?> source) {
-
-        final ByteArrayBuilder builder = new ByteArrayBuilder();
+    public void write(final Collection<?> source, final ByteSink sink) {
 
         // Write the size of the list as the 1st 4 bytes
-        builder.append(u32Serializer.serialize(source.size()));
+        u32Serializer.write(source.size(), sink);
 
         // Write the list contents
-        source.forEach(item ->
-                builder.append(
-                        factory.getByteSerializer(item).toBytes(item)
-                )
-        );
+        source.forEach(item -> factory.getByteSerializer(item).write(item, sink));
+    }
 
-        return builder.toByteArray();
+    @Override
+    public int sizeOf(final Collection<?> source) {
+        int size = u32Serializer.sizeOf(source.size());
+        for (final Object item : source) {
+            size += factory.getByteSerializer(item).sizeOf(item);
+        }
+        return size;
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.types.DeployApproval;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Byte deserializer for a {@link DeployApproval} type object
+ */
+class DeployApprovalByteDeserializer extends AbstractByteDeserializer<DeployApproval> {
+
+    private final PublicKeyByteDeserializer publicKeyDeserializer = new PublicKeyByteDeserializer();
+
+    @Override
+    public DeployApproval read(final ByteBuffer source) {
+        return new DeployApproval(publicKeyDeserializer.read(source), publicKeyDeserializer.readSignature(source));
+    }
+
+    @Override
+    public Class<DeployApproval> getType() {
+        return DeployApproval.class;
+    }
+}
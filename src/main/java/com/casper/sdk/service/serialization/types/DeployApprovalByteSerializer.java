@@ -1,7 +1,7 @@
 package com.casper.sdk.service.serialization.types;
 
 import com.casper.sdk.types.DeployApproval;
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 /**
  * Byte serializer for the a {@link DeployApproval} type object
@@ -9,12 +9,15 @@ import com.casper.sdk.service.serialization.util.ByteUtils;
 public class DeployApprovalByteSerializer implements ByteSerializer<DeployApproval> {
 
     @Override
-    public byte[] toBytes(final DeployApproval source) {
+    public void write(final DeployApproval source, final ByteSink sink) {
+        sink.write(source.getSigner().toAccount())
+                .write(source.getSignature().toAccount());
+    }
 
-        return ByteUtils.concat(
-                source.getSigner().toAccount(),
-                source.getSignature().toAccount()
-        );
+    @Override
+    public int sizeOf(final DeployApproval source) {
+        // The algorithm byte and the key or signature bytes of each account
+        return 1 + source.getSigner().getBytes().length + 1 + source.getSignature().getBytes().length;
     }
 
     @Override
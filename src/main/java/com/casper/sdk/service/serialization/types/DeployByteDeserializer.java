@@ -0,0 +1,45 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.DeployApproval;
+import com.casper.sdk.types.DeployExecutable;
+import com.casper.sdk.types.DeployHeader;
+import com.casper.sdk.types.Digest;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+
+/**
+ * The byte deserializer for a {@link Deploy} type object
+ */
+class DeployByteDeserializer extends AbstractByteDeserializer<Deploy> {
+
+    /** The factory to delegate conversion of fields to */
+    private final ByteDeserializerFactory factory;
+
+    DeployByteDeserializer(final ByteDeserializerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public Deploy read(final ByteBuffer source) {
+
+        final DeployHeader header = factory.getByteDeserializerByType(DeployHeader.class).read(source);
+        final Digest hash = factory.getByteDeserializerByType(Digest.class).read(source);
+        final DeployExecutable payment = factory.getByteDeserializerByType(DeployExecutable.class).read(source);
+        final DeployExecutable session = factory.getByteDeserializerByType(DeployExecutable.class).read(source);
+
+        return new Deploy(
+                hash,
+                header,
+                payment,
+                session,
+                new LinkedHashSet<>(readList(source, factory.getByteDeserializerByType(DeployApproval.class)))
+        );
+    }
+
+    @Override
+    public Class<Deploy> getType() {
+        return Deploy.class;
+    }
+}
@@ -2,8 +2,7 @@ package com.casper.sdk.service.serialization.types;
 
 import com.casper.sdk.types.Deploy;
 import com.casper.sdk.types.DeployExecutable;
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 /**
  * The byte serializer for a {@link Deploy} type object
@@ -17,16 +16,21 @@ class DeployByteSerializer implements ByteSerializer<Deploy> {
         this.factory = factory;
     }
 
-    public byte[] toBytes(final Deploy deploy) {
-
-        final ByteArrayBuilder builder = new ByteArrayBuilder();
-
-        builder.append(_toBytes(deploy.getHeader()))
-                .append(_toBytes(deploy.getHash()))
-                .append(serializeBody(deploy.getPayment(), deploy.getSession()))
-                .append(_toBytes(deploy.getApprovals()));
+    @Override
+    public void write(final Deploy deploy, final ByteSink sink) {
+        _write(deploy.getHeader(), sink);
+        _write(deploy.getHash(), sink);
+        writeBody(deploy.getPayment(), deploy.getSession(), sink);
+        _write(deploy.getApprovals(), sink);
+    }
 
-        return builder.toByteArray();
+    @Override
+    public int sizeOf(final Deploy deploy) {
+        return _sizeOf(deploy.getHeader())
+               + _sizeOf(deploy.getHash())
+               + _sizeOf(deploy.getPayment())
+               + _sizeOf(deploy.getSession())
+               + _sizeOf(deploy.getApprovals());
     }
 
     @Override
@@ -35,10 +39,21 @@ class DeployByteSerializer implements ByteSerializer<Deploy> {
     }
 
     byte[] serializeBody(final DeployExecutable payment, final DeployExecutable session) {
-        return ByteUtils.concat(_toBytes(payment), _toBytes(session));
+        final ByteSink sink = new ByteSink(_sizeOf(payment) + _sizeOf(session));
+        writeBody(payment, session, sink);
+        return sink.toByteArray();
+    }
+
+    private void writeBody(final DeployExecutable payment, final DeployExecutable session, final ByteSink sink) {
+        _write(payment, sink);
+        _write(session, sink);
+    }
+
+    private void _write(final Object source, final ByteSink sink) {
+        factory.getByteSerializer(source).write(source, sink);
     }
 
-    private byte[] _toBytes(final Object source) {
-        return factory.getByteSerializer(source).toBytes(source);
+    private int _sizeOf(final Object source) {
+        return factory.getByteSerializer(source).sizeOf(source);
     }
 }
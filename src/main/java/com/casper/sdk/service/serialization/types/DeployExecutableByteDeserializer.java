@@ -0,0 +1,63 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.types.ContractHash;
+import com.casper.sdk.types.DeployExecutable;
+import com.casper.sdk.types.DeployNamedArg;
+import com.casper.sdk.types.ModuleBytes;
+import com.casper.sdk.types.StoredContractByHash;
+import com.casper.sdk.types.StoredContractByName;
+import com.casper.sdk.types.Transfer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * The byte deserializer for a {@link DeployExecutable}, creates the extending class of the type tag read.
+ */
+class DeployExecutableByteDeserializer extends AbstractByteDeserializer<DeployExecutable> {
+
+    private final ByteDeserializerFactory factory;
+
+    DeployExecutableByteDeserializer(final ByteDeserializerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public DeployExecutable read(final ByteBuffer source) {
+
+        final int position = source.position();
+        final byte tag = readByte(source);
+
+        switch (tag) {
+            case 0:
+                final byte[] moduleBytes = readLengthPrefixedBytes(source);
+                return new ModuleBytes(moduleBytes, readArgs(source));
+
+            case 1:
+                final ContractHash hash = new ContractHash(readBytes(source, DigestByteDeserializer.HASH_BYTES));
+                final String hashEntryPoint = readString(source);
+                return new StoredContractByHash(hash, hashEntryPoint, readArgs(source));
+
+            case 2:
+                final String name = readString(source);
+                final String nameEntryPoint = readString(source);
+                return new StoredContractByName(name, nameEntryPoint, readArgs(source));
+
+            case 5:
+                return new Transfer(readArgs(source));
+
+            default:
+                throw new ConversionException("Unsupported deploy executable tag " + tag + " at " + position);
+        }
+    }
+
+    @Override
+    public Class<DeployExecutable> getType() {
+        return DeployExecutable.class;
+    }
+
+    private List<DeployNamedArg> readArgs(final ByteBuffer source) {
+        return readList(source, factory.getByteDeserializerByType(DeployNamedArg.class));
+    }
+}
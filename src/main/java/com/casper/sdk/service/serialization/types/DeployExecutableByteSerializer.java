@@ -3,7 +3,7 @@ package com.casper.sdk.service.serialization.types;
 import com.casper.sdk.types.*;
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
-import com.casper.sdk.service.serialization.util.ByteArrayBuilder;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 import java.util.List;
 
@@ -23,26 +23,41 @@ class DeployExecutableByteSerializer implements ByteSerializer<DeployExecutable>
     }
 
     @Override
-    public byte[] toBytes(final DeployExecutable deployExecutable) {
+    public void write(final DeployExecutable deployExecutable, final ByteSink sink) {
 
         // Append the type of the 'Deploy Executable' in a single byte
-        final ByteArrayBuilder builder = new ByteArrayBuilder()
-                .append((byte) deployExecutable.getTag());
+        sink.write((byte) deployExecutable.getTag());
 
         if (deployExecutable instanceof StoredContractByName) {
-            builder.append(stringSerializer.serialize(((StoredContractByName) deployExecutable).getName()))
-                    .append(stringSerializer.serialize(((StoredContractByName) deployExecutable).getEntryPoint()));
+            stringSerializer.write(((StoredContractByName) deployExecutable).getName(), sink);
+            stringSerializer.write(((StoredContractByName) deployExecutable).getEntryPoint(), sink);
         } else if (deployExecutable instanceof StoredContractByHash) {
-            builder.append(((StoredContractByHash) deployExecutable).getHash().getHash());
-            builder.append(stringSerializer.serialize(((StoredContractByHash) deployExecutable).getEntryPoint()));
+            sink.write(((StoredContractByHash) deployExecutable).getHash().getHash());
+            stringSerializer.write(((StoredContractByHash) deployExecutable).getEntryPoint(), sink);
         } else if (deployExecutable instanceof ModuleBytes) {
-            builder.append(u32Serializer.serialize(deployExecutable.getModuleBytes()));
+            u32Serializer.write(deployExecutable.getModuleBytes(), sink);
         }
 
         // Append any args if present
-        builder.append(toBytes(deployExecutable.getArgs()));
+        write(deployExecutable.getArgs(), sink);
+    }
+
+    @Override
+    public int sizeOf(final DeployExecutable deployExecutable) {
+
+        int size = 1;
 
-        return builder.toByteArray();
+        if (deployExecutable instanceof StoredContractByName) {
+            size += stringSerializer.sizeOf(((StoredContractByName) deployExecutable).getName());
+            size += stringSerializer.sizeOf(((StoredContractByName) deployExecutable).getEntryPoint());
+        } else if (deployExecutable instanceof StoredContractByHash) {
+            size += ((StoredContractByHash) deployExecutable).getHash().getHash().length;
+            size += stringSerializer.sizeOf(((StoredContractByHash) deployExecutable).getEntryPoint());
+        } else if (deployExecutable instanceof ModuleBytes) {
+            size += u32Serializer.sizeOf(deployExecutable.getModuleBytes());
+        }
+
+        return size + sizeOf(deployExecutable.getArgs());
     }
 
     @Override
@@ -50,17 +65,20 @@ class DeployExecutableByteSerializer implements ByteSerializer<DeployExecutable>
         return DeployExecutable.class;
     }
 
-    private byte[] toBytes(final List<DeployNamedArg> args) {
-
-        final ByteArrayBuilder builder = new ByteArrayBuilder();
+    private void write(final List<DeployNamedArg> args, final ByteSink sink) {
 
         // append the number of arguments as LE U32 array
-        builder.append(u32Serializer.serialize(args.size()));
+        u32Serializer.write(args.size(), sink);
 
         // Append each argument
-        args.forEach(deployNamedArg ->
-                builder.append(factory.getByteSerializer(deployNamedArg).toBytes(deployNamedArg))
-        );
-        return builder.toByteArray();
+        args.forEach(deployNamedArg -> factory.getByteSerializer(deployNamedArg).write(deployNamedArg, sink));
+    }
+
+    private int sizeOf(final List<DeployNamedArg> args) {
+        int size = u32Serializer.sizeOf(args.size());
+        for (final DeployNamedArg deployNamedArg : args) {
+            size += factory.getByteSerializer(deployNamedArg).sizeOf(deployNamedArg);
+        }
+        return size;
     }
 }
@@ -0,0 +1,47 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.types.CLPublicKey;
+import com.casper.sdk.types.DeployHeader;
+import com.casper.sdk.types.Digest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The byte deserializer for {@link DeployHeader} type objects.
+ */
+class DeployHeaderByteDeserializer extends AbstractByteDeserializer<DeployHeader> {
+
+    private final ByteDeserializerFactory factory;
+
+    DeployHeaderByteDeserializer(final ByteDeserializerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public DeployHeader read(final ByteBuffer source) {
+
+        final CLPublicKey account = factory.getByteDeserializerByType(CLPublicKey.class).read(source);
+        final long timestamp = readU64(source);
+        final long ttl = readU64(source);
+        final long gasPrice = readU64(source);
+        if (gasPrice > Integer.MAX_VALUE || gasPrice < 0) {
+            throw new ConversionException("Gas price " + Long.toUnsignedString(gasPrice) + " exceeds an Integer");
+        }
+
+        return new DeployHeader(
+                account,
+                timestamp,
+                ttl,
+                (int) gasPrice,
+                factory.getByteDeserializerByType(Digest.class).read(source),
+                readList(source, factory.getByteDeserializerByType(Digest.class)),
+                readString(source)
+        );
+    }
+
+    @Override
+    public Class<DeployHeader> getType() {
+        return DeployHeader.class;
+    }
+}
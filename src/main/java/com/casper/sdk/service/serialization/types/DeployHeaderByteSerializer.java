@@ -6,11 +6,10 @@ import com.casper.sdk.types.Digest;
 import com.casper.sdk.types.CLPublicKey;
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 import java.util.List;
 
-import static com.casper.sdk.service.serialization.util.ByteUtils.concat;
-
 /**
  * The byte serializer for {@link DeployHeader} type objects.
  */
@@ -27,20 +26,30 @@ class DeployHeaderByteSerializer implements ByteSerializer<DeployHeader> {
     }
 
     @Override
-    public byte[] toBytes(final DeployHeader source) {
-
-        return concat(
-                factory.getByteSerializerByType(CLPublicKey.class).toBytes(source.getAccount()),
-                u64Serializer.serialize(source.getTimestamp()),
-                u64Serializer.serialize(source.getTtl()),
-                u64Serializer.serialize(source.getGasPrice()),
-                // toBytesDeployHash
-                factory.getByteSerializerByType(Digest.class).toBytes(source.getBodyHash()),
-                // toBytesVecT
-                factory.getByteSerializerByType(List.class).toBytes(source.getDependencies()),
-                // toBytesString
-                stringSerializer.serialize(source.getChainName())
-        );
+    public void write(final DeployHeader source, final ByteSink sink) {
+
+        factory.getByteSerializerByType(CLPublicKey.class).write(source.getAccount(), sink);
+        u64Serializer.write(source.getTimestamp(), sink);
+        u64Serializer.write(source.getTtl(), sink);
+        u64Serializer.write(source.getGasPrice(), sink);
+        // toBytesDeployHash
+        factory.getByteSerializerByType(Digest.class).write(source.getBodyHash(), sink);
+        // toBytesVecT
+        factory.getByteSerializerByType(List.class).write(source.getDependencies(), sink);
+        // toBytesString
+        stringSerializer.write(source.getChainName(), sink);
+    }
+
+    @Override
+    public int sizeOf(final DeployHeader source) {
+
+        return factory.getByteSerializerByType(CLPublicKey.class).sizeOf(source.getAccount())
+               + u64Serializer.sizeOf(source.getTimestamp())
+               + u64Serializer.sizeOf(source.getTtl())
+               + u64Serializer.sizeOf(source.getGasPrice())
+               + factory.getByteSerializerByType(Digest.class).sizeOf(source.getBodyHash())
+               + factory.getByteSerializerByType(List.class).sizeOf(source.getDependencies())
+               + stringSerializer.sizeOf(source.getChainName());
     }
 
     @Override
@@ -0,0 +1,29 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.types.CLValue;
+import com.casper.sdk.types.DeployNamedArg;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The byte deserializer for {@link DeployNamedArg} type objects.
+ */
+class DeployNamedArgByteDeserializer extends AbstractByteDeserializer<DeployNamedArg> {
+
+    private final ByteDeserializerFactory factory;
+
+    DeployNamedArgByteDeserializer(final ByteDeserializerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public DeployNamedArg read(final ByteBuffer source) {
+        final String name = readString(source);
+        return new DeployNamedArg(name, factory.getByteDeserializerByType(CLValue.class).read(source));
+    }
+
+    @Override
+    public Class<DeployNamedArg> getType() {
+        return DeployNamedArg.class;
+    }
+}
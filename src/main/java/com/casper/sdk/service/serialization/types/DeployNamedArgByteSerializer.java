@@ -4,26 +4,28 @@ import com.casper.sdk.types.CLType;
 import com.casper.sdk.types.DeployNamedArg;
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 
 public class DeployNamedArgByteSerializer implements ByteSerializer<DeployNamedArg> {
 
     private final CLValueByteSerializer valueSerializer;
-    private final TypesSerializer u32Serializer;
+    private final TypesSerializer stringSerializer;
 
     public DeployNamedArgByteSerializer(final TypesFactory typesFactory) {
-        u32Serializer = typesFactory.getInstance(CLType.U32);
+        stringSerializer = typesFactory.getInstance(CLType.STRING);
         valueSerializer = new CLValueByteSerializer(typesFactory);
     }
 
     @Override
-    public byte[] toBytes(DeployNamedArg source) {
-        byte[] name = source.getName().getBytes();
+    public void write(final DeployNamedArg source, final ByteSink sink) {
+        // The name is written as a UTF-8 string prefixed with its length
+        stringSerializer.write(source.getName(), sink);
+        valueSerializer.write(source.getValue(), sink);
+    }
 
-        return ByteUtils.concat(
-                ByteUtils.concat(u32Serializer.serialize(name.length), name),
-                valueSerializer.toBytes(source.getValue())
-        );
+    @Override
+    public int sizeOf(final DeployNamedArg source) {
+        return stringSerializer.sizeOf(source.getName()) + valueSerializer.sizeOf(source.getValue());
     }
 
     @Override
@@ -0,0 +1,24 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.types.Digest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The byte deserializer for a {@link Digest} type object.
+ */
+class DigestByteDeserializer extends AbstractByteDeserializer<Digest> {
+
+    /** The length of a hash */
+    static final int HASH_BYTES = 32;
+
+    @Override
+    public Digest read(final ByteBuffer source) {
+        return new Digest(readBytes(source, HASH_BYTES));
+    }
+
+    @Override
+    public Class<Digest> getType() {
+        return Digest.class;
+    }
+}
@@ -1,5 +1,6 @@
 package com.casper.sdk.service.serialization.types;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.Digest;
 
 /**
@@ -12,6 +13,16 @@ class DigestByteSerializer implements ByteSerializer<Digest> {
         return source.getHash();
     }
 
+    @Override
+    public void write(final Digest source, final ByteSink sink) {
+        sink.write(source.getHash());
+    }
+
+    @Override
+    public int sizeOf(final Digest source) {
+        return source.getHash().length;
+    }
+
     @Override
     public Class<Digest> getType() {
         return Digest.class;
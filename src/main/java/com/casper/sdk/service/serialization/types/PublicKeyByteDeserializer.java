@@ -0,0 +1,47 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.types.Algorithm;
+import com.casper.sdk.types.CLPublicKey;
+import com.casper.sdk.types.Signature;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The byte deserializer for {@link CLPublicKey} type objects, also reads the {@link Signature} of an approval as it has
+ * the same algorithm tagged form.
+ * <p>
+ * {@link PublicKeyByteSerializer} writes the tag of a public key, which is that of an ED25519 key whatever the
+ * algorithm, so a deploy header account is always read as an ED25519 key.
+ */
+class PublicKeyByteDeserializer extends AbstractByteDeserializer<CLPublicKey> {
+
+    private static final int ED25519_KEY_BYTES = 32;
+    private static final int SECP256K1_KEY_BYTES = 33;
+    private static final int SIGNATURE_BYTES = 64;
+
+    @Override
+    public CLPublicKey read(final ByteBuffer source) {
+        final Algorithm algorithm = readAlgorithm(source);
+        return new CLPublicKey(readBytes(source, algorithm == Algorithm.ED25519 ? ED25519_KEY_BYTES : SECP256K1_KEY_BYTES), algorithm);
+    }
+
+    Signature readSignature(final ByteBuffer source) {
+        final Algorithm algorithm = readAlgorithm(source);
+        return new Signature(readBytes(source, SIGNATURE_BYTES), algorithm);
+    }
+
+    @Override
+    public Class<CLPublicKey> getType() {
+        return CLPublicKey.class;
+    }
+
+    private Algorithm readAlgorithm(final ByteBuffer source) {
+        final byte tag = readByte(source);
+        final Algorithm algorithm = Algorithm.valueOf(tag);
+        if (algorithm == null) {
+            throw new ConversionException("Unknown key algorithm " + tag + " at " + (source.position() - 1));
+        }
+        return algorithm;
+    }
+}
@@ -1,16 +1,18 @@
 package com.casper.sdk.service.serialization.types;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.types.CLPublicKey;
 
-import static com.casper.sdk.service.serialization.util.ByteUtils.concat;
-
 public class PublicKeyByteSerializer implements ByteSerializer<CLPublicKey> {
     @Override
-    public byte[] toBytes(final CLPublicKey source) {
-        return concat(
-                new byte[]{(byte) source.getTag()},
-                source.getBytes()
-        );
+    public void write(final CLPublicKey source, final ByteSink sink) {
+        sink.write((byte) source.getTag())
+                .write(source.getBytes());
+    }
+
+    @Override
+    public int sizeOf(final CLPublicKey source) {
+        return 1 + source.getBytes().length;
     }
 
     @Override
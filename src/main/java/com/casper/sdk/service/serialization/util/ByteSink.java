@@ -0,0 +1,91 @@
+package com.casper.sdk.service.serialization.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer that the serializers write the bytes of a whole type object to in a single pass, rather than each
+ * field building its own byte array that is then copied into its parent's.
+ */
+public class ByteSink {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private byte[] buffer;
+    private int size;
+
+    public ByteSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of bytes that can be written before the buffer grows
+     */
+    public ByteSink(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.buffer = new byte[capacity];
+    }
+
+    public ByteSink write(final byte aByte) {
+        ensureCapacity(1);
+        buffer[size++] = aByte;
+        return this;
+    }
+
+    public ByteSink write(final byte[] bytes) {
+        if (bytes != null) {
+            write(bytes, 0, bytes.length);
+        }
+        return this;
+    }
+
+    public ByteSink write(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Writes the low order bytes of a number in little endian byte order
+     *
+     * @param value  the number to write
+     * @param length the number of bytes of the number to write, at most 8
+     * @return this sink
+     */
+    public ByteSink writeLE(final long value, final int length) {
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) (value >>> (i * Byte.SIZE));
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtains the bytes written, when exactly the capacity has been written the buffer itself is returned without a
+     * copy. Bytes written afterwards go to a new buffer so never change the returned array.
+     *
+     * @return the bytes written
+     */
+    public byte[] toByteArray() {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(final int length) {
+        final int required = size + length;
+        if (required < 0) {
+            throw new IllegalStateException("Byte sink cannot hold more than " + Integer.MAX_VALUE + " bytes");
+        }
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.casper.sdk.service.serialization.util;
 
+import com.casper.sdk.exceptions.ConversionException;
+
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 public class NumberUtils {
 
@@ -25,4 +28,82 @@ public class NumberUtils {
         }
         return bigInt;
     }
+
+    /**
+     * Reads a U128, U256 or U512 number, a length byte followed by that many little endian bytes, that fits in a
+     * long. The buffer is only advanced past the number once it has been read.
+     *
+     * @param buffer the buffer to read the number from
+     * @return the number read
+     * @throws ConversionException if the buffer holds too few bytes or the number does not fit in a long
+     */
+    public static long readLengthPrefixedLong(final ByteBuffer buffer) {
+
+        final int start = buffer.position();
+        final int length = readLength(buffer, start);
+        if (length > Long.BYTES || length == Long.BYTES && buffer.get(start + Long.BYTES) < 0) {
+            throw new ConversionException(length + " byte number exceeds a long");
+        }
+
+        final long value = readLE(buffer, start + 1, length);
+        buffer.position(start + 1 + length);
+        return value;
+    }
+
+    /**
+     * Reads a U128, U256 or U512 number, a length byte followed by that many little endian bytes. Numbers of up to 16
+     * bytes are assembled from longs rather than copied to a byte array. The buffer is only advanced past the number
+     * once it has been read.
+     *
+     * @param buffer the buffer to read the number from
+     * @return the number read
+     * @throws ConversionException if the buffer holds too few bytes
+     */
+    public static BigInteger readLengthPrefixedBigInteger(final ByteBuffer buffer) {
+
+        final int start = buffer.position();
+        final int length = readLength(buffer, start);
+        final BigInteger bigInt;
+
+        if (length <= Long.BYTES) {
+            bigInt = toUnsignedBigInteger(readLE(buffer, start + 1, length));
+        } else if (length <= 2 * Long.BYTES) {
+            final BigInteger high = toUnsignedBigInteger(readLE(buffer, start + 1 + Long.BYTES, length - Long.BYTES));
+            bigInt = high.shiftLeft(Long.SIZE).or(toUnsignedBigInteger(readLE(buffer, start + 1, Long.BYTES)));
+        } else {
+            // Longer numbers need their big endian magnitude
+            final byte[] magnitude = new byte[length];
+            for (int i = 0; i < length; i++) {
+                magnitude[length - 1 - i] = buffer.get(start + 1 + i);
+            }
+            bigInt = new BigInteger(1, magnitude);
+        }
+
+        buffer.position(start + 1 + length);
+        return bigInt;
+    }
+
+    private static int readLength(final ByteBuffer buffer, final int start) {
+        if (buffer.limit() - start < 1) {
+            throw new ConversionException("Expected a number length at " + start);
+        }
+        final int length = buffer.get(start) & 0xFF;
+        if (buffer.limit() - start - 1 < length) {
+            throw new ConversionException("Expected " + length + " number bytes at " + (start + 1) + " but " +
+                                          (buffer.limit() - start - 1) + " remain");
+        }
+        return length;
+    }
+
+    private static long readLE(final ByteBuffer buffer, final int offset, final int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value |= (buffer.get(offset + i) & 0xFFL) << (i * Byte.SIZE);
+        }
+        return value;
+    }
+
+    private static BigInteger toUnsignedBigInteger(final long value) {
+        return value >= 0 ? BigInteger.valueOf(value) : BigInteger.valueOf(value & Long.MAX_VALUE).setBit(Long.SIZE - 1);
+    }
 }
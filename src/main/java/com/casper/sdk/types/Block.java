@@ -0,0 +1,72 @@
+package com.casper.sdk.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+/**
+ * Type: a block of the chain. The body of the block, which lists its deploys and transfers, is held as the tokens read
+ * from the JSON and is only decoded when first obtained as most callers only need the header.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Block {
+
+    private final Digest hash;
+    private final BlockHeader header;
+    /** The tokens of the body's JSON, null once decoded */
+    private TokenBuffer bodyTokens;
+    private BlockBody body;
+
+    @JsonCreator
+    public Block(@JsonProperty("hash") final Digest hash,
+                 @JsonProperty("header") final BlockHeader header,
+                 @JsonProperty("body") final TokenBuffer bodyTokens) {
+        this.hash = hash;
+        this.header = header;
+        this.bodyTokens = bodyTokens;
+    }
+
+    public Block(final Digest hash, final BlockHeader header, final BlockBody body) {
+        this.hash = hash;
+        this.header = header;
+        this.body = body;
+    }
+
+    public Digest getHash() {
+        return hash;
+    }
+
+    public BlockHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Obtains the body of the block, decoding it on first use
+     *
+     * @return the body of the block
+     */
+    public synchronized BlockBody getBody() {
+        if (bodyTokens != null) {
+            try (final JsonParser parser = bodyTokens.asParser()) {
+                body = parser.readValueAs(BlockBody.class);
+            } catch (IOException | IllegalStateException e) {
+                throw new ConversionException("Unable to decode block body of " + hash, e);
+            }
+            bodyTokens = null;
+        }
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return "Block{" +
+               "hash=" + hash +
+               ", header=" + header +
+               '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Type: the event sent by a node when a block is added to its chain.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BlockAdded {
+
+    private final Digest blockHash;
+    private final Block block;
+
+    @JsonCreator
+    public BlockAdded(@JsonProperty("block_hash") final Digest blockHash,
+                      @JsonProperty("block") final Block block) {
+        this.blockHash = blockHash;
+        this.block = block;
+    }
+
+    public Digest getBlockHash() {
+        return blockHash;
+    }
+
+    public Block getBlock() {
+        return block;
+    }
+}
@@ -0,0 +1,41 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type: the body of a block, the deploys and transfers it contains.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BlockBody {
+
+    /** The public key of the validator that proposed the block */
+    private final CLPublicKey proposer;
+    private final List<Digest> deployHashes;
+    private final List<Digest> transferHashes;
+
+    @JsonCreator
+    public BlockBody(@JsonProperty("proposer") final CLPublicKey proposer,
+                     @JsonProperty("deploy_hashes") final List<Digest> deployHashes,
+                     @JsonProperty("transfer_hashes") final List<Digest> transferHashes) {
+        this.proposer = proposer;
+        this.deployHashes = deployHashes != null ? deployHashes : Collections.emptyList();
+        this.transferHashes = transferHashes != null ? transferHashes : Collections.emptyList();
+    }
+
+    public CLPublicKey getProposer() {
+        return proposer;
+    }
+
+    public List<Digest> getDeployHashes() {
+        return deployHashes;
+    }
+
+    public List<Digest> getTransferHashes() {
+        return transferHashes;
+    }
+}
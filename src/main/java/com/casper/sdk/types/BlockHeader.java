@@ -0,0 +1,122 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Type: the header of a block.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BlockHeader {
+
+    private final Digest parentHash;
+    /** The root hash of global state after the deploys of the block have been executed */
+    private final Digest stateRootHash;
+    private final Digest bodyHash;
+    private final boolean randomBit;
+    private final Digest accumulatedSeed;
+    /** True if the block is the last block of an era */
+    private final boolean switchBlock;
+    /** The timestamp of the block in milliseconds since the UNIX epoch */
+    private final long timestamp;
+    private final long eraId;
+    private final long height;
+    private final String protocolVersion;
+
+    @JsonCreator
+    public BlockHeader(@JsonProperty("parent_hash") final Digest parentHash,
+                       @JsonProperty("state_root_hash") final Digest stateRootHash,
+                       @JsonProperty("body_hash") final Digest bodyHash,
+                       @JsonProperty("random_bit") final boolean randomBit,
+                       @JsonProperty("accumulated_seed") final Digest accumulatedSeed,
+                       @JsonProperty("era_end") final JsonNode eraEnd,
+                       @JsonProperty("timestamp") final String timestamp,
+                       @JsonProperty("era_id") final long eraId,
+                       @JsonProperty("height") final long height,
+                       @JsonProperty("protocol_version") final String protocolVersion) {
+        this(parentHash,
+                stateRootHash,
+                bodyHash,
+                randomBit,
+                accumulatedSeed,
+                eraEnd != null && !eraEnd.isNull(),
+                DeployHeader.toEpocMs(timestamp),
+                eraId,
+                height,
+                protocolVersion);
+    }
+
+    public BlockHeader(final Digest parentHash,
+                       final Digest stateRootHash,
+                       final Digest bodyHash,
+                       final boolean randomBit,
+                       final Digest accumulatedSeed,
+                       final boolean switchBlock,
+                       final long timestamp,
+                       final long eraId,
+                       final long height,
+                       final String protocolVersion) {
+        this.parentHash = parentHash;
+        this.stateRootHash = stateRootHash;
+        this.bodyHash = bodyHash;
+        this.randomBit = randomBit;
+        this.accumulatedSeed = accumulatedSeed;
+        this.switchBlock = switchBlock;
+        this.timestamp = timestamp;
+        this.eraId = eraId;
+        this.height = height;
+        this.protocolVersion = protocolVersion;
+    }
+
+    public Digest getParentHash() {
+        return parentHash;
+    }
+
+    public Digest getStateRootHash() {
+        return stateRootHash;
+    }
+
+    public Digest getBodyHash() {
+        return bodyHash;
+    }
+
+    public boolean isRandomBit() {
+        return randomBit;
+    }
+
+    public Digest getAccumulatedSeed() {
+        return accumulatedSeed;
+    }
+
+    public boolean isSwitchBlock() {
+        return switchBlock;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getEraId() {
+        return eraId;
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public String getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockHeader{" +
+               "height=" + height +
+               ", eraId=" + eraId +
+               ", stateRootHash=" + stateRootHash +
+               ", timestamp=" + timestamp +
+               '}';
+    }
+}
@@ -86,6 +86,22 @@ public enum CLType {
         throw new IllegalArgumentException("Not a valid CLType json name " + jsonName);
     }
 
+    /**
+     * Obtains the CLType of its numeric value in the casper byte format
+     *
+     * @param clType the numeric value of the CL type
+     * @return the CL type
+     */
+    public static CLType fromClType(final int clType) {
+
+        for (CLType type : values()) {
+            if (type.clType == clType) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Not a valid CLType value " + clType);
+    }
+
     public static boolean isNumeric(final CLType clType) {
         switch (clType) {
             case I32:
@@ -0,0 +1,69 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Type: what a node knows of a deploy, its header and the results of executing it. Unlike a {@link Deploy} the
+ * deploy's session and payment are skipped when read so that the execution of a deploy can be polled cheaply.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DeployInfo {
+
+    private final Digest deployHash;
+    private final DeployHeader header;
+    /** The result of the deploy's execution in each block it was executed in, empty until executed */
+    private final List<ExecutionResult> executionResults;
+
+    @JsonCreator
+    DeployInfo(@JsonProperty("deploy") final DeploySummary deploy,
+               @JsonProperty("execution_results") final List<ExecutionResult> executionResults) {
+        this(deploy.hash, deploy.header, executionResults);
+    }
+
+    public DeployInfo(final Digest deployHash, final DeployHeader header, final List<ExecutionResult> executionResults) {
+        this.deployHash = deployHash;
+        this.header = header;
+        this.executionResults = executionResults;
+    }
+
+    public Digest getDeployHash() {
+        return deployHash;
+    }
+
+    public DeployHeader getHeader() {
+        return header;
+    }
+
+    public List<ExecutionResult> getExecutionResults() {
+        return executionResults;
+    }
+
+    public boolean isExecuted() {
+        return executionResults != null && !executionResults.isEmpty();
+    }
+
+    /**
+     * @return the time the deploy expires, its timestamp plus its time to live, in milliseconds since the UNIX epoch
+     */
+    public long getExpiresAt() {
+        return header.getTimestamp() + header.getTtl();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class DeploySummary {
+
+        private final Digest hash;
+        private final DeployHeader header;
+
+        @JsonCreator
+        DeploySummary(@JsonProperty("hash") final Digest hash,
+                      @JsonProperty("header") final DeployHeader header) {
+            this.hash = hash;
+            this.header = header;
+        }
+    }
+}
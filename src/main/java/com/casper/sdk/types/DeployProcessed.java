@@ -0,0 +1,71 @@
+package com.casper.sdk.types;
+
+import com.casper.sdk.service.serialization.util.TtlUtils;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Type: the event sent by a node when a deploy has been executed in a block.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DeployProcessed {
+
+    private final Digest deployHash;
+    private final CLPublicKey account;
+    /** The timestamp of the deploy in milliseconds since the UNIX epoch */
+    private final long timestamp;
+    /** The time to live of the deploy in milliseconds */
+    private final long ttl;
+    private final List<Digest> dependencies;
+    /** The block the deploy was executed in */
+    private final Digest blockHash;
+    private final ExecutionResult executionResult;
+
+    @JsonCreator
+    DeployProcessed(@JsonProperty("deploy_hash") final Digest deployHash,
+                    @JsonProperty("account") final CLPublicKey account,
+                    @JsonProperty("timestamp") final String timestamp,
+                    @JsonProperty("ttl") final String ttl,
+                    @JsonProperty("dependencies") final List<Digest> dependencies,
+                    @JsonProperty("block_hash") final Digest blockHash,
+                    @JsonProperty("execution_result") final ExecutionResult.Outcomes executionResult) {
+        this.deployHash = deployHash;
+        this.account = account;
+        this.timestamp = DeployHeader.toEpocMs(timestamp);
+        this.ttl = TtlUtils.getTtlLong(ttl);
+        this.dependencies = dependencies;
+        this.blockHash = blockHash;
+        this.executionResult = new ExecutionResult(blockHash, executionResult);
+    }
+
+    public Digest getDeployHash() {
+        return deployHash;
+    }
+
+    public CLPublicKey getAccount() {
+        return account;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public List<Digest> getDependencies() {
+        return dependencies;
+    }
+
+    public Digest getBlockHash() {
+        return blockHash;
+    }
+
+    public ExecutionResult getExecutionResult() {
+        return executionResult;
+    }
+}
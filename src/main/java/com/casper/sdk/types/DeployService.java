@@ -5,11 +5,13 @@ import com.casper.sdk.service.hash.HashService;
 import com.casper.sdk.service.json.JsonConversionService;
 import com.casper.sdk.service.serialization.cltypes.TypesFactory;
 import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
+import com.casper.sdk.service.serialization.types.ByteSerializer;
 import com.casper.sdk.service.serialization.types.ByteSerializerFactory;
-import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.service.serialization.util.CollectionUtils;
 import com.casper.sdk.service.serialization.util.NumberUtils;
 import com.casper.sdk.service.signing.SigningService;
+import com.fasterxml.jackson.core.JsonParser;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -61,7 +63,11 @@ public class DeployService {
     }
 
     byte[] serializeBody(final DeployExecutable payment, final DeployExecutable session) {
-        return ByteUtils.concat(toBytes(payment), toBytes(session));
+        final ByteSerializer<DeployExecutable> serializer = serializerFactory.getByteSerializerByType(DeployExecutable.class);
+        final ByteSink sink = new ByteSink(serializer.sizeOf(payment) + serializer.sizeOf(session));
+        serializer.write(payment, sink);
+        serializer.write(session, sink);
+        return sink.toByteArray();
     }
 
     byte[] serializeApprovals(final Set<DeployApproval> approvals) {
@@ -155,13 +161,27 @@ public class DeployService {
     }
 
     /**
-     * Obtains the size of the deploy in bytes
+     * Reads a deploy from a parser positioned at the start of the deploy's JSON
+     *
+     * @param parser the parser to read from
+     * @return the deploy read
+     */
+    public Deploy fromJson(final JsonParser parser) {
+        try {
+            return jsonService.fromJson(parser, Deploy.class);
+        } catch (IOException e) {
+            throw new ConversionException(e);
+        }
+    }
+
+    /**
+     * Obtains the size of the deploy in bytes, computed from its fields without serializing it
      *
      * @param deploy the deploy whose size is to be obtained
      * @return the deploy byte size
      */
     public int deploySizeInBytes(Deploy deploy) {
-        return toBytes(deploy).length;
+        return serializerFactory.getByteSerializer(deploy).sizeOf(deploy);
     }
 
     byte[] toBytes(final DeployExecutable deployExecutable) {
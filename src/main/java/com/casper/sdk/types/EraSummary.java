@@ -0,0 +1,144 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type: the summary of an era obtained from its switch block, the seigniorage paid to validators and delegators.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EraSummary {
+
+    /** The hash of the switch block that ended the era */
+    private final Digest blockHash;
+    private final long eraId;
+    private final Digest stateRootHash;
+    private final List<SeigniorageAllocation> seigniorageAllocations;
+
+    @JsonCreator
+    EraSummary(@JsonProperty("block_hash") final Digest blockHash,
+               @JsonProperty("era_id") final long eraId,
+               @JsonProperty("stored_value") final StoredValue storedValue,
+               @JsonProperty("state_root_hash") final Digest stateRootHash) {
+        this(blockHash,
+                eraId,
+                stateRootHash,
+                storedValue != null && storedValue.eraInfo != null ? storedValue.eraInfo.seigniorageAllocations : null);
+    }
+
+    public EraSummary(final Digest blockHash,
+                      final long eraId,
+                      final Digest stateRootHash,
+                      final List<SeigniorageAllocation> seigniorageAllocations) {
+        this.blockHash = blockHash;
+        this.eraId = eraId;
+        this.stateRootHash = stateRootHash;
+        this.seigniorageAllocations = seigniorageAllocations != null ? seigniorageAllocations : Collections.emptyList();
+    }
+
+    public Digest getBlockHash() {
+        return blockHash;
+    }
+
+    public long getEraId() {
+        return eraId;
+    }
+
+    public Digest getStateRootHash() {
+        return stateRootHash;
+    }
+
+    public List<SeigniorageAllocation> getSeigniorageAllocations() {
+        return seigniorageAllocations;
+    }
+
+    /**
+     * The seigniorage paid to a validator or to one of a validator's delegators
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SeigniorageAllocation {
+
+        private final CLPublicKey validatorPublicKey;
+        /** The delegator paid or null if paid to the validator */
+        private final CLPublicKey delegatorPublicKey;
+        private final BigInteger amount;
+
+        @JsonCreator
+        SeigniorageAllocation(@JsonProperty("Validator") final Reward validator,
+                              @JsonProperty("Delegator") final Reward delegator) {
+            this(validator != null ? validator : delegator);
+        }
+
+        private SeigniorageAllocation(final Reward reward) {
+            this(reward.validatorPublicKey, reward.delegatorPublicKey, reward.amount);
+        }
+
+        public SeigniorageAllocation(final CLPublicKey validatorPublicKey,
+                                     final CLPublicKey delegatorPublicKey,
+                                     final BigInteger amount) {
+            this.validatorPublicKey = validatorPublicKey;
+            this.delegatorPublicKey = delegatorPublicKey;
+            this.amount = amount;
+        }
+
+        public CLPublicKey getValidatorPublicKey() {
+            return validatorPublicKey;
+        }
+
+        public CLPublicKey getDelegatorPublicKey() {
+            return delegatorPublicKey;
+        }
+
+        public boolean isDelegator() {
+            return delegatorPublicKey != null;
+        }
+
+        public BigInteger getAmount() {
+            return amount;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Reward {
+
+        private final CLPublicKey validatorPublicKey;
+        private final CLPublicKey delegatorPublicKey;
+        private final BigInteger amount;
+
+        @JsonCreator
+        Reward(@JsonProperty("validator_public_key") final CLPublicKey validatorPublicKey,
+               @JsonProperty("delegator_public_key") final CLPublicKey delegatorPublicKey,
+               @JsonProperty("amount") final BigInteger amount) {
+            this.validatorPublicKey = validatorPublicKey;
+            this.delegatorPublicKey = delegatorPublicKey;
+            this.amount = amount;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class StoredValue {
+
+        private final EraInfo eraInfo;
+
+        @JsonCreator
+        StoredValue(@JsonProperty("EraInfo") final EraInfo eraInfo) {
+            this.eraInfo = eraInfo;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class EraInfo {
+
+        private final List<SeigniorageAllocation> seigniorageAllocations;
+
+        @JsonCreator
+        EraInfo(@JsonProperty("seigniorage_allocations") final List<SeigniorageAllocation> seigniorageAllocations) {
+            this.seigniorageAllocations = seigniorageAllocations;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigInteger;
+
+/**
+ * Type: the outcome of executing a deploy in a block. The effects of the execution on global state, which can be
+ * large, are skipped when read rather than bound.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ExecutionResult {
+
+    /** The block the deploy was executed in */
+    private final Digest blockHash;
+    private final boolean success;
+    /** The cost of the execution in motes */
+    private final BigInteger cost;
+    /** The reason the execution failed, null if it succeeded */
+    private final String errorMessage;
+
+    @JsonCreator
+    ExecutionResult(@JsonProperty("block_hash") final Digest blockHash,
+                    @JsonProperty("result") final Outcomes result) {
+        this(blockHash, result.success != null, result.get().cost, result.get().errorMessage);
+    }
+
+    public ExecutionResult(final Digest blockHash, final boolean success, final BigInteger cost, final String errorMessage) {
+        this.blockHash = blockHash;
+        this.success = success;
+        this.cost = cost;
+        this.errorMessage = errorMessage;
+    }
+
+    public Digest getBlockHash() {
+        return blockHash;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public BigInteger getCost() {
+        return cost;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionResult{" +
+               "blockHash=" + blockHash +
+               ", success=" + success +
+               ", cost=" + cost +
+               (errorMessage != null ? ", errorMessage='" + errorMessage + '\'' : "") +
+               '}';
+    }
+
+    /**
+     * The JSON of an execution's outcome, which has either a 'Success' or a 'Failure' field
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Outcomes {
+
+        private final Outcome success;
+        private final Outcome failure;
+
+        @JsonCreator
+        Outcomes(@JsonProperty("Success") final Outcome success,
+                 @JsonProperty("Failure") final Outcome failure) {
+            this.success = success;
+            this.failure = failure;
+        }
+
+        private Outcome get() {
+            return success != null ? success : failure;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Outcome {
+
+        private final BigInteger cost;
+        private final String errorMessage;
+
+        @JsonCreator
+        Outcome(@JsonProperty("cost") final BigInteger cost,
+                @JsonProperty("error_message") final String errorMessage) {
+            this.cost = cost;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
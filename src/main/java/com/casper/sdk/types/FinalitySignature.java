@@ -0,0 +1,45 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Type: the event sent by a node when a validator has signed a block as final.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FinalitySignature {
+
+    private final Digest blockHash;
+    private final long eraId;
+    private final Signature signature;
+    /** The public key of the validator that signed the block */
+    private final CLPublicKey publicKey;
+
+    @JsonCreator
+    public FinalitySignature(@JsonProperty("block_hash") final Digest blockHash,
+                             @JsonProperty("era_id") final long eraId,
+                             @JsonProperty("signature") final Signature signature,
+                             @JsonProperty("public_key") final CLPublicKey publicKey) {
+        this.blockHash = blockHash;
+        this.eraId = eraId;
+        this.signature = signature;
+        this.publicKey = publicKey;
+    }
+
+    public Digest getBlockHash() {
+        return blockHash;
+    }
+
+    public long getEraId() {
+        return eraId;
+    }
+
+    public Signature getSignature() {
+        return signature;
+    }
+
+    public CLPublicKey getPublicKey() {
+        return publicKey;
+    }
+}
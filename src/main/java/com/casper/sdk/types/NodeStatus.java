@@ -0,0 +1,162 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type: the status of a node as returned by info_get_status.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NodeStatus {
+
+    private final String apiVersion;
+    private final String chainspecName;
+    private final String startingStateRootHash;
+    private final List<Peer> peers;
+    /** The last block added to the node's chain, null if the node has not yet added a block */
+    private final BlockInfo lastAddedBlockInfo;
+    private final CLPublicKey ourPublicSigningKey;
+    private final String roundLength;
+    private final String buildVersion;
+
+    @JsonCreator
+    public NodeStatus(@JsonProperty("api_version") final String apiVersion,
+                      @JsonProperty("chainspec_name") final String chainspecName,
+                      @JsonProperty("starting_state_root_hash") final String startingStateRootHash,
+                      @JsonProperty("peers") final List<Peer> peers,
+                      @JsonProperty("last_added_block_info") final BlockInfo lastAddedBlockInfo,
+                      @JsonProperty("our_public_signing_key") final CLPublicKey ourPublicSigningKey,
+                      @JsonProperty("round_length") final String roundLength,
+                      @JsonProperty("build_version") final String buildVersion) {
+        this.apiVersion = apiVersion;
+        this.chainspecName = chainspecName;
+        this.startingStateRootHash = startingStateRootHash;
+        this.peers = peers != null ? peers : Collections.emptyList();
+        this.lastAddedBlockInfo = lastAddedBlockInfo;
+        this.ourPublicSigningKey = ourPublicSigningKey;
+        this.roundLength = roundLength;
+        this.buildVersion = buildVersion;
+    }
+
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    public String getChainspecName() {
+        return chainspecName;
+    }
+
+    public String getStartingStateRootHash() {
+        return startingStateRootHash;
+    }
+
+    public List<Peer> getPeers() {
+        return peers;
+    }
+
+    public BlockInfo getLastAddedBlockInfo() {
+        return lastAddedBlockInfo;
+    }
+
+    public CLPublicKey getOurPublicSigningKey() {
+        return ourPublicSigningKey;
+    }
+
+    public String getRoundLength() {
+        return roundLength;
+    }
+
+    public String getBuildVersion() {
+        return buildVersion;
+    }
+
+    /**
+     * A peer the node is connected to
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Peer {
+
+        private final String nodeId;
+        private final String address;
+
+        @JsonCreator
+        public Peer(@JsonProperty("node_id") final String nodeId, @JsonProperty("address") final String address) {
+            this.nodeId = nodeId;
+            this.address = address;
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+    }
+
+    /**
+     * Summary of the last block added by the node
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BlockInfo {
+
+        private final Digest hash;
+        private final long timestamp;
+        private final long eraId;
+        private final long height;
+        private final Digest stateRootHash;
+        private final CLPublicKey creator;
+
+        @JsonCreator
+        BlockInfo(@JsonProperty("hash") final Digest hash,
+                  @JsonProperty("timestamp") final String timestamp,
+                  @JsonProperty("era_id") final long eraId,
+                  @JsonProperty("height") final long height,
+                  @JsonProperty("state_root_hash") final Digest stateRootHash,
+                  @JsonProperty("creator") final CLPublicKey creator) {
+            this(hash, DeployHeader.toEpocMs(timestamp), eraId, height, stateRootHash, creator);
+        }
+
+        public BlockInfo(final Digest hash,
+                         final long timestamp,
+                         final long eraId,
+                         final long height,
+                         final Digest stateRootHash,
+                         final CLPublicKey creator) {
+            this.hash = hash;
+            this.timestamp = timestamp;
+            this.eraId = eraId;
+            this.height = height;
+            this.stateRootHash = stateRootHash;
+            this.creator = creator;
+        }
+
+        public Digest getHash() {
+            return hash;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public long getEraId() {
+            return eraId;
+        }
+
+        public long getHeight() {
+            return height;
+        }
+
+        public Digest getStateRootHash() {
+            return stateRootHash;
+        }
+
+        public CLPublicKey getCreator() {
+            return creator;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigInteger;
+
+/**
+ * Type: the record of a transfer executed in a block, not to be confused with the {@link Transfer} session of a
+ * deploy.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TransferRecord {
+
+    /** The deploy that made the transfer */
+    private final Digest deployHash;
+    /** The account hash of the account that made the transfer */
+    private final String from;
+    /** The account hash of the recipient, null if the transfer was made to a purse */
+    private final String to;
+    private final URef source;
+    private final URef target;
+    /** The amount transferred in motes */
+    private final BigInteger amount;
+    private final BigInteger gas;
+    /** The user defined ID of the transfer, may be null */
+    private final BigInteger id;
+
+    @JsonCreator
+    public TransferRecord(@JsonProperty("deploy_hash") final Digest deployHash,
+                          @JsonProperty("from") final String from,
+                          @JsonProperty("to") final String to,
+                          @JsonProperty("source") final URef source,
+                          @JsonProperty("target") final URef target,
+                          @JsonProperty("amount") final BigInteger amount,
+                          @JsonProperty("gas") final BigInteger gas,
+                          @JsonProperty("id") final BigInteger id) {
+        this.deployHash = deployHash;
+        this.from = from;
+        this.to = to;
+        this.source = source;
+        this.target = target;
+        this.amount = amount;
+        this.gas = gas;
+        this.id = id;
+    }
+
+    public Digest getDeployHash() {
+        return deployHash;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public URef getSource() {
+        return source;
+    }
+
+    public URef getTarget() {
+        return target;
+    }
+
+    public BigInteger getAmount() {
+        return amount;
+    }
+
+    public BigInteger getGas() {
+        return gas;
+    }
+
+    public BigInteger getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferRecord{" +
+               "deployHash=" + deployHash +
+               ", from='" + from + '\'' +
+               ", to='" + to + '\'' +
+               ", amount=" + amount +
+               ", id=" + id +
+               '}';
+    }
+}
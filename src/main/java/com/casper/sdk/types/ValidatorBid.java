@@ -0,0 +1,131 @@
+package com.casper.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type: the bid of a validator in the auction, along with the stakes delegated to the validator.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ValidatorBid {
+
+    private final CLPublicKey publicKey;
+    private final URef bondingPurse;
+    /** The amount staked by the validator in motes */
+    private final BigInteger stakedAmount;
+    /** The percentage of the delegators' rewards kept by the validator */
+    private final int delegationRate;
+    private final List<Delegator> delegators;
+    private final boolean inactive;
+
+    @JsonCreator
+    ValidatorBid(@JsonProperty("public_key") final CLPublicKey publicKey, @JsonProperty("bid") final Bid bid) {
+        this(publicKey, bid.bondingPurse, bid.stakedAmount, bid.delegationRate, bid.delegators, bid.inactive);
+    }
+
+    public ValidatorBid(final CLPublicKey publicKey,
+                        final URef bondingPurse,
+                        final BigInteger stakedAmount,
+                        final int delegationRate,
+                        final List<Delegator> delegators,
+                        final boolean inactive) {
+        this.publicKey = publicKey;
+        this.bondingPurse = bondingPurse;
+        this.stakedAmount = stakedAmount;
+        this.delegationRate = delegationRate;
+        this.delegators = delegators != null ? delegators : Collections.emptyList();
+        this.inactive = inactive;
+    }
+
+    public CLPublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    public URef getBondingPurse() {
+        return bondingPurse;
+    }
+
+    public BigInteger getStakedAmount() {
+        return stakedAmount;
+    }
+
+    public int getDelegationRate() {
+        return delegationRate;
+    }
+
+    public List<Delegator> getDelegators() {
+        return delegators;
+    }
+
+    public boolean isInactive() {
+        return inactive;
+    }
+
+    /**
+     * A stake delegated to the validator
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Delegator {
+
+        private final CLPublicKey publicKey;
+        private final BigInteger stakedAmount;
+        private final URef bondingPurse;
+        /** The public key of the validator the stake is delegated to */
+        private final CLPublicKey delegatee;
+
+        @JsonCreator
+        public Delegator(@JsonProperty("public_key") final CLPublicKey publicKey,
+                         @JsonProperty("staked_amount") final BigInteger stakedAmount,
+                         @JsonProperty("bonding_purse") final URef bondingPurse,
+                         @JsonProperty("delegatee") final CLPublicKey delegatee) {
+            this.publicKey = publicKey;
+            this.stakedAmount = stakedAmount;
+            this.bondingPurse = bondingPurse;
+            this.delegatee = delegatee;
+        }
+
+        public CLPublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public BigInteger getStakedAmount() {
+            return stakedAmount;
+        }
+
+        public URef getBondingPurse() {
+            return bondingPurse;
+        }
+
+        public CLPublicKey getDelegatee() {
+            return delegatee;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Bid {
+
+        private final URef bondingPurse;
+        private final BigInteger stakedAmount;
+        private final int delegationRate;
+        private final List<Delegator> delegators;
+        private final boolean inactive;
+
+        @JsonCreator
+        Bid(@JsonProperty("bonding_purse") final URef bondingPurse,
+            @JsonProperty("staked_amount") final BigInteger stakedAmount,
+            @JsonProperty("delegation_rate") final int delegationRate,
+            @JsonProperty("delegators") final List<Delegator> delegators,
+            @JsonProperty("inactive") final boolean inactive) {
+            this.bondingPurse = bondingPurse;
+            this.stakedAmount = stakedAmount;
+            this.delegationRate = delegationRate;
+            this.delegators = delegators;
+            this.inactive = inactive;
+        }
+    }
+}
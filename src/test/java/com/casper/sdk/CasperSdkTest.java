@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static org.apache.commons.lang3.StringUtils.deleteWhitespace;
@@ -103,6 +104,12 @@ class CasperSdkTest {
         System.out.println(eraInfoBySwitchBlock);
     }
 
+    @Test
+    void asyncGetBlockTransfers() throws Exception {
+        final String blockTransfers = casperSdk.async().getBlockTransfers().get(10, TimeUnit.SECONDS);
+        assertThat(blockTransfers, hasJsonPath("$.transfers[0].amount", is("7000000000")));
+    }
+
     @Test
     public void getNodeMetrics() {
 
@@ -0,0 +1,76 @@
+package com.casper.sdk.service.http.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stands in for a node's event stream. The events of each channel are numbered from 0 and every connection is sent the
+ * events from the requested start_from id, up to the number allowed per connection, after which the connection ends as
+ * though dropped by the node.
+ */
+public class DummyEventDispatcher extends Dispatcher {
+
+    private static final String API_VERSION = "data:{\"ApiVersion\":\"1.4.3\"}\n\n";
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, List<String>> events = new ConcurrentHashMap<>();
+    private volatile int eventsPerConnection = Integer.MAX_VALUE;
+
+    /**
+     * @param channel the channel of the event, eg 'main'
+     * @param json    the JSON of the event
+     */
+    public void addEvent(final String channel, final String json) {
+        try {
+            // Each event must be sent on a single data line
+            final String data = mapper.readTree(json).toString();
+            final List<String> channelEvents = events.computeIfAbsent(channel, name -> new ArrayList<>());
+            synchronized (channelEvents) {
+                channelEvents.add(data);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public void setEventsPerConnection(final int eventsPerConnection) {
+        this.eventsPerConnection = eventsPerConnection;
+    }
+
+    @Override
+    public MockResponse dispatch(final RecordedRequest request) {
+
+        final HttpUrl url = request.getRequestUrl();
+        //noinspection ConstantConditions
+        final List<String> segments = url.pathSegments();
+        if (segments.size() != 2 || !"events".equals(segments.get(0))) {
+            return new MockResponse().setResponseCode(404);
+        }
+
+        final String startFrom = url.queryParameter("start_from");
+        final StringBuilder body = new StringBuilder(API_VERSION);
+        final List<String> channelEvents = events.getOrDefault(segments.get(1), new ArrayList<>());
+
+        synchronized (channelEvents) {
+            final int start = startFrom != null ? Integer.parseInt(startFrom) : 0;
+            final int end = (int) Math.min(channelEvents.size(), (long) start + eventsPerConnection);
+            for (int id = start; id < end; id++) {
+                body.append("data:").append(channelEvents.get(id)).append('\n')
+                        .append("id:").append(id).append("\n\n");
+            }
+        }
+
+        return new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "text/event-stream")
+                .setBody(body.toString());
+    }
+}
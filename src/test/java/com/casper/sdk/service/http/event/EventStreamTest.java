@@ -0,0 +1,245 @@
+package com.casper.sdk.service.http.event;
+
+import com.casper.sdk.types.BlockAdded;
+import com.casper.sdk.types.DeployProcessed;
+import com.casper.sdk.types.FinalitySignature;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+
+class EventStreamTest {
+
+    private static final String URL = "http://localhost";
+    private static final String BLOCK_HASH = "ce4e6b534c69b2b29f834c6ce73a4b119090de84485149cfc8f2b10b6737166e";
+    private static final String DEPLOY_HASH = "5db09c0275c4c1ba54ebcc69784ed767350bf9c2b0be7ab4fec1ca84acd1c47d";
+    private MockWebServer mockBackEnd;
+    private DummyEventDispatcher dispatcher;
+    private EventStream eventStream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new DummyEventDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (eventStream != null) {
+            eventStream.close();
+        }
+        mockBackEnd.close();
+    }
+
+    @Test
+    void typedListenersReceiveEvents() throws InterruptedException {
+
+        dispatcher.addEvent("main", loadJson("block_added.json"));
+        dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+        dispatcher.addEvent("sigs", loadJson("finality_signature.json"));
+
+        final BlockingQueue<BlockAdded> blocks = new LinkedBlockingQueue<>();
+        final BlockingQueue<DeployProcessed> deploys = new LinkedBlockingQueue<>();
+        final BlockingQueue<FinalitySignature> signatures = new LinkedBlockingQueue<>();
+        eventStream = builder()
+                .listener(EventType.BLOCK_ADDED, blocks::add)
+                .listener(EventType.DEPLOY_PROCESSED, deploys::add)
+                .listener(EventType.FINALITY_SIGNATURE, signatures::add)
+                .build()
+                .start();
+
+        final BlockAdded blockAdded = blocks.poll(5, TimeUnit.SECONDS);
+        assertThat(blockAdded, is(notNullValue()));
+        assertThat(blockAdded.getBlockHash().toString(), is(BLOCK_HASH));
+        assertThat(blockAdded.getBlock().getHeader().getHeight(), is(314L));
+
+        final DeployProcessed deployProcessed = deploys.poll(5, TimeUnit.SECONDS);
+        assertThat(deployProcessed, is(notNullValue()));
+        assertThat(deployProcessed.getDeployHash().toString(), is(DEPLOY_HASH));
+        assertThat(deployProcessed.getExecutionResult().isSuccess(), is(true));
+        assertThat(deployProcessed.getExecutionResult().getCost(), is(new BigInteger("100000000")));
+        assertThat(deployProcessed.getTtl(), is(TimeUnit.MINUTES.toMillis(30)));
+
+        final FinalitySignature signature = signatures.poll(5, TimeUnit.SECONDS);
+        assertThat(signature, is(notNullValue()));
+        assertThat(signature.getEraId(), is(28L));
+        assertThat(signature.getPublicKey().toAccountHex(), is("0107f0d5c23d7c1bd2e9b53ea34515ec74023c73a694ae31e17aa6fe6291c5189e"));
+
+        assertThat(eventStream.getChannels(), is(Arrays.asList("main", "sigs")));
+    }
+
+    @Test
+    void reconnectsFromLastEventId() throws InterruptedException {
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+        }
+        // The node drops the connection after every second event
+        dispatcher.setEventsPerConnection(2);
+
+        final CountDownLatch latch = new CountDownLatch(5);
+        final AtomicInteger received = new AtomicInteger();
+        eventStream = builder()
+                .listener(EventType.DEPLOY_PROCESSED, event -> {
+                    received.incrementAndGet();
+                    latch.countDown();
+                })
+                .build()
+                .start();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(eventStream.getLastEventId("main"), is(4L));
+        assertThat(eventStream.getReconnectCount(), is(greaterThan(1L)));
+
+        final List<String> startFrom = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final RecordedRequest request = mockBackEnd.takeRequest(1, TimeUnit.SECONDS);
+            //noinspection ConstantConditions
+            startFrom.add(request.getRequestUrl().queryParameter("start_from"));
+        }
+        assertThat(startFrom, is(Arrays.asList(null, "2", "4")));
+
+        // No event is delivered twice
+        Thread.sleep(100);
+        assertThat(received.get(), is(5));
+    }
+
+    @Test
+    void silentConnectionIsReopened() throws InterruptedException {
+
+        dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+        // The first connection sends its headers then nothing as though lost by the network
+        final AtomicInteger connections = new AtomicInteger();
+        mockBackEnd.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                final MockResponse response = dispatcher.dispatch(request);
+                return connections.getAndIncrement() == 0 ? response.setBodyDelay(1, TimeUnit.SECONDS) : response;
+            }
+        });
+
+        final BlockingQueue<DeployProcessed> deploys = new LinkedBlockingQueue<>();
+        final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        eventStream = builder()
+                .readTimeout(100, TimeUnit.MILLISECONDS)
+                .listener(EventType.DEPLOY_PROCESSED, deploys::add)
+                .errorListener(errors::add)
+                .build()
+                .start();
+
+        assertThat(deploys.poll(5, TimeUnit.SECONDS), is(notNullValue()));
+        assertThat(errors.poll(1, TimeUnit.SECONDS), is(instanceOf(SocketTimeoutException.class)));
+        assertThat(eventStream.getReconnectCount(), is(greaterThan(0L)));
+    }
+
+    @Test
+    void slowListenerHoldsBackReading() throws InterruptedException {
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+        }
+
+        final CountDownLatch latch = new CountDownLatch(20);
+        final AtomicInteger maxQueued = new AtomicInteger();
+        eventStream = builder()
+                .queueCapacity(2)
+                .listener(EventType.DEPLOY_PROCESSED, event -> {
+                    maxQueued.accumulateAndGet(eventStream.getQueuedCount(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    latch.countDown();
+                })
+                .build();
+        eventStream.start();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(maxQueued.get() <= 2, is(true));
+        assertThat(eventStream.getEventCount(), is(20L));
+    }
+
+    @Test
+    void onlyChannelsListenedToAreRead() throws InterruptedException {
+
+        dispatcher.addEvent("main", loadJson("block_added.json"));
+        dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+
+        final BlockingQueue<BlockAdded> blocks = new LinkedBlockingQueue<>();
+        eventStream = builder().listener(EventType.BLOCK_ADDED, blocks::add).build().start();
+
+        assertThat(blocks.poll(5, TimeUnit.SECONDS), is(notNullValue()));
+        final RecordedRequest request = mockBackEnd.takeRequest(1, TimeUnit.SECONDS);
+        //noinspection ConstantConditions
+        assertThat(request.getPath(), is("/events/main"));
+        assertThat(eventStream.getChannels(), is(Collections.singletonList("main")));
+        // The deploy event is skipped without being decoded
+        assertThat(eventStream.getEventCount(), is(1L));
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheStream() throws InterruptedException {
+
+        dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+        dispatcher.addEvent("main", loadJson("deploy_processed.json"));
+
+        final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        eventStream = builder()
+                .errorListener(errors::add)
+                .listener(EventType.DEPLOY_PROCESSED, event -> {
+                    throw new IllegalStateException("listener failed");
+                })
+                .listener(EventType.DEPLOY_PROCESSED, event -> latch.countDown())
+                .build()
+                .start();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        final Throwable error = errors.poll(1, TimeUnit.SECONDS);
+        assertThat(error, is(notNullValue()));
+        assertThat(error.getMessage(), is("listener failed"));
+    }
+
+    private EventStreamBuilder builder() {
+        return new EventStreamBuilder()
+                .endpoint(URL, mockBackEnd.getPort())
+                .reconnectDelay(10, 50, TimeUnit.MILLISECONDS);
+    }
+
+    private String loadJson(final String fileName) {
+        try (final InputStream in = getClass().getResourceAsStream("/event-json/" + fileName)) {
+            //noinspection ConstantConditions
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
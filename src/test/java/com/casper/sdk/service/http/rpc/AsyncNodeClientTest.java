@@ -0,0 +1,114 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.types.*;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.*;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.HASH_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncNodeClientTest {
+
+    private static final String ACCOUNT_KEY = "01048c1858b7a6ff56a20d7574fd31025ead4af9cb8a854f919d24f886a4ebb741";
+    private MockWebServer mockBackEnd;
+    private ExecutorService executor;
+    private AsyncNodeClient nodeClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.start();
+        mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+        executor = Executors.newSingleThreadExecutor();
+        nodeClient = new AsyncNodeClient(
+                DEPLOY_SERVICE,
+                HASH_SERVICE,
+                new HttpMethods(JSON_SERVICE, URL, mockBackEnd.getPort()),
+                executor
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdownNow();
+        mockBackEnd.close();
+    }
+
+    @Test
+    void getStateRootHash() throws Exception {
+        assertThat(get(nodeClient.getStateRootHash()), is("1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db"));
+    }
+
+    @Test
+    void getAccountMainPurseURef() throws Exception {
+        final URef purse = get(nodeClient.getAccountMainPurseURef(ACCOUNT_KEY));
+        assertThat(purse.getAccessRights(), is(AccessRights.READ_ADD_WRITE));
+        assertThat(purse.getBytes(), is(ByteUtils.decodeHex("ebda3f171068107470bce0d74eb9a302fcb8914471fe8900c66fae258a0f46ef")));
+    }
+
+    @Test
+    void getAccountBalance() throws Exception {
+        assertThat(get(nodeClient.getAccountBalance(ACCOUNT_KEY)), is(new BigInteger("1000000000000000000000000000000000")));
+    }
+
+    @Test
+    void getLatestBlockInfo() throws Exception {
+        final String latestBlockInfo = get(nodeClient.getLatestBlockInfo());
+        assertThat(latestBlockInfo, hasJsonPath("$.header.height", is(314)));
+    }
+
+    @Test
+    void putDeploy() throws Exception {
+        final Deploy deploy = readDeploy();
+        assertThat(get(nodeClient.putDeploy(deploy)), is("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187"));
+    }
+
+    @Test
+    void getDeploy() throws Exception {
+        final Digest deployHash = new Digest("3752362444d2b75de05f0a849157d94acaeebdcce155716cd2848773c2a159b0");
+        final Deploy deploy = get(nodeClient.getDeploy(deployHash));
+        assertThat(deploy.getHash(), is(deployHash));
+        assertThat(deploy.getSession(), is(instanceOf(Transfer.class)));
+    }
+
+    @Test
+    void concurrentCallsCompleteIndependently() throws Exception {
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[20];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = nodeClient.getStateRootHash();
+        }
+
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        assertThat(mockBackEnd.getRequestCount(), is(futures.length));
+    }
+
+    @Test
+    void failedCallCompletesExceptionally() throws IOException {
+
+        mockBackEnd.shutdown();
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> get(nodeClient.getNodeStatus()));
+        assertThat(e.getCause(), is(instanceOf(HttpException.class)));
+    }
+
+    private static <T> T get(final CompletableFuture<T> future) throws Exception {
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
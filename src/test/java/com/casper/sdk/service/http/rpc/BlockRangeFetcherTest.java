@@ -0,0 +1,216 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.casper.sdk.types.Block;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlockRangeFetcherTest {
+
+    private MockWebServer mockBackEnd;
+    private BlockDispatcher dispatcher;
+    private NodeClient nodeClient;
+    private BlockRangeFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new BlockDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+        nodeClient = nodeClient(mockBackEnd);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (fetcher != null) {
+            fetcher.close();
+        }
+        mockBackEnd.close();
+    }
+
+    @Test
+    void blocksAreDeliveredInHeightOrder() {
+
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(100, 139).concurrency(8).reorderWindow(4).build();
+
+        try (final Stream<Block> blocks = fetcher.stream()) {
+            assertThat(heightsOf(blocks), is(range(100, 139)));
+        }
+        assertThat(fetcher.hasNext(), is(false));
+        assertThat(fetcher.getCheckpoint(), is(140L));
+        assertThat(fetcher.getFetchedCount(), is(40L));
+        assertThat(fetcher.getCallCount(), is(40L));
+        // No more calls than the reorder window allows were ever in flight
+        assertThat(dispatcher.maxInFlight.get(), is(lessThanOrEqualTo(4)));
+    }
+
+    @Test
+    void blocksAreFetchedInBatches() {
+
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(0, 24).concurrency(2).batchSize(10).build();
+
+        assertThat(heightsOf(fetcher.stream()), is(range(0, 24)));
+        assertThat(fetcher.getCallCount(), is(3L));
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+    }
+
+    @Test
+    void reorderWindowBoundsBlocksFetchedAhead() throws InterruptedException {
+
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(0, 99).concurrency(4).reorderWindow(5).build();
+
+        // Nothing is consumed so the fetchers stop at the window
+        Thread.sleep(300);
+        assertThat(fetcher.getFetchedCount(), is(5L));
+        assertThat(fetcher.getBufferedCount(), is(5));
+
+        fetcher.next();
+        Thread.sleep(200);
+        assertThat(fetcher.getFetchedCount(), is(6L));
+    }
+
+    @Test
+    void fetchResumesFromCheckpoint() {
+
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(0, 19).build();
+        for (int i = 0; i < 8; i++) {
+            fetcher.next();
+        }
+        fetcher.close();
+        final long checkpoint = fetcher.getCheckpoint();
+        assertThat(checkpoint, is(8L));
+
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(checkpoint, 19).build();
+        assertThat(heightsOf(fetcher.stream()), is(range(8, 19)));
+    }
+
+    @Test
+    void blockThatCannotBeFetchedIsThrownInItsPlace() {
+
+        dispatcher.unknown.add(7L);
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(0, 19).concurrency(4).batchSize(2).build();
+
+        for (long height = 0; height < 7; height++) {
+            assertThat(fetcher.next().getHeader().getHeight(), is(height));
+        }
+        assertThrows(ValueNotFoundException.class, fetcher::next);
+        assertThat(fetcher.getCheckpoint(), is(7L));
+    }
+
+    @Test
+    void missingBlockIsThrownInItsPlace() {
+
+        dispatcher.missing.add(5L);
+        fetcher = new BlockRangeFetcherBuilder(nodeClient).range(0, 19).concurrency(4).batchSize(2).build();
+
+        for (long height = 0; height < 5; height++) {
+            assertThat(fetcher.next().getHeader().getHeight(), is(height));
+        }
+        final ValueNotFoundException e = assertThrows(ValueNotFoundException.class, fetcher::next);
+        assertThat(e.getMessage(), is("Block at height 5 not found"));
+        assertThat(fetcher.getCheckpoint(), is(5L));
+    }
+
+    private static List<Long> heightsOf(final Stream<Block> blocks) {
+        return blocks.map(block -> block.getHeader().getHeight()).collect(Collectors.toList());
+    }
+
+    private static List<Long> range(final long from, final long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Answers single and batched chain_get_block calls by height after a random delay so that the responses arrive out
+     * of order
+     */
+    private class BlockDispatcher extends Dispatcher {
+
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final Random random = new Random();
+        private final Set<Long> unknown = ConcurrentHashMap.newKeySet();
+        /** The heights answered with a null block rather than an error */
+        private final Set<Long> missing = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final ObjectNode block;
+
+        private BlockDispatcher() throws IOException {
+            try (final InputStream in = getClass().getResourceAsStream("/method-json/chain_get_block.json")) {
+                //noinspection ConstantConditions
+                block = (ObjectNode) mapper.readTree(IOUtils.toString(in, StandardCharsets.UTF_8));
+            }
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(random.nextInt(20));
+                final JsonNode methods = mapper.readTree(request.getBody().readUtf8());
+                final JsonNode body;
+                if (methods.isArray()) {
+                    final ArrayNode responses = mapper.createArrayNode();
+                    methods.forEach(method -> responses.add(respond(method)));
+                    body = responses;
+                } else {
+                    body = respond(methods);
+                }
+                return new MockResponse().setResponseCode(200)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(body.toString());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private ObjectNode respond(final JsonNode method) {
+            final long height = method.get("params").get("block_identifier").get("Height").asLong();
+            final ObjectNode response;
+            if (unknown.contains(height)) {
+                response = mapper.createObjectNode();
+                response.put("jsonrpc", "2.0");
+                response.putObject("error").put("code", -32001).put("message", "block not known");
+            } else {
+                response = block.deepCopy();
+                if (missing.contains(height)) {
+                    ((ObjectNode) response.get("result")).putNull("block");
+                } else {
+                    ((ObjectNode) response.get("result").get("block").get("header")).put("height", height);
+                }
+            }
+            response.set("id", method.get("id"));
+            return response;
+        }
+    }
+}
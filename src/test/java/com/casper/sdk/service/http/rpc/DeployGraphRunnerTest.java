@@ -0,0 +1,209 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployDependencyException;
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+import com.casper.sdk.types.ExecutionResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.copyOf;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.dependentOn;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.hashesOf;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeployGraphRunnerTest {
+
+    private MockWebServer mockBackEnd;
+    private ExecutingDispatcher dispatcher;
+    private Deploy deploy;
+    private DeploySubmitter deploySubmitter;
+    private DeployTracker deployTracker;
+    private DeployGraphRunner runner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new ExecutingDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+        final NodeClient nodeClient = nodeClient(mockBackEnd);
+        deploy = readDeploy();
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).concurrency(4).build();
+        deployTracker = new DeployTrackerBuilder(nodeClient).pollInterval(5, 20, TimeUnit.MILLISECONDS).build();
+        runner = new DeployGraphRunner(deploySubmitter, deployTracker);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deploySubmitter.close();
+        deployTracker.close();
+        mockBackEnd.close();
+    }
+
+    @Test
+    void deploysAreOrderedInLayersOfTheirDependencies() {
+
+        final Deploy a = dependentOn(deploy);
+        final Deploy b = dependentOn(deploy);
+        final Deploy c = dependentOn(deploy, a);
+        final Deploy d = dependentOn(deploy, c, b);
+        // A dependency outside of the deploys is assumed to have been executed
+        final Deploy e = dependentOn(deploy, dependentOn(deploy));
+
+        final List<List<Deploy>> layers = DeployGraphRunner.layers(Arrays.asList(d, c, e, b, a, a));
+
+        assertThat(layers, is(Arrays.asList(
+                Arrays.asList(e, b, a),
+                Collections.singletonList(c),
+                Collections.singletonList(d)
+        )));
+    }
+
+    @Test
+    void cyclicDependenciesAreRejected() {
+
+        final Deploy a = dependentOn(deploy);
+        final Deploy b = dependentOn(deploy, a);
+        final Deploy cyclic = copyOf(a, a.getHash(), a.getHeader().getTimestamp(), a.getHeader().getTtl(), hashesOf(b));
+
+        assertThrows(IllegalArgumentException.class, () -> DeployGraphRunner.layers(Arrays.asList(cyclic, b)));
+    }
+
+    @Test
+    void deploysArePutOnceTheirDependenciesAreExecuted() throws Exception {
+
+        final Deploy a = dependentOn(deploy);
+        final Deploy b = dependentOn(deploy);
+        final Deploy c = dependentOn(deploy, a);
+        final Deploy d = dependentOn(deploy, c, b);
+
+        final Map<Digest, CompletableFuture<ExecutionResult>> results = runner.run(Arrays.asList(d, c, b, a));
+        CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        assertThat(new ArrayList<>(results.keySet()), is(hashesOf(b, a, c, d)));
+        assertThat(results.get(d.getHash()).get().isSuccess(), is(true));
+        assertThat(dispatcher.put.size(), is(4));
+        assertThat(dispatcher.put.indexOf(a.getHash().toString()), is(lessThan(dispatcher.put.indexOf(c.getHash().toString()))));
+        assertThat(dispatcher.put.indexOf(c.getHash().toString()), is(lessThan(dispatcher.put.indexOf(d.getHash().toString()))));
+        assertThat(dispatcher.put.indexOf(b.getHash().toString()), is(lessThan(dispatcher.put.indexOf(d.getHash().toString()))));
+    }
+
+    @Test
+    void deploysDependingOnAFailedDeployAreNotPut() throws Exception {
+
+        final Deploy a = dependentOn(deploy);
+        final Deploy b = dependentOn(deploy);
+        final Deploy c = dependentOn(deploy, a);
+        final Deploy d = dependentOn(deploy, c, b);
+        dispatcher.failing.add(a.getHash().toString());
+
+        final Map<Digest, CompletableFuture<ExecutionResult>> results = runner.run(Arrays.asList(a, b, c, d));
+
+        assertThat(results.get(a.getHash()).get(5, TimeUnit.SECONDS).isSuccess(), is(false));
+        assertThat(results.get(b.getHash()).get(5, TimeUnit.SECONDS).isSuccess(), is(true));
+        final ExecutionException ce = assertThrows(ExecutionException.class, () -> results.get(c.getHash()).get(5, TimeUnit.SECONDS));
+        assertThat(ce.getCause(), is(instanceOf(DeployDependencyException.class)));
+        assertThat(((DeployDependencyException) ce.getCause()).getDependencyHash(), is(a.getHash()));
+        final ExecutionException de = assertThrows(ExecutionException.class, () -> results.get(d.getHash()).get(5, TimeUnit.SECONDS));
+        assertThat(((DeployDependencyException) de.getCause()).getDependencyHash(), is(c.getHash()));
+        // The first layer is put concurrently
+        assertThat(new HashSet<>(dispatcher.put), is(new HashSet<>(hashStringsOf(a, b))));
+        assertThat(dispatcher.put.size(), is(2));
+    }
+
+    private static List<String> hashStringsOf(final Deploy... deploys) {
+        final String[] hashes = new String[deploys.length];
+        for (int i = 0; i < deploys.length; i++) {
+            hashes[i] = deploys[i].getHash().toString();
+        }
+        return Arrays.asList(hashes);
+    }
+
+    /**
+     * Responds as a node that executes each deploy as soon as it is put, the deploys in the failing set fail to execute
+     */
+    private class ExecutingDispatcher extends Dispatcher {
+
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final Dispatcher dummy = new DummyMethodDispatcher();
+        private final List<String> put = new CopyOnWriteArrayList<>();
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+            try {
+                final JsonNode body = mapper.readTree(request.getBody().clone().readUtf8());
+                if (!body.isArray()) {
+                    put.add(body.get("params").get("deploy").get("hash").asText());
+                    return dummy.dispatch(request);
+                }
+                final ArrayNode responses = mapper.createArrayNode();
+                for (final JsonNode method : body) {
+                    responses.add(respond(method.get("id"), method.get("params").get("deploy_hash").asText()));
+                }
+                return new MockResponse().setResponseCode(200)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(responses.toString());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private ObjectNode respond(final JsonNode id, final String deployHash) throws IOException {
+
+            final ObjectNode response;
+            try (final InputStream in = getClass().getResourceAsStream("/method-json/info_get_deploy.json")) {
+                response = (ObjectNode) mapper.readTree(in);
+            }
+            final ObjectNode deploy = (ObjectNode) response.get("result").get("deploy");
+            deploy.put("hash", deployHash);
+            ((ObjectNode) deploy.get("header")).put("timestamp", Instant.now().toString());
+            if (put.contains(deployHash)) {
+                final ObjectNode executionResult = ((ArrayNode) response.get("result").get("execution_results")).addObject();
+                executionResult.put("block_hash", ByteUtils.encodeHexString(new byte[32]));
+                if (failing.contains(deployHash)) {
+                    executionResult.putObject("result").putObject("Failure")
+                            .put("cost", "100000000")
+                            .put("error_message", "User error: 1");
+                } else {
+                    executionResult.putObject("result").putObject("Success").put("cost", "100000000");
+                }
+            }
+            response.set("id", id);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployExpiredException;
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.Digest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.copyOf;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.dependentOn;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.randomHash;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeploySubmitterTest {
+
+    private static final Digest DEPLOY_HASH = new Digest("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187");
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private MockWebServer mockBackEnd;
+    private NodeClient nodeClient;
+    private Deploy deploy;
+    private DeploySubmitter deploySubmitter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+        mockBackEnd.start();
+        nodeClient = nodeClient(mockBackEnd);
+        final Deploy expired = readDeploy();
+        // The deploy from the file expired long ago so is given a current timestamp
+        deploy = copyOf(expired, expired.getHash(), System.currentTimeMillis(), expired.getHeader().getTtl(), Collections.emptyList());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (deploySubmitter != null) {
+            deploySubmitter.close();
+        }
+        mockBackEnd.close();
+    }
+
+    @Test
+    void deploysArePutConcurrently() throws Exception {
+
+        mockBackEnd.setDispatcher(delayed(new DummyMethodDispatcher(), 50));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).concurrency(4).build();
+
+        final long start = System.nanoTime();
+        final List<CompletableFuture<Digest>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(deploySubmitter.submit(copyOf(deploy)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        assertThat(futures.get(0).get(), is(DEPLOY_HASH));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(20 * 50L)));
+        assertThat(deploySubmitter.getSubmittedCount(), is(20L));
+        assertThat(mockBackEnd.getRequestCount(), is(20));
+    }
+
+    @Test
+    void producersAreHeldBackWhenQueueIsFull() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).queueCapacity(2).concurrency(1).build();
+
+        final CompletableFuture<Digest> first = deploySubmitter.submit(copyOf(deploy));
+        // The first deploy is taken from the queue by the submitter
+        received.poll(5, TimeUnit.SECONDS);
+        deploySubmitter.submit(copyOf(deploy));
+        deploySubmitter.submit(copyOf(deploy));
+
+        assertThat(deploySubmitter.getQueueDepth(), is(2));
+        assertThat(deploySubmitter.submit(copyOf(deploy), 50, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        assertThat(deploySubmitter.submit(copyOf(deploy), 5, TimeUnit.SECONDS), is(notNullValue()));
+    }
+
+    @Test
+    void duplicateDeployIsPutOnce() throws Exception {
+
+        mockBackEnd.setDispatcher(delayed(new DummyMethodDispatcher(), 100));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).build();
+
+        final CompletableFuture<Digest> first = deploySubmitter.submit(deploy);
+        final CompletableFuture<Digest> second = deploySubmitter.submit(deploy);
+
+        assertThat(second, is(first));
+        assertThat(first.get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        assertThat(mockBackEnd.getRequestCount(), is(1));
+        assertThat(deploySubmitter.getDuplicateCount(), is(1L));
+    }
+
+    @Test
+    void duplicateDeployOfferedWhileQueueIsFullIsQueuedOnce() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).queueCapacity(1).concurrency(1).build();
+
+        deploySubmitter.submit(copyOf(deploy));
+        received.poll(5, TimeUnit.SECONDS);
+        deploySubmitter.submit(copyOf(deploy));
+
+        // Both producers wait for space with the same deploy
+        final Deploy duplicate = copyOf(deploy);
+        final ExecutorService producers = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<CompletableFuture<Digest>> first = CompletableFuture.supplyAsync(() -> submit(duplicate), producers);
+            final CompletableFuture<CompletableFuture<Digest>> second = CompletableFuture.supplyAsync(() -> submit(duplicate), producers);
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), is(second.get(5, TimeUnit.SECONDS)));
+            assertThat(first.get().get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        } finally {
+            producers.shutdown();
+        }
+        assertThat(deploySubmitter.getDuplicateCount(), is(1L));
+        assertThat(deploySubmitter.getSubmittedCount(), is(3L));
+    }
+
+    @Test
+    void producerWaitingForSpaceIsRejectedOnClose() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).queueCapacity(1).concurrency(1).build();
+
+        final CompletableFuture<Digest> taken = deploySubmitter.submit(copyOf(deploy));
+        received.poll(5, TimeUnit.SECONDS);
+        final CompletableFuture<Digest> queued = deploySubmitter.submit(copyOf(deploy));
+        final CompletableFuture<CompletableFuture<Digest>> waiting = CompletableFuture.supplyAsync(() -> submit(copyOf(deploy)));
+        Thread.sleep(50);
+
+        final CompletableFuture<Void> closing = CompletableFuture.runAsync(deploySubmitter::close);
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        assertThrows(IllegalStateException.class, () -> deploySubmitter.submit(copyOf(deploy)));
+
+        // The deploys queued before the submitter was closed are still put
+        release.countDown();
+        closing.get(5, TimeUnit.SECONDS);
+        assertThat(taken.get(), is(DEPLOY_HASH));
+        assertThat(queued.get(), is(DEPLOY_HASH));
+    }
+
+    @Test
+    void onlyDeploysNotSentAreRetried() throws Exception {
+
+        // Nothing listens on the node's port until after the first attempts have been refused
+        final int port = mockBackEnd.getPort();
+        mockBackEnd.shutdown();
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).retries(5, 50, TimeUnit.MILLISECONDS).build();
+        final CompletableFuture<Digest> refused = deploySubmitter.submit(deploy);
+        Thread.sleep(100);
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+        mockBackEnd.start(port);
+
+        assertThat(refused.get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        final long retries = deploySubmitter.getRetryCount();
+        assertThat(retries, is(greaterThan(0L)));
+
+        // A server error may come from a node that received the deploy so is not retried
+        mockBackEnd.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return new MockResponse().setResponseCode(503);
+            }
+        });
+        final CompletableFuture<Digest> failed = deploySubmitter.submit(copyOf(deploy));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(HttpException.class)));
+        assertThat(mockBackEnd.getRequestCount(), is(2));
+
+        // A deploy rejected by the node is not retried
+        mockBackEnd.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return new MockResponse().setResponseCode(200)
+                        .setBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32008,\"message\":\"invalid deploy\"}}");
+            }
+        });
+        final CompletableFuture<Digest> rejected = deploySubmitter.submit(copyOf(deploy));
+
+        e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(ValueNotFoundException.class)));
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+        assertThat(deploySubmitter.getRetryCount(), is(retries));
+        assertThat(deploySubmitter.getFailedCount(), is(2L));
+    }
+
+    @Test
+    void queuedDeploysArePutInBatches() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).concurrency(1).batchSize(10).build();
+
+        final List<CompletableFuture<Digest>> futures = new ArrayList<>();
+        futures.add(deploySubmitter.submit(copyOf(deploy)));
+        received.poll(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 20; i++) {
+            futures.add(deploySubmitter.submit(copyOf(deploy)));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        // The first deploy alone then the 20 queued while it was put in two batches
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+        assertThat(futures.get(20).get(), is(DEPLOY_HASH));
+        assertThat(deploySubmitter.getSubmittedCount(), is(21L));
+    }
+
+    @Test
+    void deploysClosestToExpiryArePutFirst() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).concurrency(1).build();
+
+        deploySubmitter.submit(copyOf(deploy));
+        received.poll(5, TimeUnit.SECONDS);
+        final long now = System.currentTimeMillis();
+        final Deploy thirtyMinutes = copyOf(deploy, randomHash(), now, TimeUnit.MINUTES.toMillis(30), Collections.emptyList());
+        final Deploy fiveMinutes = copyOf(deploy, randomHash(), now, TimeUnit.MINUTES.toMillis(5), Collections.emptyList());
+        final Deploy tenMinutes = copyOf(deploy, randomHash(), now, TimeUnit.MINUTES.toMillis(10), Collections.emptyList());
+        deploySubmitter.submit(thirtyMinutes);
+        deploySubmitter.submit(fiveMinutes);
+        deploySubmitter.submit(tenMinutes);
+        release.countDown();
+
+        assertThat(isPutOf(received.poll(5, TimeUnit.SECONDS), fiveMinutes), is(true));
+        assertThat(isPutOf(received.poll(5, TimeUnit.SECONDS), tenMinutes), is(true));
+        assertThat(isPutOf(received.poll(5, TimeUnit.SECONDS), thirtyMinutes), is(true));
+    }
+
+    @Test
+    void expiredDeployIsDroppedAndReported() {
+
+        final List<Deploy> dropped = new CopyOnWriteArrayList<>();
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient)
+                .expiryMargin(1, TimeUnit.MINUTES)
+                .expiryListener(dropped::add)
+                .build();
+
+        // Expires within the margin
+        final long ttl = TimeUnit.MINUTES.toMillis(30);
+        final Deploy expiring = copyOf(deploy, randomHash(), System.currentTimeMillis() - ttl + 30_000, ttl, Collections.emptyList());
+
+        final ExecutionException e = assertThrows(
+                ExecutionException.class,
+                () -> deploySubmitter.submit(expiring).get(5, TimeUnit.SECONDS)
+        );
+        assertThat(e.getCause(), is(instanceOf(DeployExpiredException.class)));
+        assertThat(((DeployExpiredException) e.getCause()).getDeployHash(), is(expiring.getHash()));
+        assertThat(dropped, is(Collections.singletonList(expiring)));
+        assertThat(deploySubmitter.getExpiredCount(), is(1L));
+        assertThat(mockBackEnd.getRequestCount(), is(0));
+    }
+
+    @Test
+    void dependentDeployIsPutOnceItsDependencyIsAccepted() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new DummyMethodDispatcher(), release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).concurrency(4).build();
+
+        final Deploy dependency = copyOf(deploy);
+        final Deploy dependent = dependentOn(deploy, dependency);
+        final CompletableFuture<Digest> dependencyFuture = deploySubmitter.submit(dependency);
+        final CompletableFuture<Digest> dependentFuture = deploySubmitter.submit(dependent);
+
+        assertThat(isPutOf(received.poll(5, TimeUnit.SECONDS), dependency), is(true));
+        // Held back although there are idle submitter threads
+        assertThat(received.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+        assertThat(deploySubmitter.getQueueDepth(), is(1));
+
+        release.countDown();
+        assertThat(dependencyFuture.get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        assertThat(dependentFuture.get(5, TimeUnit.SECONDS), is(DEPLOY_HASH));
+        assertThat(isPutOf(received.poll(5, TimeUnit.SECONDS), dependent), is(true));
+    }
+
+    @Test
+    void dependentDeployFailsWithItsDependency() throws Exception {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        mockBackEnd.setDispatcher(blocked(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return new MockResponse().setResponseCode(200)
+                        .setBody("{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32008,\"message\":\"invalid deploy\"}}");
+            }
+        }, release));
+        deploySubmitter = new DeploySubmitterBuilder(nodeClient).build();
+
+        final Deploy dependency = copyOf(deploy);
+        final CompletableFuture<Digest> dependencyFuture = deploySubmitter.submit(dependency);
+        received.poll(5, TimeUnit.SECONDS);
+        final CompletableFuture<Digest> dependentFuture = deploySubmitter.submit(dependentOn(deploy, dependency));
+        release.countDown();
+
+        assertThrows(ExecutionException.class, () -> dependencyFuture.get(5, TimeUnit.SECONDS));
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> dependentFuture.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(ValueNotFoundException.class)));
+        assertThat(mockBackEnd.getRequestCount(), is(1));
+        assertThat(deploySubmitter.getFailedCount(), is(2L));
+        assertThat(deploySubmitter.getQueueDepth(), is(0));
+    }
+
+    private CompletableFuture<Digest> submit(final Deploy deploy) {
+        try {
+            return deploySubmitter.submit(deploy);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isPutOf(final String body, final Deploy deploy) {
+        return body != null && body.contains(deploy.getHash().toString());
+    }
+
+    /**
+     * Holds back the responses until released, the body of each request is added to the received queue on arrival as
+     * the mock server only records a request once it has been dispatched
+     */
+    private Dispatcher blocked(final Dispatcher dispatcher, final CountDownLatch release) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                received.add(request.getBody().clone().readUtf8());
+                release.await(5, TimeUnit.SECONDS);
+                return dispatcher.dispatch(request);
+            }
+        };
+    }
+
+    private static Dispatcher delayed(final Dispatcher dispatcher, final long delayMillis) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                return dispatcher.dispatch(request).setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,289 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.DeployExpiredException;
+import com.casper.sdk.service.http.event.DummyEventDispatcher;
+import com.casper.sdk.service.http.event.EventStreamBuilder;
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.types.DeployInfo;
+import com.casper.sdk.types.Digest;
+import com.casper.sdk.types.ExecutionResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.HASH_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.randomHash;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeployTrackerTest {
+
+    private MockWebServer mockBackEnd;
+    private DeployDispatcher dispatcher;
+    private NodeClient nodeClient;
+    private DeployTracker deployTracker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new DeployDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+        nodeClient = nodeClient(mockBackEnd);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (deployTracker != null) {
+            deployTracker.close();
+        }
+        mockBackEnd.close();
+    }
+
+    @Test
+    void executedDeploysArePolledInBatches() throws Exception {
+
+        deployTracker = builder().pollInterval(100, 200, TimeUnit.MILLISECONDS).batchSize(100).build();
+
+        final List<CompletableFuture<ExecutionResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            final Digest deployHash = randomHash();
+            dispatcher.executed.add(deployHash.toString());
+            futures.add(deployTracker.track(deployHash));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        assertThat(futures.get(0).get().isSuccess(), is(true));
+        assertThat(futures.get(0).get().getCost(), is(new BigInteger("100000000")));
+        // Deploys tracked either side of a tick of the poller are polled in separate batches
+        assertThat(deployTracker.getPollCount(), is(both(greaterThanOrEqualTo(3L)).and(lessThanOrEqualTo(6L))));
+        assertThat(mockBackEnd.getRequestCount(), is((int) deployTracker.getPollCount()));
+        assertThat(deployTracker.getCompletedCount(), is(250L));
+        assertThat(deployTracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    void pendingDeployIsPolledUntilExecuted() throws Exception {
+
+        deployTracker = builder().build();
+        final Digest deployHash = randomHash();
+        dispatcher.known.add(deployHash.toString());
+
+        final CompletableFuture<ExecutionResult> future = deployTracker.track(deployHash);
+        assertThat(deployTracker.track(deployHash), is(future));
+
+        Thread.sleep(100);
+        assertThat(future.isDone(), is(false));
+        final long polls = deployTracker.getPollCount();
+        assertThat(polls, is(greaterThan(1L)));
+
+        dispatcher.executed.add(deployHash.toString());
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess(), is(true));
+        // The interval doubles so far fewer than the 20 polls the minimum interval allows are made
+        assertThat(polls, is(lessThan(10L)));
+    }
+
+    @Test
+    void expiredDeployIsDropped() {
+
+        deployTracker = builder().build();
+        final Digest unknown = randomHash();
+        final Digest knownExpired = randomHash();
+        dispatcher.known.add(knownExpired.toString());
+        dispatcher.timestamp = "2021-10-26T19:11:45.203Z";
+
+        final CompletableFuture<ExecutionResult> unknownFuture = deployTracker.track(unknown, System.currentTimeMillis() - 1);
+        // Assumed to expire in 30 minutes until the header is read from the node
+        final CompletableFuture<ExecutionResult> knownFuture = deployTracker.track(knownExpired);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> unknownFuture.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(DeployExpiredException.class)));
+        assertThat(((DeployExpiredException) e.getCause()).getDeployHash(), is(unknown));
+        assertThrows(ExecutionException.class, () -> knownFuture.get(5, TimeUnit.SECONDS));
+
+        assertThat(deployTracker.getExpiredCount(), is(2L));
+        assertThat(deployTracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    void expiredDeployIsDroppedWhileNodeIsDown() throws Exception {
+
+        deployTracker = builder().build();
+        mockBackEnd.shutdown();
+
+        final CompletableFuture<ExecutionResult> future = deployTracker.track(randomHash(), System.currentTimeMillis() + 20);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(DeployExpiredException.class)));
+        assertThat(deployTracker.getExpiredCount(), is(1L));
+        assertThat(deployTracker.getPendingCount(), is(0));
+
+        // Not polled again once expired
+        final long polls = deployTracker.getPollCount();
+        Thread.sleep(100);
+        assertThat(deployTracker.getPollCount(), is(polls));
+        assertThat(polls, is(lessThan(10L)));
+    }
+
+    @Test
+    void unexpectedFailureFailsTheBatchAndIsReported() throws Exception {
+
+        // The results are missing rather than failed so polling the batch fails unexpectedly
+        final NodeClient brokenClient = new NodeClient(DEPLOY_SERVICE, HASH_SERVICE, new HttpMethods(JSON_SERVICE, URL, mockBackEnd.getPort())) {
+            @Override
+            public List<RpcResult<DeployInfo>> getDeployInfos(final List<Digest> deployHashes) {
+                return Collections.emptyList();
+            }
+        };
+        final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        deployTracker = new DeployTrackerBuilder(brokenClient)
+                .pollInterval(5, 50, TimeUnit.MILLISECONDS)
+                .errorListener(errors::add)
+                .build();
+
+        final CompletableFuture<ExecutionResult> future = deployTracker.track(randomHash());
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), is(instanceOf(IndexOutOfBoundsException.class)));
+        assertThat(errors.poll(5, TimeUnit.SECONDS), is(e.getCause()));
+        assertThat(deployTracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    void cancelledDeployIsNoLongerPolled() throws InterruptedException {
+
+        deployTracker = builder().build();
+        final CompletableFuture<ExecutionResult> future = deployTracker.track(randomHash());
+        future.cancel(false);
+
+        Thread.sleep(50);
+        assertThat(deployTracker.getPendingCount(), is(0));
+        assertThat(deployTracker.getPollCount(), is(0L));
+    }
+
+    @Test
+    void deployIsCompletedByEvent() throws Exception {
+
+        try (final MockWebServer eventBackEnd = new MockWebServer()) {
+            final DummyEventDispatcher eventDispatcher = new DummyEventDispatcher();
+            eventBackEnd.setDispatcher(eventDispatcher);
+            eventBackEnd.start();
+
+            deployTracker = new DeployTrackerBuilder(nodeClient)
+                    .pollInterval(1, 1, TimeUnit.MINUTES)
+                    .eventStream(new EventStreamBuilder()
+                            .endpoint(URL, eventBackEnd.getPort())
+                            .reconnectDelay(10, 50, TimeUnit.MILLISECONDS))
+                    .build();
+
+            final CompletableFuture<ExecutionResult> future = deployTracker.track(
+                    new Digest("5db09c0275c4c1ba54ebcc69784ed767350bf9c2b0be7ab4fec1ca84acd1c47d")
+            );
+            // Sent to the stream once it reconnects
+            eventDispatcher.addEvent("main", loadJson("/event-json/deploy_processed.json"));
+
+            assertThat(future.get(5, TimeUnit.SECONDS).getCost(), is(new BigInteger("100000000")));
+            assertThat(deployTracker.getPollCount(), is(0L));
+        }
+    }
+
+    private DeployTrackerBuilder builder() {
+        return new DeployTrackerBuilder(nodeClient)
+                .pollInterval(5, 50, TimeUnit.MILLISECONDS)
+                .expiryGrace(0, TimeUnit.MILLISECONDS);
+    }
+
+    private String loadJson(final String path) {
+        try (final InputStream in = getClass().getResourceAsStream(path)) {
+            //noinspection ConstantConditions
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Responds to batches of info_get_deploy as a node would for the deploys it knows of and has executed
+     */
+    private class DeployDispatcher extends Dispatcher {
+
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final Set<String> known = ConcurrentHashMap.newKeySet();
+        private final Set<String> executed = ConcurrentHashMap.newKeySet();
+        private volatile String timestamp = Instant.now().toString();
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            try {
+                final ArrayNode responses = mapper.createArrayNode();
+                for (final JsonNode method : mapper.readTree(request.getBody().readUtf8())) {
+                    responses.add(respond(method.get("id"), method.get("params").get("deploy_hash").asText()));
+                }
+                return new MockResponse().setResponseCode(200)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(responses.toString());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private ObjectNode respond(final JsonNode id, final String deployHash) throws IOException {
+
+            final ObjectNode response;
+            if (known.contains(deployHash) || executed.contains(deployHash)) {
+                response = (ObjectNode) mapper.readTree(loadJson("/method-json/info_get_deploy.json"));
+                final ObjectNode deploy = (ObjectNode) response.get("result").get("deploy");
+                deploy.put("hash", deployHash);
+                ((ObjectNode) deploy.get("header")).put("timestamp", timestamp);
+                if (executed.contains(deployHash)) {
+                    final ObjectNode executionResult = ((ArrayNode) response.get("result").get("execution_results")).addObject();
+                    executionResult.put("block_hash", ByteUtils.encodeHexString(new byte[32]));
+                    executionResult.putObject("result").putObject("Success").put("cost", "100000000");
+                }
+            } else {
+                response = mapper.createObjectNode();
+                response.put("jsonrpc", "2.0");
+                response.putObject("error").put("code", -32000).put("message", "deploy not known");
+            }
+            response.set("id", id);
+            return response;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.casper.sdk.service.http.rpc;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -11,8 +15,10 @@ import java.nio.file.Paths;
 
 public final class DummyMethodDispatcher extends Dispatcher {
 
+    /** The deploy hash for which a batched info_get_deploy responds with an error */
+    public static final String UNKNOWN_DEPLOY_HASH = "0000000000000000000000000000000000000000000000000000000000000000";
     private final ClassLoader classLoader = getClass().getClassLoader();
-    private String responseBodyFile;
+    private final ObjectMapper mapper = new ObjectMapper();
 
     public DummyMethodDispatcher() {
     }
@@ -20,39 +26,82 @@ public final class DummyMethodDispatcher extends Dispatcher {
     @Override
     public MockResponse dispatch(final RecordedRequest request) {
 
-        final String body = request.getBody().toString();
+        final String body = request.getBody().clone().readUtf8();
+
+        if (body.startsWith("[")) {
+            return dispatchBatch(body);
+        }
+
+        final String responseBodyFile;
+        if (request.getRequestUrl().toString().contains("metrics")) {
+            responseBodyFile = "method-json/node-metrics.txt";
+        } else {
+            responseBodyFile = getResponseBodyFile(body);
+        }
+
+        return new MockResponse().setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .setBody(loadJson(responseBodyFile));
+    }
+
+    /**
+     * Responds to each method of a JSON-RPC batch with the same response as its single call
+     */
+    private MockResponse dispatchBatch(final String body) {
+
+        try {
+            final ArrayNode responses = mapper.createArrayNode();
+
+            for (final JsonNode method : mapper.readTree(body)) {
+                final ObjectNode response;
+                if (method.toString().contains(UNKNOWN_DEPLOY_HASH)) {
+                    response = mapper.createObjectNode();
+                    response.put("jsonrpc", "2.0");
+                    response.putObject("error").put("code", -32000).put("message", "deploy not known");
+                } else {
+                    response = (ObjectNode) mapper.readTree(loadJson(getResponseBodyFile(method.toString())));
+                }
+                response.set("id", method.get("id"));
+                responses.add(response);
+            }
+
+            return new MockResponse().setResponseCode(200)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(responses.toString());
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to create batch response", e);
+        }
+    }
+
+    private String getResponseBodyFile(final String body) {
 
         if (body.contains("chain_get_state_root")) {
-            responseBodyFile = "method-json/chain_get_state_root_hash-ok.json";
+            return "method-json/chain_get_state_root_hash-ok.json";
         } else if (body.contains("state_get_item")) {
-            responseBodyFile = "method-json/state_get_item.json";
+            return "method-json/state_get_item.json";
         } else if (body.contains("state_get_balance")) {
-            responseBodyFile = "method-json/state_get_balance.json";
+            return "method-json/state_get_balance.json";
         } else if (body.contains("state_get_auction_info")) {
-            responseBodyFile = "method-json/state_get_auction_info.json";
+            return "method-json/state_get_auction_info.json";
         } else if (body.contains("info_get_peers")) {
-            responseBodyFile = "method-json/info_get_peers.json";
+            return "method-json/info_get_peers.json";
         } else if (body.contains("info_get_status")) {
-            responseBodyFile = "method-json/info_get_status.json";
+            return "method-json/info_get_status.json";
         } else if (body.contains("account_put_deploy")) {
-            responseBodyFile = "method-json/account_put_deploy.json";
+            return "method-json/account_put_deploy.json";
         } else if (body.contains("info_get_deploy")) {
-            responseBodyFile = "method-json/info_get_deploy.json";
+            return "method-json/info_get_deploy.json";
         } else if (body.contains("chain_get_block_transfers")) {
-            responseBodyFile = "method-json/chain_get_block_transfers.json";
+            return "method-json/chain_get_block_transfers.json";
         } else if (body.contains("chain_get_block")) {
-            responseBodyFile = "method-json/chain_get_block.json";
+            return "method-json/chain_get_block.json";
         } else if (body.contains("rpc.discover")) {
-            responseBodyFile = "method-json/rpc_discover.json";
+            return "method-json/rpc_discover.json";
         } else if (body.contains("chain_get_era_info_by_switch_b")) {
-            responseBodyFile = "method-json/chain_get_era_info_by_switch_block.json";
-        } else if (request.getRequestUrl().toString().contains("metrics")) {
-            responseBodyFile = "method-json/node-metrics.txt";
+            return "method-json/chain_get_era_info_by_switch_block.json";
         }
-
-        return new MockResponse().setResponseCode(200)
-                .addHeader("Content-Type", "application/json")
-                .setBody(loadJson(responseBodyFile));
+        return null;
     }
 
     private String loadJson(final String fileName) {
@@ -0,0 +1,151 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.json.JsonConversionService;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+class GzipCompressionTest {
+
+    private static final String URL = "http://localhost";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private final JsonConversionService jsonService = new JsonConversionService();
+    private final BlockingQueue<String> requestBodies = new LinkedBlockingQueue<>();
+    private MockWebServer mockBackEnd;
+    private volatile String responseJson;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.setDispatcher(new GzipDispatcher());
+        mockBackEnd.start();
+
+        final StringBuilder json = new StringBuilder("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"peers\":[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i > 0 ? "," : "").append("{\"node_id\":\"tls:").append(i).append("\",\"address\":\"10.0.0.1:35000\"}");
+        }
+        responseJson = json.append("]}}").toString();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.close();
+    }
+
+    @Test
+    void gzipResponseIsDecodedByTheClient() throws Exception {
+
+        final GzipCompression compression = new GzipCompression(Long.MAX_VALUE);
+        final HttpMethods httpMethods = httpMethods(compression);
+
+        final Optional<String> response = httpMethods.rpcCallMethod(MethodFactory.nodePeers());
+
+        assertThat(response.orElse(null), is(responseJson));
+        final RecordedRequest request = mockBackEnd.takeRequest();
+        // Asked for by OkHttp which decodes the response
+        assertThat(request.getHeader(ACCEPT_ENCODING), is(GzipCompression.GZIP));
+        assertThat(request.getHeader(GzipCompression.CONTENT_ENCODING), is(nullValue()));
+
+        assertThat(compression.getCompressedRequestCount(), is(0L));
+        assertThat(compression.getRequestWireBytes(), is(compression.getRequestBytes()));
+
+        assertThat(compression.getCompressedResponseCount(), is(1L));
+        assertThat(compression.getResponseBytes(), is((long) responseJson.length()));
+        assertThat(compression.getResponseWireBytes(), is(lessThan(compression.getResponseBytes() / 4)));
+    }
+
+    @Test
+    void largeRequestIsCompressed() throws Exception {
+
+        final GzipCompression compression = new GzipCompression(64);
+        final HttpMethods httpMethods = httpMethods(compression);
+        final Method small = MethodFactory.nodeStatus();
+        final Method large = MethodFactory.accountInfo(
+                "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db",
+                "account-hash-a9efd010c7cee2245b5bad77e70d9beb73c8776cbe4698b2d8fdf6c8433d5ba0"
+        );
+
+        httpMethods.rpcCallMethod(small);
+        httpMethods.rpcCallMethod(large);
+
+        assertThat(requestBodies.take(), is(jsonService.writeValueAsString(small)));
+        assertThat(requestBodies.take(), is(jsonService.writeValueAsString(large)));
+        assertThat(mockBackEnd.takeRequest().getHeader(GzipCompression.CONTENT_ENCODING), is(nullValue()));
+        assertThat(mockBackEnd.takeRequest().getHeader(GzipCompression.CONTENT_ENCODING), is(GzipCompression.GZIP));
+
+        assertThat(compression.getCompressedRequestCount(), is(1L));
+        final long requestBytes = jsonService.writeValueAsString(small).length() + jsonService.writeValueAsString(large).length();
+        assertThat(compression.getRequestBytes(), is(requestBytes));
+        assertThat(compression.getRequestWireBytes(), is(lessThan(requestBytes)));
+    }
+
+    @Test
+    void requestAtThresholdIsCompressed() throws Exception {
+
+        final Method method = MethodFactory.nodeStatus();
+        final String json = jsonService.writeValueAsString(method);
+        final GzipCompression compression = new GzipCompression(json.length());
+
+        httpMethods(compression).rpcCallMethod(method);
+
+        assertThat(requestBodies.take(), is(json));
+        assertThat(mockBackEnd.takeRequest().getHeader(GzipCompression.CONTENT_ENCODING), is(GzipCompression.GZIP));
+        assertThat(compression.getCompressedRequestCount(), is(1L));
+        assertThat(compression.getRequestBytes(), is((long) json.length()));
+    }
+
+    private HttpMethods httpMethods(final GzipCompression compression) {
+        final NodeClientConfig config = new NodeClientConfigBuilder().compression(compression).build();
+        assertThat(config.getCompression(), is(compression));
+        return new HttpMethods(jsonService, NodePool.of(URL, mockBackEnd.getPort()), config);
+    }
+
+    /**
+     * Decodes gzip requests and answers with the response JSON compressed when the client accepts gzip
+     */
+    private class GzipDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            try {
+                if (GzipCompression.GZIP.equals(request.getHeader(GzipCompression.CONTENT_ENCODING))) {
+                    requestBodies.add(Okio.buffer(new GzipSource(request.getBody())).readUtf8());
+                } else {
+                    requestBodies.add(request.getBody().readUtf8());
+                }
+
+                final MockResponse response = new MockResponse().setResponseCode(200)
+                        .addHeader("Content-Type", "application/json");
+                if (GzipCompression.GZIP.equals(request.getHeader(ACCEPT_ENCODING))) {
+                    final Buffer compressed = new Buffer();
+                    try (final GzipSink sink = new GzipSink(compressed)) {
+                        final Buffer json = new Buffer().writeUtf8(responseJson);
+                        sink.write(json, json.size());
+                    }
+                    return response.addHeader(GzipCompression.CONTENT_ENCODING, GzipCompression.GZIP).setBody(compressed);
+                }
+                return response.setBody(responseJson);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
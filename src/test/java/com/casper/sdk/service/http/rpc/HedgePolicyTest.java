@@ -0,0 +1,171 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.HttpException;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgePolicyTest {
+
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private NodePool nodePool;
+    private MockWebServer first;
+    private MockWebServer second;
+    private SlowDispatcher firstDispatcher;
+    private SlowDispatcher secondDispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new MockWebServer();
+        firstDispatcher = new SlowDispatcher();
+        first.setDispatcher(firstDispatcher);
+        first.start();
+        second = new MockWebServer();
+        secondDispatcher = new SlowDispatcher();
+        second.setDispatcher(secondDispatcher);
+        second.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void slowReadIsAnsweredByHedge() {
+
+        final HedgePolicy hedgePolicy = new HedgePolicyBuilder()
+                .percentile(0.5)
+                .minDelay(0, TimeUnit.MILLISECONDS)
+                .window(10, 5)
+                .budget(1)
+                .build();
+        final NodeClient nodeClient = createNodeClient(hedgePolicy);
+
+        // Learn the normal latency of the method
+        for (int i = 0; i < 5; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+        assertThat(hedgePolicy.getHedgeCount(), is(0L));
+
+        // Slow down the node that will be chosen for the next call
+        final List<NodeEndpoint> endpoints = nodePool.getEndpoints();
+        final boolean firstPreferred = endpoints.get(0).getEwmaLatencyMillis() <= endpoints.get(1).getEwmaLatencyMillis();
+        (firstPreferred ? firstDispatcher : secondDispatcher).delayMillis = 2000;
+        final long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+
+        // No call waits for the slow node
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(2000L)));
+        assertThat(hedgePolicy.getHedgeWinCount(), is(greaterThan(0L)));
+    }
+
+    @Test
+    void deploysAreNeverHedged() {
+
+        final HedgePolicy hedgePolicy = new HedgePolicyBuilder()
+                .minDelay(0, TimeUnit.MILLISECONDS)
+                .window(10, 1)
+                .budget(1)
+                .build();
+        final NodeClient nodeClient = createNodeClient(hedgePolicy);
+        nodeClient.getStateRootHash();
+
+        firstDispatcher.delayMillis = 200;
+        secondDispatcher.delayMillis = 200;
+        assertThat(nodeClient.putDeploy(readDeploy()), is("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187"));
+
+        assertThat(first.getRequestCount() + second.getRequestCount(), is(2));
+        assertThat(hedgePolicy.getCallCount(), is(1L));
+        assertThat(hedgePolicy.getHedgeCount(), is(0L));
+    }
+
+    @Test
+    void hedgesAreLimitedByBudget() {
+
+        final HedgePolicy hedgePolicy = new HedgePolicyBuilder()
+                .minDelay(0, TimeUnit.MILLISECONDS)
+                .window(100, 5)
+                .budget(0.2)
+                .build();
+        final NodeClient nodeClient = createNodeClient(hedgePolicy);
+
+        for (int i = 0; i < 5; i++) {
+            nodeClient.getStateRootHash();
+        }
+
+        // Every node is slow so every call is late
+        firstDispatcher.delayMillis = 50;
+        secondDispatcher.delayMillis = 50;
+        for (int i = 0; i < 20; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+
+        assertThat(hedgePolicy.getCallCount(), is(25L));
+        assertThat(hedgePolicy.getHedgeCount(), is(lessThanOrEqualTo(5L)));
+        assertThat(hedgePolicy.getBudgetExhaustedCount(), is(greaterThan(0L)));
+    }
+
+    @Test
+    void hedgedReadFailsOnceEveryNodeHasFailed() {
+
+        final NodeClient nodeClient = createNodeClient(new HedgePolicyBuilder().build());
+        first.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return new MockResponse().setResponseCode(503);
+            }
+        });
+        second.setDispatcher(first.getDispatcher());
+
+        final HttpException e = assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThat(e.getMessage().contains("503"), is(true));
+        assertThat(first.getRequestCount(), is(1));
+        assertThat(second.getRequestCount(), is(1));
+    }
+
+    private NodeClient createNodeClient(final HedgePolicy hedgePolicy) {
+        nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .build();
+        return nodeClient(new HttpMethods(JSON_SERVICE, nodePool, new OkHttpClient(), hedgePolicy));
+    }
+
+    /**
+     * Responds as a node would after an optional delay
+     */
+    private static class SlowDispatcher extends Dispatcher {
+
+        private final DummyMethodDispatcher delegate = new DummyMethodDispatcher();
+        private volatile long delayMillis;
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            return delegate.dispatch(request).setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.json.JsonConversionService;
+import com.casper.sdk.types.ModuleBytes;
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonRequestBodyTest {
+
+    private static final MediaType JSON = MediaType.get(HttpMethods.APPLICATION_JSON);
+    private final JsonConversionService jsonService = new JsonConversionService();
+
+    @Test
+    void bodyIsWrittenAsTheJsonOfThePayload() throws IOException {
+
+        final byte[] moduleBytes = new byte[100_000];
+        new Random().nextBytes(moduleBytes);
+        final Map<String, Object> payload = Collections.singletonMap(
+                "params", new ModuleBytes(moduleBytes, Collections.emptyList())
+        );
+        final String expected = jsonService.writeValueAsString(payload);
+
+        final JsonRequestBody body = new JsonRequestBody(jsonService, payload, JSON);
+        assertThat(body.contentType(), is(JSON));
+        // Sent chunked rather than written to count the length
+        assertThat(body.contentLength(), is(-1L));
+
+        // Written again each time the call is sent
+        for (int i = 0; i < 2; i++) {
+            final Buffer sink = new Buffer();
+            body.writeTo(sink);
+            assertThat(sink.readUtf8(), is(expected));
+        }
+    }
+
+    @Test
+    void batchIsWrittenAsAnArray() throws IOException {
+
+        final JsonRequestBody body = new JsonRequestBody(
+                jsonService, Arrays.asList(MethodFactory.stateRootHash(), MethodFactory.nodePeers()), JSON
+        );
+
+        final Buffer sink = new Buffer();
+        body.writeTo(sink);
+        assertThat(jsonService.readTree(sink.readUtf8()).size(), is(2));
+    }
+
+    @Test
+    void payloadThatCannotBeWrittenFailsWhenWritten() {
+        final JsonRequestBody body = new JsonRequestBody(jsonService, new Object(), JSON);
+        assertThrows(RequestBodyException.class, () -> body.writeTo(new Buffer()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.Constants;
+import com.casper.sdk.service.serialization.util.CollectionUtils;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LruStateQueryCacheTest {
+
+    private static final String ACCOUNT_KEY = "01048c1858b7a6ff56a20d7574fd31025ead4af9cb8a854f919d24f886a4ebb741";
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+
+    @Test
+    void hitsAndMissesAreCounted() {
+
+        final LruStateQueryCache cache = new LruStateQueryCache(10_000);
+        final Method method = MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-01-007");
+
+        assertThat(cache.get(method), is(nullValue()));
+        cache.put(method, "{\"result\":{}}");
+        assertThat(cache.get(method), is("{\"result\":{}}"));
+
+        // The method id is not part of the key
+        assertThat(cache.get(method.withId(7)), is("{\"result\":{}}"));
+
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getEvictionCount(), is(0L));
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvictedWhenBudgetExceeded() {
+
+        final Method first = MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-01-007");
+        final Method second = MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-02-007");
+        final Method third = MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-03-007");
+        final String response = String.join("", Collections.nCopies(100, "x"));
+
+        final LruStateQueryCache probe = new LruStateQueryCache(Long.MAX_VALUE);
+        probe.put(first, response);
+        final LruStateQueryCache cache = new LruStateQueryCache(probe.getSizeInBytes() * 2);
+
+        cache.put(first, response);
+        cache.put(second, response);
+        cache.get(first);
+        cache.put(third, response);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+        assertThat(cache.get(second), is(nullValue()));
+        assertThat(cache.get(first), is(response));
+        assertThat(cache.get(third), is(response));
+        assertThat(cache.getSizeInBytes() <= cache.getMaxBytes(), is(true));
+    }
+
+    @Test
+    void responseLargerThanBudgetIsNotCached() {
+
+        final LruStateQueryCache cache = new LruStateQueryCache(64);
+        final Method method = MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-01-007");
+        cache.put(method, "{\"result\":{}}");
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getSizeInBytes(), is(0L));
+    }
+
+    @Test
+    void invalidBudgetIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LruStateQueryCache(0));
+    }
+
+    @Test
+    void onlyPinnedStateQueriesAreCacheable() {
+
+        assertThat(StateQueryCache.isCacheable(MethodFactory.accountInfo(STATE_ROOT_HASH, "00")), is(true));
+        assertThat(StateQueryCache.isCacheable(MethodFactory.accountBalance(STATE_ROOT_HASH, "uref-01-007")), is(true));
+        assertThat(StateQueryCache.isCacheable(MethodFactory.stateRootHash()), is(false));
+        assertThat(StateQueryCache.isCacheable(MethodFactory.latestBlockInfo()), is(false));
+        assertThat(StateQueryCache.isCacheable(new Method(Constants.STATE_GET_ITEM, CollectionUtils.Map.of(Constants.KEY, "00"))), is(false));
+    }
+
+    @Test
+    void nodeClientServesRepeatedQueriesFromCache() throws IOException {
+
+        try (final MockWebServer mockBackEnd = new MockWebServer()) {
+            mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+            mockBackEnd.start();
+
+            final LruStateQueryCache cache = new LruStateQueryCache(1_000_000);
+            final NodeClient nodeClient = nodeClient(mockBackEnd, cache);
+
+            final StateSnapshot snapshot = nodeClient.getStateSnapshot(STATE_ROOT_HASH);
+            final BigInteger balance = snapshot.getAccountBalance(ACCOUNT_KEY);
+            assertThat(snapshot.getAccountBalance(ACCOUNT_KEY), is(balance));
+            assertThat(snapshot.getAccountBalances(CollectionUtils.List.of(ACCOUNT_KEY)).get(0).getValue(), is(balance));
+
+            // Only the first balance query reaches the node
+            assertThat(mockBackEnd.getRequestCount(), is(2));
+            assertThat(cache.getMissCount(), is(2L));
+            assertThat(cache.getHitCount(), is(4L));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.ValueNotFoundException;
+import com.casper.sdk.types.Deploy;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodEnumsTest {
+
+    @Test
+    void deployIsReadFromTheStreamWithoutReparsing() throws IOException {
+
+        final String json = loadJson("info_get_deploy.json");
+        final Deploy expected = DEPLOY_SERVICE.fromJson(MethodEnums.INFO_GET_DEPLOY.getValue(json));
+
+        try (final InputStream in = getClass().getResourceAsStream("/method-json/info_get_deploy.json");
+             final JsonParser parser = JSON_SERVICE.createParser(in)) {
+
+            final Deploy deploy = MethodEnums.INFO_GET_DEPLOY.reader(DEPLOY_SERVICE::fromJson).read(parser);
+
+            assertThat(deploy.getHash(), is(expected.getHash()));
+            assertThat(deploy.getApprovals().size(), is(expected.getApprovals().size()));
+        }
+    }
+
+    @Test
+    void readerIsPositionedAtNestedValue() {
+
+        final String json = loadJson("state_get_item.json");
+
+        assertThat(MethodEnums.STATE_GET_ITEM.readValue(json, JsonParser::getText), is(MethodEnums.STATE_GET_ITEM.getValue(json)));
+        assertThat(MethodEnums.STATE_ROOT_HASH.readValue(loadJson("chain_get_state_root_hash-ok.json"), JsonParser::getText),
+                is("1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db"));
+        assertThat(MethodEnums.CHAIN_GET_BLOCK.readValue(loadJson("chain_get_block.json"), JsonParser::currentToken),
+                is(JsonToken.START_OBJECT));
+    }
+
+    @Test
+    void errorResponseIsReported() {
+
+        final String json = "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"deploy not known\"}}";
+
+        final ValueNotFoundException e = assertThrows(ValueNotFoundException.class,
+                () -> MethodEnums.INFO_GET_DEPLOY.readValue(json, DEPLOY_SERVICE::fromJson));
+        assertThat(e.getMessage(), containsString("deploy not found"));
+        assertThat(e.getMessage(), containsString("deploy not known"));
+    }
+
+    @Test
+    void missingValueIsReported() {
+
+        final ValueNotFoundException e = assertThrows(ValueNotFoundException.class,
+                () -> MethodEnums.CHAIN_GET_BLOCK.readValue("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{}}", JsonParser::getText));
+        assertThat(e.getMessage(), is("block not found"));
+
+        assertThrows(ValueNotFoundException.class, () -> MethodEnums.CHAIN_GET_BLOCK.readValue("{\"result\":", JsonParser::getText));
+    }
+
+    private String loadJson(final String fileName) {
+        try (final InputStream in = getClass().getResourceAsStream("/method-json/" + fileName)) {
+            //noinspection ConstantConditions
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
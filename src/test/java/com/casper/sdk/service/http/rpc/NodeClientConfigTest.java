@@ -0,0 +1,160 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.CasperSdk;
+import com.casper.sdk.exceptions.HttpException;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NodeClientConfigTest {
+
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private static final String ACCOUNT_KEY = "01048c1858b7a6ff56a20d7574fd31025ead4af9cb8a854f919d24f886a4ebb741";
+    private static final BigInteger BALANCE = new BigInteger("1000000000000000000000000000000000");
+    private MockWebServer mockBackEnd;
+
+    @BeforeEach
+    void setUp() {
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.close();
+    }
+
+    @Test
+    void clientIsConfigured() {
+
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder().build();
+        final NodeClientConfig config = new NodeClientConfigBuilder()
+                .connectionPool(20, 1, TimeUnit.MINUTES)
+                .maxRequests(128, 32)
+                .h2cPriorKnowledge(true)
+                .connectTimeout(2, TimeUnit.SECONDS)
+                .readTimeout(5, TimeUnit.SECONDS)
+                .writeTimeout(6, TimeUnit.SECONDS)
+                .callTimeout(30, TimeUnit.SECONDS)
+                .retryPolicy(retryPolicy)
+                .build();
+
+        final OkHttpClient client = config.getHttpClient();
+        assertThat(client.dispatcher().getMaxRequests(), is(128));
+        assertThat(client.dispatcher().getMaxRequestsPerHost(), is(32));
+        assertThat(client.protocols(), is(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE)));
+        assertThat(client.connectTimeoutMillis(), is(2000));
+        assertThat(client.readTimeoutMillis(), is(5000));
+        assertThat(client.writeTimeoutMillis(), is(6000));
+        assertThat(client.callTimeoutMillis(), is(30000));
+        assertThat(config.getRetryPolicy(), is(retryPolicy));
+        assertThat(new HttpMethods(JSON_SERVICE, NodePool.of(URL, 7777), config).getRetryPolicy(), is(retryPolicy));
+    }
+
+    @Test
+    void sharedClientKeepsItsConnectionPoolUnlessSet() {
+
+        final OkHttpClient shared = new OkHttpClient();
+
+        final OkHttpClient client = new NodeClientConfigBuilder()
+                .httpClient(shared)
+                .readTimeout(1, TimeUnit.SECONDS)
+                .build()
+                .getHttpClient();
+        assertThat(client.connectionPool(), is(sameInstance(shared.connectionPool())));
+        assertThat(client.dispatcher(), is(sameInstance(shared.dispatcher())));
+        assertThat(client.readTimeoutMillis(), is(1000));
+        assertThat(shared.readTimeoutMillis(), is(10000));
+
+        final OkHttpClient pooled = new NodeClientConfigBuilder()
+                .httpClient(shared)
+                .connectionPool(1, 1, TimeUnit.SECONDS)
+                .maxRequests(10, 10)
+                .build()
+                .getHttpClient();
+        assertThat(pooled.connectionPool(), is(not(sameInstance(shared.connectionPool()))));
+        assertThat(pooled.dispatcher(), is(not(sameInstance(shared.dispatcher()))));
+    }
+
+    @Test
+    void nodeIsCalledOverH2c() throws Exception {
+
+        mockBackEnd.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        mockBackEnd.start();
+        final NodeClient nodeClient = createNodeClient(new NodeClientConfigBuilder().h2cPriorKnowledge(true).build());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+        // The calls are multiplexed on one connection
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+        mockBackEnd.takeRequest();
+        mockBackEnd.takeRequest();
+        assertThat(mockBackEnd.takeRequest().getSequenceNumber(), is(2));
+    }
+
+    @Test
+    void slowCallFailsAtCallTimeout() throws IOException {
+
+        final Dispatcher dummy = new DummyMethodDispatcher();
+        mockBackEnd.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                return dummy.dispatch(request).setBodyDelay(2, TimeUnit.SECONDS);
+            }
+        });
+        mockBackEnd.start();
+        final NodeClient nodeClient = createNodeClient(new NodeClientConfigBuilder()
+                .callTimeout(100, TimeUnit.MILLISECONDS)
+                .build());
+
+        final long start = System.nanoTime();
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000, is(true));
+    }
+
+    @Test
+    void sdkServesStateQueriesFromConfiguredCache() throws IOException {
+
+        mockBackEnd.start();
+        final LruStateQueryCache cache = new LruStateQueryCache(1_000_000);
+        final CasperSdk casperSdk = new CasperSdk(
+                NodePool.of(URL, mockBackEnd.getPort()),
+                new NodeClientConfigBuilder().stateQueryCache(cache).build()
+        );
+        assertThat(casperSdk.getStateQueryCache(), is(sameInstance(cache)));
+
+        final StateSnapshot snapshot = casperSdk.getStateSnapshot();
+        assertThat(snapshot.getAccountBalance(ACCOUNT_KEY), is(BALANCE));
+        assertThat(snapshot.getAccountBalance(ACCOUNT_KEY), is(BALANCE));
+
+        // One state root hash, then the item and balance of the first call are served from the cache to the second
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+        assertThat(cache.getMissCount(), is(2L));
+        assertThat(cache.getHitCount(), is(2L));
+    }
+
+    private NodeClient createNodeClient(final NodeClientConfig config) {
+        return nodeClient(new HttpMethods(JSON_SERVICE, NodePool.of(URL, mockBackEnd.getPort()), config));
+    }
+}
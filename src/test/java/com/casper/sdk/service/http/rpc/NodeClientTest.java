@@ -1,49 +1,49 @@
 package com.casper.sdk.service.http.rpc;
 
-import com.casper.sdk.service.hash.HashService;
-import com.casper.sdk.service.json.JsonConversionService;
-import com.casper.sdk.service.serialization.cltypes.TypesFactory;
-import com.casper.sdk.service.serialization.types.ByteSerializerFactory;
+import com.casper.sdk.Constants;
 import com.casper.sdk.service.serialization.util.ByteUtils;
-import com.casper.sdk.service.signing.SigningService;
+import com.casper.sdk.service.serialization.util.CollectionUtils;
 import com.casper.sdk.types.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_JSON_PATH;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
 import static com.jayway.jsonassert.impl.matcher.IsCollectionWithSize.hasSize;
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class NodeClientTest {
 
-    public static final String DEPLOY_JSON_PATH = "/com/casper/sdk/types/deploy-util-test.json";
-    private final static String url = "http://localhost";
     private static MockWebServer mockBackEnd;
 
-    private final HashService hashService = new HashService();
-    private final JsonConversionService jsonService = new JsonConversionService();
-    private final DeployService deployService = new DeployService(
-            new ByteSerializerFactory(),
-            hashService,
-            jsonService,
-            new SigningService(),
-            new TypesFactory()
-    );
     private  NodeClient nodeClient;
 
     @BeforeEach
@@ -52,7 +52,7 @@ public class NodeClientTest {
         mockBackEnd = new MockWebServer();
         mockBackEnd.start();
         mockBackEnd.setDispatcher(new DummyMethodDispatcher());
-        nodeClient = new NodeClient(deployService, hashService, new HttpMethods(jsonService, url, mockBackEnd.getPort()));
+        nodeClient = nodeClient(mockBackEnd);
     }
 
     @AfterEach
@@ -60,6 +60,48 @@ public class NodeClientTest {
         mockBackEnd.close();
     }
 
+    @Test
+    void concurrentIdenticalCallsAreCollapsed() throws Exception {
+
+        mockBackEnd.setDispatcher(new Dispatcher() {
+            final DummyMethodDispatcher delegate = new DummyMethodDispatcher();
+
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return delegate.dispatch(request).setHeadersDelay(300, TimeUnit.MILLISECONDS);
+            }
+        });
+
+        final int callers = 10;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            final CountDownLatch ready = new CountDownLatch(1);
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    return nodeClient.getStateRootHash();
+                }));
+            }
+            ready.countDown();
+
+            for (final Future<String> result : results) {
+                assertThat(result.get(), is("1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(nodeClient.getCallCount(), is((long) callers));
+        assertThat(nodeClient.getCollapsedCallCount() > 0, is(true));
+        assertThat(mockBackEnd.getRequestCount() + nodeClient.getCollapsedCallCount(), is((long) callers));
+
+        // Calls made once the response has been read send a new request
+        final int requestCount = mockBackEnd.getRequestCount();
+        nodeClient.getStateRootHash();
+        assertThat(mockBackEnd.getRequestCount(), is(requestCount + 1));
+    }
+
     @Test
     public void testStateRootOk() {
 
@@ -120,14 +162,12 @@ public class NodeClientTest {
     @Test
     void testPutDeploy() throws Throwable {
 
-        //noinspection ConstantConditions
-        final InputStream in = getClass().getResource(DEPLOY_JSON_PATH).openStream();
-        final Deploy deploy = deployService.fromJson(in);
+        final Deploy deploy = readDeploy();
         assertThat(nodeClient.putDeploy(deploy), is("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187"));
 
         //noinspection ConstantConditions
         String json = IOUtils.toString(getClass().getResource(DEPLOY_JSON_PATH).openStream(), StandardCharsets.UTF_8);
-        final Deploy deploy2 = deployService.fromJson(json);
+        final Deploy deploy2 = DEPLOY_SERVICE.fromJson(json);
         assertThat(nodeClient.putDeploy(deploy2), is("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187"));
     }
 
@@ -158,4 +198,115 @@ public class NodeClientTest {
         assertThat(latestBlockInfo, hasJsonPath("$.header.height", is(314)));
         assertThat(latestBlockInfo, hasJsonPath("$.header.era_id", is(28)));
     }
+
+    @Test
+    void getDeploysInBatch() {
+
+        final Digest deployHash = new Digest("3752362444d2b75de05f0a849157d94acaeebdcce155716cd2848773c2a159b0");
+        final List<RpcResult<Deploy>> results = nodeClient.getDeploys(CollectionUtils.List.of(
+                deployHash,
+                new Digest(DummyMethodDispatcher.UNKNOWN_DEPLOY_HASH),
+                deployHash
+        ));
+
+        assertThat(mockBackEnd.getRequestCount(), is(1));
+        assertThat(results, hasSize(3));
+        assertThat(results.get(0).getId(), is(1));
+        assertThat(results.get(0).getValue().getHash(), is(deployHash));
+        assertThat(results.get(1).isSuccess(), is(false));
+        assertThat(results.get(1).getError().getMessage(), containsString("deploy not known"));
+        assertThat(results.get(2).getValue().getHash(), is(deployHash));
+    }
+
+    @Test
+    void getAccountBalancesInBatch() {
+
+        final String accountKey = "01048c1858b7a6ff56a20d7574fd31025ead4af9cb8a854f919d24f886a4ebb741";
+        final List<RpcResult<BigInteger>> balances = nodeClient.getAccountBalances(CollectionUtils.List.of(accountKey, accountKey));
+
+        // One for the state root hash, one batch for the purses and one batch for the balances
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+        assertThat(balances, hasSize(2));
+        assertThat(balances.get(0).getValue(), is(new BigInteger("1000000000000000000000000000000000")));
+        assertThat(balances.get(1).getValue(), is(new BigInteger("1000000000000000000000000000000000")));
+    }
+
+    @Test
+    void getBlockInfosByHeightInBatch() {
+
+        final List<RpcResult<String>> blocks = nodeClient.getBlockInfosByHeight(CollectionUtils.List.of(314, 315));
+
+        assertThat(blocks, hasSize(2));
+        assertThat(blocks.get(1).getValue(), hasJsonPath("$.header.height", is(314)));
+    }
+
+    @Test
+    void batchWithDuplicateIdsIsRejected() {
+
+        final HttpMethods httpMethods = new HttpMethods(JSON_SERVICE, URL, mockBackEnd.getPort());
+        final Method method = new Method(Constants.CHAIN_GET_STATE_ROOT_HASH);
+
+        assertThrows(IllegalArgumentException.class, () -> httpMethods.rpcCallBatch(CollectionUtils.List.of(method, method)));
+    }
+
+    @Test
+    void getBlockBindsHeaderAndDecodesBodyOnUse() {
+
+        final Block block = nodeClient.getBlock();
+
+        assertThat(block.getHash().toString(), is("ce4e6b534c69b2b29f834c6ce73a4b119090de84485149cfc8f2b10b6737166e"));
+        assertThat(block.getHeader().getHeight(), is(314L));
+        assertThat(block.getHeader().getEraId(), is(28L));
+        assertThat(block.getHeader().isSwitchBlock(), is(false));
+        assertThat(block.getHeader().getTimestamp(), is(DeployHeader.toEpocMs("2021-10-27T19:49:31.776Z")));
+        assertThat(block.getBody().getProposer().toAccountHex(), is("01cc4a7ec51650dde171c564bd52ef6f931f43d86f848021203fdbe02c2c635ef1"));
+        assertThat(block.getBody().getDeployHashes(), hasSize(0));
+        assertThat(block.getBody(), is(block.getBody()));
+    }
+
+    @Test
+    void getTransferRecords() {
+
+        final List<TransferRecord> transfers = nodeClient.getTransferRecords();
+
+        assertThat(transfers, hasSize(1));
+        assertThat(transfers.get(0).getDeployHash().toString(), is("5db09c0275c4c1ba54ebcc69784ed767350bf9c2b0be7ab4fec1ca84acd1c47d"));
+        assertThat(transfers.get(0).getAmount(), is(new BigInteger("7000000000")));
+        assertThat(transfers.get(0).getId(), is(nullValue()));
+    }
+
+    @Test
+    void getEraSummary() {
+
+        final EraSummary eraSummary = nodeClient.getEraSummary();
+
+        assertThat(eraSummary.getEraId(), is(4L));
+        assertThat(eraSummary.getSeigniorageAllocations().isEmpty(), is(false));
+        assertThat(eraSummary.getSeigniorageAllocations().get(0).getValidatorPublicKey().toAccountHex(),
+                is("010268bb35bd370a499ba775877aaadef1ba87bff64ca527ae55f88cd8af9791de"));
+        assertThat(eraSummary.getSeigniorageAllocations().get(0).getAmount(), is(new BigInteger("37424980757")));
+    }
+
+    @Test
+    void getNodeStatusInfo() {
+
+        final NodeStatus nodeStatus = nodeClient.getNodeStatusInfo();
+
+        assertThat(nodeStatus.getChainspecName(), is("casper-net-1"));
+        assertThat(nodeStatus.getPeers(), hasSize(4));
+        assertThat(nodeStatus.getPeers().get(0).getAddress(), is("127.0.0.1:34557"));
+        assertThat(nodeStatus.getLastAddedBlockInfo().getHeight(), is(3464L));
+    }
+
+    @Test
+    void getValidatorBids() {
+
+        final List<ValidatorBid> bids = nodeClient.getValidatorBids();
+
+        assertThat(bids.isEmpty(), is(false));
+        assertThat(bids.get(0).getPublicKey().toAccountHex(), is("010cdba059aaa66e1da7b2ba99cd455a0a67edec3745393e74cc7ce29663d7a74d"));
+        assertThat(bids.get(0).getDelegationRate(), is(3));
+        assertThat(bids.get(0).getDelegators(), hasSize(1));
+        assertThat(bids.get(0).getDelegators().get(0).getStakedAmount(), is(new BigInteger("13131330623955312438868216857")));
+    }
 }
@@ -0,0 +1,249 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.types.Deploy;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NodePoolTest {
+
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private MockWebServer first;
+    private MockWebServer second;
+    private FailingDispatcher secondDispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new MockWebServer();
+        first.setDispatcher(new DummyMethodDispatcher());
+        first.start();
+        second = new MockWebServer();
+        secondDispatcher = new FailingDispatcher();
+        second.setDispatcher(secondDispatcher);
+        second.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void readsAreSpreadAcrossNodes() {
+
+        final NodeClient nodeClient = createNodeClient(new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .build());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+
+        assertThat(first.getRequestCount(), is(greaterThan(0)));
+        assertThat(second.getRequestCount(), is(greaterThan(0)));
+    }
+
+    @Test
+    void readsFailOverAndFailingNodeIsEjected() {
+
+        secondDispatcher.failing = true;
+        final NodePool nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .failureThreshold(1)
+                .build();
+        final NodeClient nodeClient = createNodeClient(nodePool);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+
+        final NodeEndpoint failing = nodePool.getEndpoints().get(1);
+        assertThat(failing.isEjected(), is(true));
+        assertThat(nodePool.getEndpoints().get(0).isEjected(), is(false));
+        // Once failed the node scores worse than the healthy node so is not chosen again
+        assertThat(second.getRequestCount(), is(1));
+        assertThat(first.getRequestCount(), is(10));
+    }
+
+    @Test
+    void nodeWithoutLatencyStillCountsItsCallsInFlight() {
+
+        final NodePool nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .build();
+        final NodeEndpoint timed = nodePool.getEndpoints().get(0);
+        final NodeEndpoint added = nodePool.getEndpoints().get(1);
+        nodePool.onStart(timed);
+        nodePool.onSuccess(timed, TimeUnit.MILLISECONDS.toNanos(10));
+        for (int i = 0; i < 5; i++) {
+            nodePool.onStart(added);
+        }
+
+        // The added node is scored at the pool's mean latency so its calls in flight make it the worse choice
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodePool.select(false, Collections.emptySet()), is(timed));
+        }
+    }
+
+    @Test
+    void readmittedNodeIsScoredOnProbeLatency() {
+
+        final NodePool nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .failureThreshold(1)
+                .build();
+        final NodeEndpoint healthy = nodePool.getEndpoints().get(0);
+        final NodeEndpoint readmitted = nodePool.getEndpoints().get(1);
+        nodePool.onStart(healthy);
+        nodePool.onSuccess(healthy, TimeUnit.MILLISECONDS.toNanos(10));
+        nodePool.onStart(readmitted);
+        nodePool.onFailure(readmitted);
+        assertThat(readmitted.isEjected(), is(true));
+
+        nodePool.onProbe(readmitted, true, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(readmitted.isEjected(), is(false));
+        assertThat(readmitted.getEwmaLatencyMillis(), is(5.0));
+        // Twice as fast as the healthy node but with two calls in flight
+        nodePool.onStart(readmitted);
+        nodePool.onStart(readmitted);
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodePool.select(false, Collections.emptySet()), is(healthy));
+        }
+    }
+
+    @Test
+    void ejectedNodeIsReadmittedAfterSuccessfulProbe() throws InterruptedException {
+
+        secondDispatcher.failing = true;
+        final NodePool nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .failureThreshold(1)
+                .ejectionTime(50, 100, TimeUnit.MILLISECONDS)
+                .build();
+        final NodeClient nodeClient = createNodeClient(nodePool);
+        final NodeEndpoint recovering = nodePool.getEndpoints().get(1);
+
+        while (!recovering.isEjected()) {
+            nodeClient.getStateRootHash();
+        }
+
+        secondDispatcher.failing = false;
+        Thread.sleep(100);
+
+        // The next selection sends the probe
+        nodeClient.getStateRootHash();
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (recovering.isEjected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(recovering.isEjected(), is(false));
+
+        boolean probed = false;
+        RecordedRequest request;
+        while ((request = second.takeRequest(0, TimeUnit.MILLISECONDS)) != null) {
+            probed |= request.getBody().readUtf8().contains("info_get_status");
+        }
+        assertThat(probed, is(true));
+    }
+
+    @Test
+    void deploysAreOnlySentToDeployNodes() {
+
+        final NodeClient nodeClient = createNodeClient(new NodePoolBuilder()
+                .endpoint(URL, second.getPort())
+                .deployEndpoint(URL, first.getPort())
+                .build());
+        final Deploy deploy = readDeploy();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(nodeClient.putDeploy(deploy), is("01da3c604f71e0e7df83ff1ab4ef15bb04de64ca02e3d2b78de6950e8b5ee187"));
+        }
+
+        assertThat(first.getRequestCount(), is(5));
+        assertThat(second.getRequestCount(), is(0));
+    }
+
+    @Test
+    void failedDeployIsNotResent() {
+
+        secondDispatcher.failing = true;
+        final NodeClient nodeClient = createNodeClient(new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .deployEndpoint(URL, second.getPort())
+                .build());
+
+        final Deploy deploy = readDeploy();
+        assertThrows(HttpException.class, () -> nodeClient.putDeploy(deploy));
+        assertThat(second.getRequestCount(), is(1));
+        assertThat(first.getRequestCount(), is(0));
+    }
+
+    @Test
+    void payloadThatCannotBeWrittenIsNotBlamedOnTheNodes() {
+
+        final NodePool nodePool = new NodePoolBuilder()
+                .endpoint(URL, first.getPort())
+                .endpoint(URL, second.getPort())
+                .failureThreshold(1)
+                .build();
+        final HttpMethods httpMethods = new HttpMethods(JSON_SERVICE, nodePool, new OkHttpClient());
+        final Method method = new Method("chain_get_state_root_hash", Collections.singletonMap("value", new Object()));
+
+        assertThrows(HttpException.class, () -> httpMethods.rpcCallMethod(method));
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> httpMethods.rpcCallMethodAsync(method).get());
+        assertThat(e.getCause(), is(instanceOf(HttpException.class)));
+
+        for (final NodeEndpoint endpoint : nodePool.getEndpoints()) {
+            assertThat(endpoint.isEjected(), is(false));
+            assertThat(endpoint.getConsecutiveFailures(), is(0));
+            assertThat(endpoint.getInFlight(), is(0));
+        }
+    }
+
+    private NodeClient createNodeClient(final NodePool nodePool) {
+        return nodeClient(new HttpMethods(JSON_SERVICE, nodePool, new OkHttpClient()));
+    }
+
+    /**
+     * Responds as a node would until told to fail with server errors
+     */
+    private static class FailingDispatcher extends Dispatcher {
+
+        private final DummyMethodDispatcher delegate = new DummyMethodDispatcher();
+        private volatile boolean failing;
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            return failing ? new MockResponse().setResponseCode(503) : delegate.dispatch(request);
+        }
+    }
+}
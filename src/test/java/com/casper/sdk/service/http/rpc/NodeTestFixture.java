@@ -0,0 +1,136 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.hash.HashService;
+import com.casper.sdk.service.json.JsonConversionService;
+import com.casper.sdk.service.serialization.cltypes.TypesFactory;
+import com.casper.sdk.service.serialization.types.ByteSerializerFactory;
+import com.casper.sdk.service.signing.SigningService;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.DeployHeader;
+import com.casper.sdk.types.DeployService;
+import com.casper.sdk.types.Digest;
+import okhttp3.mockwebserver.MockWebServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The services, node clients and deploys shared by the tests of the node calls
+ */
+public final class NodeTestFixture {
+
+    public static final String URL = "http://localhost";
+    public static final String DEPLOY_JSON_PATH = "/com/casper/sdk/types/deploy-util-test.json";
+    public static final HashService HASH_SERVICE = new HashService();
+    public static final JsonConversionService JSON_SERVICE = new JsonConversionService();
+    public static final DeployService DEPLOY_SERVICE = new DeployService(
+            new ByteSerializerFactory(),
+            HASH_SERVICE,
+            JSON_SERVICE,
+            new SigningService(),
+            new TypesFactory()
+    );
+    private static final Random RANDOM = new Random();
+
+    private NodeTestFixture() {
+    }
+
+    /**
+     * Creates a node client that calls a mock node
+     *
+     * @param node the mock node
+     * @return the node client
+     */
+    public static NodeClient nodeClient(final MockWebServer node) {
+        return nodeClient(new HttpMethods(JSON_SERVICE, URL, node.getPort()));
+    }
+
+    /**
+     * Creates a node client that calls a mock node and caches its global state query responses
+     *
+     * @param node            the mock node
+     * @param stateQueryCache the cache of global state query responses
+     * @return the node client
+     */
+    public static NodeClient nodeClient(final MockWebServer node, final StateQueryCache stateQueryCache) {
+        return new NodeClient(DEPLOY_SERVICE, HASH_SERVICE, new HttpMethods(JSON_SERVICE, URL, node.getPort()), stateQueryCache);
+    }
+
+    /**
+     * Creates a node client that calls the nodes with the provided HTTP methods
+     *
+     * @param httpMethods the HTTP methods used to call the nodes
+     * @return the node client
+     */
+    public static NodeClient nodeClient(final HttpMethods httpMethods) {
+        return new NodeClient(DEPLOY_SERVICE, HASH_SERVICE, httpMethods);
+    }
+
+    /**
+     * Reads the deploy at {@link #DEPLOY_JSON_PATH}, note that it expired long ago
+     *
+     * @return the deploy
+     */
+    public static Deploy readDeploy() {
+        //noinspection ConstantConditions
+        try (final InputStream in = NodeTestFixture.class.getResource(DEPLOY_JSON_PATH).openStream()) {
+            return DEPLOY_SERVICE.fromJson(in);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a copy of a deploy with a random hash so that it is not a duplicate of the deploy
+     */
+    public static Deploy copyOf(final Deploy deploy) {
+        return new Deploy(randomHash(), deploy.getHeader(), deploy.getPayment(), deploy.getSession(), deploy.getApprovals());
+    }
+
+    public static Deploy copyOf(final Deploy deploy,
+                                final Digest hash,
+                                final long timestamp,
+                                final long ttl,
+                                final List<Digest> dependencies) {
+        final DeployHeader header = deploy.getHeader();
+        return new Deploy(
+                hash,
+                new DeployHeader(
+                        header.getAccount(),
+                        timestamp,
+                        ttl,
+                        header.getGasPrice(),
+                        header.getBodyHash(),
+                        dependencies,
+                        header.getChainName()
+                ),
+                deploy.getPayment(),
+                deploy.getSession(),
+                deploy.getApprovals()
+        );
+    }
+
+    /**
+     * Creates a copy of a deploy with a random hash and a current timestamp that depends on the provided deploys
+     */
+    public static Deploy dependentOn(final Deploy deploy, final Deploy... dependencies) {
+        return copyOf(deploy, randomHash(), System.currentTimeMillis(), deploy.getHeader().getTtl(), hashesOf(dependencies));
+    }
+
+    public static List<Digest> hashesOf(final Deploy... deploys) {
+        final List<Digest> hashes = new ArrayList<>(deploys.length);
+        for (final Deploy deploy : deploys) {
+            hashes.add(deploy.getHash());
+        }
+        return hashes;
+    }
+
+    public static Digest randomHash() {
+        final byte[] hash = new byte[32];
+        RANDOM.nextBytes(hash);
+        return new Digest(hash);
+    }
+}
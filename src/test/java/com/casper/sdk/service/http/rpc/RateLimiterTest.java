@@ -0,0 +1,240 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.Constants;
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.exceptions.RateLimitException;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.DEPLOY_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.HASH_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterTest {
+
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private MockWebServer mockBackEnd;
+    private FailingDispatcher dispatcher;
+    private NodePool nodePool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new FailingDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+        nodePool = NodePool.of(URL, mockBackEnd.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.close();
+    }
+
+    @Test
+    void callsBeyondBurstWaitForTokens() {
+
+        final RateLimiter rateLimiter = new RateLimiterBuilder()
+                .rate(20, 2)
+                .maxWait(1, TimeUnit.SECONDS)
+                .build();
+        final NodeEndpoint endpoint = nodePool.getEndpoints().get(0);
+        final List<String> methodNames = Collections.singletonList(Constants.CHAIN_GET_STATE_ROOT_HASH);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            rateLimiter.acquire(endpoint, methodNames, true).release(false);
+        }
+
+        // Two calls from the burst then four at 50ms intervals
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(greaterThanOrEqualTo(190L)));
+        assertThat(rateLimiter.getDelayedCount(), is(4L));
+        assertThat(rateLimiter.getRejectedCount(), is(0L));
+    }
+
+    @Test
+    void callsAreRejectedOnceWaitIsExceeded() {
+
+        final RateLimiter rateLimiter = new RateLimiterBuilder()
+                .rate(1, 1)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build();
+        final NodeClient nodeClient = createNodeClient(rateLimiter);
+
+        assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        assertThrows(RateLimitException.class, nodeClient::getStateRootHash);
+
+        assertThat(mockBackEnd.getRequestCount(), is(1));
+        assertThat(rateLimiter.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    void methodRateOverridesDefaultRate() {
+
+        final NodeClient nodeClient = createNodeClient(new RateLimiterBuilder()
+                .rate(1, 1)
+                .rate(Constants.CHAIN_GET_STATE_ROOT_HASH, 1000, 10)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        }
+        nodeClient.getNodePeers();
+        // Each method has its own bucket
+        assertThrows(RateLimitException.class, nodeClient::getNodePeers);
+    }
+
+    @Test
+    void concurrencyLimitAdaptsToFailures() {
+
+        final RateLimiter rateLimiter = new RateLimiterBuilder()
+                .adaptiveConcurrency(8, 1, 16)
+                .latencyTolerance(1000)
+                .build();
+        final NodeClient nodeClient = createNodeClient(rateLimiter);
+        final ConcurrencyLimit limit = rateLimiter.getConcurrencyLimit(nodePool.getEndpoints().get(0));
+
+        dispatcher.failing = true;
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        }
+        assertThat(limit.getLimit(), is(1));
+
+        dispatcher.failing = false;
+        for (int i = 0; i < 20; i++) {
+            nodeClient.getStateRootHash();
+        }
+        assertThat(limit.getLimit(), is(greaterThan(1)));
+        assertThat(limit.getLimit(), is(lessThan(8)));
+        assertThat(limit.getInFlight(), is(0));
+    }
+
+    @Test
+    void tokensAreRefundedWhenCallIsNotSent() {
+
+        final RateLimiter rateLimiter = new RateLimiterBuilder()
+                .rate(1, 2)
+                .adaptiveConcurrency(1, 1, 1)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build();
+        final NodeEndpoint endpoint = nodePool.getEndpoints().get(0);
+        final List<String> methodNames = Collections.singletonList(Constants.CHAIN_GET_STATE_ROOT_HASH);
+
+        final RateLimiter.Permit permit = rateLimiter.acquire(endpoint, methodNames, true);
+        assertThrows(RateLimitException.class, () -> rateLimiter.acquire(endpoint, methodNames, true));
+
+        // The second token is still available to a call once the concurrency allows
+        permit.release(false);
+        rateLimiter.acquire(endpoint, methodNames, true).release(false);
+        assertThat(rateLimiter.getRejectedCount(), is(1L));
+
+        // A call interrupted while waiting for its token returns it
+        final RateLimiter waiting = new RateLimiterBuilder()
+                .rate(10, 1)
+                .maxWait(1, TimeUnit.SECONDS)
+                .build();
+        waiting.acquire(endpoint, methodNames, true).release(false);
+        Thread.currentThread().interrupt();
+        assertThrows(RateLimitException.class, () -> waiting.acquire(endpoint, methodNames, true));
+        assertThat(Thread.interrupted(), is(true));
+
+        final long start = System.nanoTime();
+        waiting.acquire(endpoint, methodNames, true).release(false);
+        // Waits for one token at 10 per second rather than the two a lost reservation would need
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(150L)));
+    }
+
+    @Test
+    void fastOutlierStopsHoldingConcurrencyLimitDown() throws InterruptedException {
+
+        final ConcurrencyLimit limit = new ConcurrencyLimit(8, 1, 16, 2);
+        final long latencyNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+        call(limit, latencyNanos / 100);
+        for (int i = 1; i < 2 * ConcurrencyLimit.LATENCY_WINDOW; i++) {
+            call(limit, latencyNanos);
+        }
+        assertThat(limit.getLimit(), is(1));
+
+        // Two windows on the outlier is no longer the lowest latency
+        for (int i = 0; i < 10; i++) {
+            call(limit, latencyNanos);
+        }
+        assertThat(limit.getLimit(), is(greaterThan(1)));
+    }
+
+    @Test
+    void asyncCallIsRejectedWithoutWaiting() throws Exception {
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AsyncNodeClient nodeClient = new AsyncNodeClient(
+                    DEPLOY_SERVICE,
+                    HASH_SERVICE,
+                    createHttpMethods(new RateLimiterBuilder().rate(1, 1).maxWait(1, TimeUnit.SECONDS).build()),
+                    executor
+            );
+
+            assertThat(nodeClient.getStateRootHash().get(5, TimeUnit.SECONDS), is(STATE_ROOT_HASH));
+            final CompletableFuture<String> rejected = nodeClient.getStateRootHash();
+
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertThat(e.getCause(), is(instanceOf(RateLimitException.class)));
+            assertThat(mockBackEnd.getRequestCount(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void call(final ConcurrencyLimit limit, final long latencyNanos) throws InterruptedException {
+        assertThat(limit.acquire(0), is(true));
+        limit.release(latencyNanos, false);
+    }
+
+    private NodeClient createNodeClient(final RateLimiter rateLimiter) {
+        return nodeClient(createHttpMethods(rateLimiter));
+    }
+
+    private HttpMethods createHttpMethods(final RateLimiter rateLimiter) {
+        return new HttpMethods(JSON_SERVICE, nodePool, new OkHttpClient(), null, null, rateLimiter);
+    }
+
+    /**
+     * Responds as a node would until told to throttle every call
+     */
+    private static class FailingDispatcher extends Dispatcher {
+
+        private final DummyMethodDispatcher delegate = new DummyMethodDispatcher();
+        private volatile boolean failing;
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            return failing ? new MockResponse().setResponseCode(429) : delegate.dispatch(request);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.exceptions.HttpException;
+import com.casper.sdk.types.Deploy;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.JSON_SERVICE;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.URL;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.readDeploy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryPolicyTest {
+
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private MockWebServer mockBackEnd;
+    private FailingDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        dispatcher = new FailingDispatcher();
+        mockBackEnd.setDispatcher(dispatcher);
+        mockBackEnd.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.close();
+    }
+
+    @Test
+    void readIsRetriedAfterBackoff() {
+
+        dispatcher.failures.set(2);
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxRetries(3)
+                .backoff(1, 5, TimeUnit.MILLISECONDS)
+                .build();
+
+        assertThat(createNodeClient(retryPolicy, NodePool.of(URL, mockBackEnd.getPort())).getStateRootHash(), is(STATE_ROOT_HASH));
+        assertThat(retryPolicy.getRetryCount(), is(2L));
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+    }
+
+    @Test
+    void asynchronousReadIsRetriedAfterBackoff() throws Exception {
+
+        dispatcher.failures.set(2);
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxRetries(3)
+                .backoff(1, 5, TimeUnit.MILLISECONDS)
+                .build();
+        final HttpMethods httpMethods = new HttpMethods(JSON_SERVICE, NodePool.of(URL, mockBackEnd.getPort()), new OkHttpClient(), null, retryPolicy);
+
+        final Optional<String> response = httpMethods.rpcCallMethodAsync(MethodFactory.stateRootHash()).get(5, TimeUnit.SECONDS);
+        assertThat(response.isPresent(), is(true));
+        assertThat(retryPolicy.getRetryCount(), is(2L));
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+    }
+
+    @Test
+    void requestThatCannotBeBuiltReleasesTrialCall() throws InterruptedException {
+
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxRetries(0)
+                .circuitBreaker(1, 10, TimeUnit.MILLISECONDS)
+                .build();
+        final NodePool nodePool = NodePool.of("not a url", mockBackEnd.getPort());
+        final NodeClient nodeClient = createNodeClient(retryPolicy, nodePool);
+        final NodeEndpoint endpoint = nodePool.getEndpoints().get(0);
+
+        retryPolicy.onFailure(endpoint);
+        Thread.sleep(20);
+
+        final HttpException e = assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+        // The trial call was not sent so the node may still be tried
+        assertThat(retryPolicy.getCircuitBreaker(endpoint).getState(), is(CircuitBreaker.State.HALF_OPEN));
+        assertThat(retryPolicy.tryAcquire(endpoint), is(true));
+    }
+
+    @Test
+    void openCircuitFailsFast() {
+
+        dispatcher.failures.set(Integer.MAX_VALUE);
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxRetries(0)
+                .circuitBreaker(2, 1, TimeUnit.MINUTES)
+                .build();
+        final NodePool nodePool = NodePool.of(URL, mockBackEnd.getPort());
+        final NodeClient nodeClient = createNodeClient(retryPolicy, nodePool);
+
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        final NodeEndpoint endpoint = nodePool.getEndpoints().get(0);
+        assertThat(retryPolicy.getCircuitBreaker(endpoint).getState(), is(CircuitBreaker.State.OPEN));
+
+        // Not sent to the node
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThat(mockBackEnd.getRequestCount(), is(2));
+        assertThat(retryPolicy.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    void successfulTrialClosesCircuit() throws InterruptedException {
+
+        dispatcher.failures.set(1);
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxRetries(0)
+                .circuitBreaker(1, 50, TimeUnit.MILLISECONDS)
+                .build();
+        final NodePool nodePool = NodePool.of(URL, mockBackEnd.getPort());
+        final NodeClient nodeClient = createNodeClient(retryPolicy, nodePool);
+        final CircuitBreaker circuitBreaker = retryPolicy.getCircuitBreaker(nodePool.getEndpoints().get(0));
+
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThrows(HttpException.class, nodeClient::getStateRootHash);
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.OPEN));
+
+        Thread.sleep(60);
+        assertThat(nodeClient.getStateRootHash(), is(STATE_ROOT_HASH));
+        assertThat(circuitBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(mockBackEnd.getRequestCount(), is(2));
+    }
+
+    @Test
+    void deployThatReachedNodeIsNotRetried() {
+
+        dispatcher.failures.set(1);
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .backoff(1, 5, TimeUnit.MILLISECONDS)
+                .build();
+        final NodeClient nodeClient = createNodeClient(retryPolicy, NodePool.of(URL, mockBackEnd.getPort()));
+        final Deploy deploy = readDeploy();
+
+        // A server error may have been returned after the deploy was accepted
+        assertThrows(HttpException.class, () -> nodeClient.putDeploy(deploy));
+        assertThat(mockBackEnd.getRequestCount(), is(1));
+        assertThat(retryPolicy.getRetryCount(), is(0L));
+    }
+
+    @Test
+    void deployIsRetriedWhenConnectionRefused() throws IOException {
+
+        final MockWebServer stopped = new MockWebServer();
+        stopped.start();
+        final int port = stopped.getPort();
+        stopped.shutdown();
+
+        final RetryPolicy retryPolicy = new RetryPolicyBuilder()
+                .maxDeployRetries(2)
+                .backoff(1, 5, TimeUnit.MILLISECONDS)
+                .build();
+        final NodeClient nodeClient = createNodeClient(retryPolicy, NodePool.of(URL, port));
+        final Deploy deploy = readDeploy();
+
+        assertThrows(HttpException.class, () -> nodeClient.putDeploy(deploy));
+        assertThat(retryPolicy.getRetryCount(), is(2L));
+    }
+
+    private NodeClient createNodeClient(final RetryPolicy retryPolicy, final NodePool nodePool) {
+        return nodeClient(new HttpMethods(JSON_SERVICE, nodePool, new OkHttpClient(), null, retryPolicy));
+    }
+
+    /**
+     * Responds with server errors for the number of failures set then as a node would
+     */
+    private static class FailingDispatcher extends Dispatcher {
+
+        private final DummyMethodDispatcher delegate = new DummyMethodDispatcher();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            return failures.getAndDecrement() > 0 ? new MockResponse().setResponseCode(503) : delegate.dispatch(request);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.casper.sdk.service.http.rpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void errorIsSharedAndKeyIsReleased() throws Exception {
+
+        final CountDownLatch calling = new CountDownLatch(1);
+        final CountDownLatch fail = new CountDownLatch(1);
+        final CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> singleFlight.call("key", () -> {
+            calling.countDown();
+            await(fail);
+            throw new AssertionError("failed");
+        }));
+        assertThat(calling.await(5, TimeUnit.SECONDS), is(true));
+
+        final CompletableFuture<Object> collapsed = CompletableFuture.supplyAsync(() -> singleFlight.call("key", () -> "unused"));
+        while (singleFlight.getCollapsedCount() == 0) {
+            Thread.sleep(1);
+        }
+        fail.countDown();
+
+        assertThat(assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause(), is(instanceOf(AssertionError.class)));
+        assertThat(assertThrows(ExecutionException.class, () -> collapsed.get(5, TimeUnit.SECONDS)).getCause(), is(instanceOf(AssertionError.class)));
+
+        // A later call with the key is made rather than waiting on the failed call
+        assertThat(singleFlight.call("key", () -> "result"), is("result"));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.casper.sdk.service.http.rpc;
+
+import com.casper.sdk.service.serialization.util.CollectionUtils;
+import com.casper.sdk.types.URef;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static com.casper.sdk.service.http.rpc.NodeTestFixture.nodeClient;
+import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
+
+class StateSnapshotTest {
+
+    private static final String ACCOUNT_KEY = "01048c1858b7a6ff56a20d7574fd31025ead4af9cb8a854f919d24f886a4ebb741";
+    private static final String STATE_ROOT_HASH = "1be88786b127b212336d3c817816e5149334c86db156d34b59a78a0e0108b0db";
+    private static final BigInteger BALANCE = new BigInteger("1000000000000000000000000000000000");
+    private MockWebServer mockBackEnd;
+    private NodeClient nodeClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.start();
+        mockBackEnd.setDispatcher(new DummyMethodDispatcher());
+        nodeClient = nodeClient(mockBackEnd);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.close();
+    }
+
+    @Test
+    void stateRootHashIsObtainedOnce() throws InterruptedException {
+
+        final StateSnapshot snapshot = nodeClient.getStateSnapshot();
+        assertThat(snapshot.getStateRootHash(), is(STATE_ROOT_HASH));
+
+        assertThat(snapshot.getAccountBalance(ACCOUNT_KEY), is(BALANCE));
+        assertThat(snapshot.getAccountBalance(ACCOUNT_KEY), is(BALANCE));
+        assertThat(snapshot.getAccountInfo(ACCOUNT_KEY), hasJsonPath("$.stored_value.Account.main_purse"));
+
+        // One state root hash, two items and a balance for each balance, and an item for the info
+        assertThat(mockBackEnd.getRequestCount(), is(6));
+        assertThat(mockBackEnd.takeRequest().getBody().readUtf8(), containsString("chain_get_state_root_hash"));
+        for (int i = 1; i < 6; i++) {
+            assertThat(mockBackEnd.takeRequest().getBody().readUtf8(), containsString(STATE_ROOT_HASH));
+        }
+    }
+
+    @Test
+    void nodeClientBalanceUsesSingleStateRootHash() {
+
+        assertThat(nodeClient.getAccountBalance(ACCOUNT_KEY), is(BALANCE));
+        assertThat(mockBackEnd.getRequestCount(), is(3));
+    }
+
+    @Test
+    void pinnedStateRootHashIsNotObtained() {
+
+        final StateSnapshot snapshot = nodeClient.getStateSnapshot(STATE_ROOT_HASH);
+        final URef purse = snapshot.getAccountMainPurseURef(ACCOUNT_KEY);
+
+        assertThat(snapshot.getPurseBalance(purse), is(BALANCE));
+        assertThat(mockBackEnd.getRequestCount(), is(2));
+    }
+
+    @Test
+    void getItem() {
+
+        final String item = nodeClient.getStateSnapshot(STATE_ROOT_HASH).getItem(
+                "account-hash-ef5b5e0720614aeb59b0283513379b61af9e429b94e9904ea64a60ed599173ae",
+                CollectionUtils.List.of()
+        );
+        assertThat(item, hasJsonPath("$.stored_value.Account.account_hash",
+                is("account-hash-ef5b5e0720614aeb59b0283513379b61af9e429b94e9904ea64a60ed599173ae")));
+    }
+
+    @Test
+    void getAccountBalancesInBatch() {
+
+        final StateSnapshot snapshot = nodeClient.getStateSnapshot(STATE_ROOT_HASH);
+        assertThat(snapshot.getAccountBalances(CollectionUtils.List.of(ACCOUNT_KEY, ACCOUNT_KEY)).get(1).getValue(), is(BALANCE));
+        assertThat(mockBackEnd.getRequestCount(), is(2));
+    }
+}
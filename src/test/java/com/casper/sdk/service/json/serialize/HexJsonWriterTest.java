@@ -0,0 +1,46 @@
+package com.casper.sdk.service.json.serialize;
+
+import com.casper.sdk.service.json.JsonTestUtils;
+import com.casper.sdk.service.serialization.util.ByteUtils;
+import com.casper.sdk.types.CLByteArrayInfo;
+import com.casper.sdk.types.CLValue;
+import com.casper.sdk.types.ModuleBytes;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+
+import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+class HexJsonWriterTest {
+
+    private final Random random = new Random();
+
+    @Test
+    void largeModuleBytesAreWrittenInChunks() throws IOException {
+
+        // An odd number of chunks plus a part chunk so that reads split bytes
+        final byte[] moduleBytes = randomBytes(HexJsonWriter.CHUNK_SIZE * 3 + 17);
+        final String json = JsonTestUtils.writeToJsonString(new ModuleBytes(moduleBytes, Collections.emptyList()));
+
+        assertThat(json, hasJsonPath("$.ModuleBytes.module_bytes", is(ByteUtils.encodeHexString(moduleBytes))));
+    }
+
+    @Test
+    void largeCLValueBytesAreWrittenInChunks() throws IOException {
+
+        final byte[] bytes = randomBytes(HexJsonWriter.CHUNK_SIZE + 1);
+        final String json = JsonTestUtils.writeToJsonString(new CLValue(bytes, new CLByteArrayInfo(bytes.length)));
+
+        assertThat(json, hasJsonPath("$.bytes", is(ByteUtils.encodeHexString(bytes))));
+    }
+
+    private byte[] randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -19,4 +19,11 @@ class I64SerializerTest {
         assertThat(serializer.serialize("-4009477689550808"), is(expected));
     }
 
-}
\ No newline at end of file
+    @Test
+    void I64FastPath() {
+        for (final long value : new long[]{0, 1, -1, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(serializer.serialize(value), is(serializer.serialize(Long.toString(value))));
+        }
+        assertThat(serializer.serialize(Long.MIN_VALUE), is(new byte[]{0, 0, 0, 0, 0, 0, 0, (byte) 128}));
+    }
+}
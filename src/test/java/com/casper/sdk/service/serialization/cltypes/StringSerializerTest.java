@@ -46,4 +46,14 @@ class StringSerializerTest {
         assertThat(serializer.serialize(null), is(new byte []{0,0,0,0}));
     }
 
-}
\ No newline at end of file
+    @Test
+    void sizeOfString() {
+        assertThat(serializer.sizeOf("test_测试"), is(15));
+        assertThat(serializer.sizeOf(null), is(4));
+
+        // A surrogate pair encodes to 4 bytes and a lone surrogate to a single replacement byte
+        final String surrogates = "\uD83D\uDE00x\uD83D";
+        assertThat(serializer.sizeOf(surrogates), is(serializer.serialize(surrogates).length));
+        assertThat(serializer.sizeOf(surrogates), is(10));
+    }
+}
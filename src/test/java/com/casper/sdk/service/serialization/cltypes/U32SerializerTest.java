@@ -1,10 +1,12 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.exceptions.ConversionException;
 import org.junit.jupiter.api.Test;
 
 import static com.casper.sdk.service.serialization.util.ByteUtils.decodeHex;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class U32SerializerTest {
 
@@ -19,4 +21,16 @@ class U32SerializerTest {
         assertThat(serializer.serialize(0xf0e0_d0c0), is(decodeHex( "c0d0e0f0")));
         assertThat(serializer.serialize(100000), is(new byte[]{(byte) 160, (byte) 134, 1, 0}));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the primitive fast path writes the same bytes as the BigInteger conversion at the bounds of the type
+     */
+    @Test
+    public void testU32FastPath() {
+        for (final long value : new long[]{0, 1, 255, 256, Integer.MAX_VALUE, 0xffff_ffffL, -1}) {
+            assertThat(serializer.serialize(value), is(serializer.serialize(Long.toString(value))));
+        }
+        assertThat(serializer.serialize(0xffff_ffffL), is(decodeHex("ffffffff")));
+        assertThrows(ConversionException.class, () -> serializer.serialize(0x1_0000_0000L));
+    }
+}
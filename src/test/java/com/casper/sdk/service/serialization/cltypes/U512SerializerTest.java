@@ -1,9 +1,11 @@
 package com.casper.sdk.service.serialization.cltypes;
 
+import com.casper.sdk.service.serialization.util.ByteSink;
 import com.casper.sdk.service.serialization.util.ByteUtils;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -26,4 +28,58 @@ class U512SerializerTest {
         expected = ByteUtils.decodeHex("0400ca9a3b");
         assertThat(actual, is(expected));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the size of a number is the length of its serialized bytes, including numbers whose top byte is full.
+     */
+    @Test
+    void sizeOfU512() {
+        for (final String number : new String[]{"0", "1", "127", "128", "255", "256", "65535", "10000000000", "-1", "-129"}) {
+            assertThat(serializer.sizeOf(new BigInteger(number)), is(serializer.serialize(new BigInteger(number)).length));
+        }
+    }
+
+    /**
+     * Tests the long and two long paths write the same bytes as the BigInteger conversion
+     */
+    @Test
+    void fastPathMatchesBigIntegerPath() {
+        final Random random = new Random(512);
+        for (int i = 0; i < 1000; i++) {
+            final BigInteger bigInt = new BigInteger(random.nextInt(128), random);
+            assertThat(serializer.serialize(bigInt), is(serializeBigInteger(bigInt)));
+            assertThat(serializer.sizeOf(bigInt), is(serializer.serialize(bigInt).length));
+
+            final long value = random.nextLong() >>> random.nextInt(64);
+            assertThat(serializer.serialize(value), is(serializeBigInteger(BigInteger.valueOf(value))));
+            assertThat(serializer.sizeOf(value), is(serializer.serialize(value).length));
+        }
+        assertThat(serializer.serialize(0L), is(new byte[]{1, 0}));
+        assertThat(serializer.serialize(Long.MAX_VALUE), is(serializeBigInteger(BigInteger.valueOf(Long.MAX_VALUE))));
+        assertThat(serializer.serialize(-1L), is(serializeBigInteger(BigInteger.ONE.negate())));
+    }
+
+    /**
+     * Tests motes amounts written one after the other to a sink give the same bytes by both paths
+     */
+    @Test
+    void fastPathMatchesBigIntegerPathForMotesAmounts() {
+
+        // Amounts of up to a billion CSPR in motes
+        final Random random = new Random(512);
+        final ByteSink fastPath = new ByteSink();
+        final ByteSink bigIntegerPath = new ByteSink();
+        for (int i = 0; i < 1024; i++) {
+            final BigInteger amount = new BigInteger(1 + random.nextInt(60), random);
+            serializer.write(amount, fastPath);
+            serializer.writeBigInteger(amount, bigIntegerPath);
+        }
+        assertThat(fastPath.toByteArray(), is(bigIntegerPath.toByteArray()));
+    }
+
+    private byte[] serializeBigInteger(final BigInteger bigInt) {
+        final ByteSink sink = new ByteSink();
+        serializer.writeBigInteger(bigInt, sink);
+        return sink.toByteArray();
+    }
+}
@@ -0,0 +1,149 @@
+package com.casper.sdk.service.serialization.types;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.service.json.JsonConversionService;
+import com.casper.sdk.service.serialization.cltypes.CLValueBuilder;
+import com.casper.sdk.types.CLOptionTypeInfo;
+import com.casper.sdk.types.CLOptionValue;
+import com.casper.sdk.types.CLType;
+import com.casper.sdk.types.CLTypeInfo;
+import com.casper.sdk.types.CLValue;
+import com.casper.sdk.types.ContractHash;
+import com.casper.sdk.types.Deploy;
+import com.casper.sdk.types.DeployExecutable;
+import com.casper.sdk.types.DeployNamedArg;
+import com.casper.sdk.types.StoredContractByHash;
+import com.casper.sdk.types.StoredContractByName;
+import com.casper.sdk.types.Transfer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trip tests of the byte deserializers against the byte serializers
+ */
+class ByteDeserializerFactoryTest {
+
+    private final ByteSerializerFactory serializerFactory = new ByteSerializerFactory();
+    private final ByteDeserializerFactory deserializerFactory = new ByteDeserializerFactory();
+    private final JsonConversionService jsonService = new JsonConversionService();
+
+    /** The paths to the JSON deploys */
+    private static final String[] DEPLOY_JSON_PATHS = {
+            "/com/casper/sdk/service/json/deploy-transfer.json",
+            "/com/casper/sdk/types/deploy-util-test.json"
+    };
+
+    /**
+     * Tests a deploy read back from its bytes is equivalent to the deploy read from JSON
+     */
+    @Test
+    void deployRoundTrip() throws IOException {
+
+        for (final String jsonPath : DEPLOY_JSON_PATHS) {
+            final Deploy deploy;
+            try (final InputStream in = getClass().getResourceAsStream(jsonPath)) {
+                deploy = jsonService.fromJson(in, Deploy.class);
+            }
+
+            final byte[] bytes = serializerFactory.getByteSerializerByType(Deploy.class).toBytes(deploy);
+            final Deploy read = deserializerFactory.getByteDeserializerByType(Deploy.class).fromBytes(bytes);
+
+            assertThat(read.getSession(), is(instanceOf(Transfer.class)));
+            assertThat(serializerFactory.getByteSerializerByType(Deploy.class).toBytes(read), is(bytes));
+
+            // The parsed values are not in the bytes, they are compared where the fixture's bytes match their type
+            assertThat(withoutParsed(jsonService.toJson(read)), is(withoutParsed(jsonService.toJson(deploy))));
+            final DeployExecutable session = read.getSession();
+            assertThat(read.getPayment().getNamedArg("amount").getValue().getParsed(), is("1000000000"));
+            assertThat(session.getNamedArg("amount").getValue().getParsed(), is("24500000000"));
+            assertThat(session.getNamedArg("target").getValue().getParsed(), is(deploy.<DeployExecutable>getSession().getNamedArg("target").getValue().getParsed()));
+            assertThat(session.getNamedArg("additional_info").getValue().getParsed(), is("this is transfer"));
+        }
+    }
+
+    private static JsonNode withoutParsed(final String json) throws IOException {
+        final JsonNode node = new ObjectMapper().readTree(json);
+        node.findParents("parsed").forEach(parent -> ((ObjectNode) parent).remove("parsed"));
+        return node;
+    }
+
+    @Test
+    void storedContractsRoundTrip() {
+
+        final DeployExecutable byName = new StoredContractByName("faucet", "call", Arrays.asList(
+                new DeployNamedArg("target", CLValueBuilder.byteArray(new byte[32])),
+                new DeployNamedArg("memo", CLValueBuilder.string("test_测试")),
+                new DeployNamedArg("id", new CLOptionValue(new byte[]{0}, new CLOptionTypeInfo(new CLTypeInfo(CLType.U64)), null))
+        ));
+        final DeployExecutable byHash = new StoredContractByHash(new ContractHash(new byte[32]), "delegate", Collections.singletonList(
+                new DeployNamedArg("amount", CLValueBuilder.u512(new BigInteger("123456789012345678901234567890")))
+        ));
+
+        for (final DeployExecutable executable : Arrays.asList(byName, byHash)) {
+            final byte[] bytes = serializerFactory.getByteSerializer(executable).toBytes(executable);
+            final DeployExecutable read = deserializerFactory.getByteDeserializerByType(DeployExecutable.class).fromBytes(bytes);
+
+            assertThat(read, is(instanceOf(executable.getClass())));
+            assertThat(serializerFactory.getByteSerializer(read).toBytes(read), is(bytes));
+            for (int i = 0; i < executable.getArgs().size(); i++) {
+                final DeployNamedArg arg = executable.getArgs().get(i);
+                assertThat(read.getArgs().get(i).getName(), is(arg.getName()));
+                assertThat(read.getArgs().get(i).getValue().getCLTypeInfo(), is(arg.getValue().getCLTypeInfo()));
+            }
+        }
+
+        final StoredContractByName readByName = (StoredContractByName) deserializerFactory.getByteDeserializerByType(DeployExecutable.class)
+                .fromBytes(serializerFactory.getByteSerializer(byName).toBytes(byName));
+        assertThat(readByName.getName(), is("faucet"));
+        assertThat(readByName.getEntryPoint(), is("call"));
+        assertThat(readByName.getNamedArg("memo").getValue().getParsed(), is("test_测试"));
+        assertThat(readByName.getNamedArg("id").getValue(), is(instanceOf(CLOptionValue.class)));
+    }
+
+    @Test
+    void invalidBytes() {
+
+        final ByteDeserializer<DeployExecutable> deserializer = deserializerFactory.getByteDeserializerByType(DeployExecutable.class);
+        final byte[] bytes = serializerFactory.getByteSerializerByType(DeployExecutable.class)
+                .toBytes(new Transfer(Collections.singletonList(new DeployNamedArg("amount", CLValueBuilder.u512(10)))));
+
+        // Truncated
+        assertThrows(ConversionException.class, () -> deserializer.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        // Trailing bytes
+        assertThrows(ConversionException.class, () -> deserializer.fromBytes(Arrays.copyOf(bytes, bytes.length + 1)));
+        // Unknown executable tag
+        assertThrows(ConversionException.class, () -> deserializer.fromBytes(new byte[]{9, 0, 0, 0, 0}));
+        // An argument count larger than the bytes
+        assertThrows(ConversionException.class, () -> deserializer.fromBytes(new byte[]{5, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f}));
+    }
+
+    @Test
+    void deeplyNestedOptionIsRejected() {
+
+        final ByteDeserializer<CLValue> deserializer = deserializerFactory.getByteDeserializerByType(CLValue.class);
+
+        // No value bytes followed by the type info
+        final byte[] nested = new byte[4 + CLValueByteDeserializer.MAX_OPTION_DEPTH + 1];
+        Arrays.fill(nested, 4, nested.length - 1, (byte) CLType.OPTION.getClType());
+        nested[nested.length - 1] = (byte) CLType.UNIT.getClType();
+        final CLValue value = deserializer.fromBytes(nested);
+        assertThat(value, is(instanceOf(CLOptionValue.class)));
+
+        final byte[] tooDeep = new byte[4 + 100_000];
+        Arrays.fill(tooDeep, 4, tooDeep.length, (byte) CLType.OPTION.getClType());
+        assertThrows(ConversionException.class, () -> deserializer.fromBytes(tooDeep));
+    }
+}
@@ -33,4 +33,9 @@ class DeployByteSerializerTest {
         byte[] bytes = serializer.toBytes(deploy);
         assertThat(bytes, is(notNullValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeploySizeOf() {
+        assertThat(serializer.sizeOf(deploy), is(serializer.toBytes(deploy).length));
+    }
+}
@@ -0,0 +1,50 @@
+package com.casper.sdk.service.serialization.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Unit tests for the byte sink
+ */
+class ByteSinkTest {
+
+    @Test
+    void writeGrowsBuffer() {
+
+        final ByteSink sink = new ByteSink(2)
+                .write((byte) 1)
+                .write(new byte[]{2, 3, 4})
+                .write(null)
+                .write(new byte[]{9, 5, 6, 9}, 1, 2);
+
+        assertThat(sink.size(), is(6));
+        assertThat(sink.toByteArray(), is(new byte[]{1, 2, 3, 4, 5, 6}));
+    }
+
+    /**
+     * Tests the buffer is handed over without a copy when exactly its capacity is written, and that later writes do
+     * not change the array handed over.
+     */
+    @Test
+    void toByteArrayWhenFull() {
+
+        final ByteSink sink = new ByteSink(3).write(new byte[]{1, 2, 3});
+        final byte[] bytes = sink.toByteArray();
+
+        assertThat(sink.toByteArray(), is(sameInstance(bytes)));
+
+        sink.write((byte) 4);
+
+        assertThat(bytes, is(new byte[]{1, 2, 3}));
+        assertThat(sink.toByteArray(), is(new byte[]{1, 2, 3, 4}));
+    }
+
+    @Test
+    void writeLE() {
+        final ByteSink sink = new ByteSink(1).writeLE(0x0102030405060708L, 8).writeLE(-2, 4);
+        assertThat(sink.toByteArray(), is(new byte[]{8, 7, 6, 5, 4, 3, 2, 1, (byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff}));
+    }
+}
@@ -0,0 +1,67 @@
+package com.casper.sdk.service.serialization.util;
+
+import com.casper.sdk.exceptions.ConversionException;
+import com.casper.sdk.service.serialization.cltypes.TypesFactory;
+import com.casper.sdk.service.serialization.cltypes.TypesSerializer;
+import com.casper.sdk.types.CLType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the number utils
+ */
+class NumberUtilsTest {
+
+    private final TypesSerializer u512Serializer = new TypesFactory().getInstance(CLType.U512);
+
+    @Test
+    void readLengthPrefixedLong() {
+
+        final ByteBuffer buffer = ByteBuffer.wrap(ByteUtils.decodeHex("0400ca9a3b010008ffffffffffffff7f"));
+
+        assertThat(NumberUtils.readLengthPrefixedLong(buffer), is(1000000000L));
+        assertThat(NumberUtils.readLengthPrefixedLong(buffer), is(0L));
+        assertThat(NumberUtils.readLengthPrefixedLong(buffer), is(Long.MAX_VALUE));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    void readLengthPrefixedLongRejectsLargerNumbers() {
+
+        final ByteBuffer buffer = ByteBuffer.wrap(u512Serializer.serialize(new BigInteger("9223372036854775808")));
+
+        assertThrows(ConversionException.class, () -> NumberUtils.readLengthPrefixedLong(buffer));
+        assertThat(buffer.position(), is(0));
+        assertThat(NumberUtils.readLengthPrefixedBigInteger(buffer), is(new BigInteger("9223372036854775808")));
+    }
+
+    @Test
+    void readLengthPrefixedBigIntegerRoundTrip() {
+
+        final Random random = new Random(512);
+        for (int i = 0; i < 1000; i++) {
+            final BigInteger bigInt = new BigInteger(random.nextInt(511), random);
+            final ByteBuffer buffer = ByteBuffer.wrap(u512Serializer.serialize(bigInt));
+
+            assertThat(NumberUtils.readLengthPrefixedBigInteger(buffer), is(bigInt));
+            assertThat(buffer.hasRemaining(), is(false));
+        }
+    }
+
+    @Test
+    void readTruncatedNumber() {
+
+        final ByteBuffer buffer = ByteBuffer.wrap(ByteUtils.decodeHex("0400ca9a"));
+
+        assertThrows(ConversionException.class, () -> NumberUtils.readLengthPrefixedBigInteger(buffer));
+        assertThrows(ConversionException.class, () -> NumberUtils.readLengthPrefixedLong(ByteBuffer.allocate(0)));
+        assertThat(buffer.position(), is(0));
+    }
+}